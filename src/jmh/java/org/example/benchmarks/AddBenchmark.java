@@ -0,0 +1,53 @@
+package org.example.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарк построения списка из {@code size} элементов последовательными вызовами {@code add(T)}.
+ * Результат - время построения всего списка, включая все расширения внутреннего хранилища.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class AddBenchmark {
+    @Param
+    public Implementation impl;
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    @Param
+    public ElementType type;
+
+    private Comparable<Object>[] data;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        data = BenchmarkData.elements(size, type, InputShape.RANDOM);
+    }
+
+    @Benchmark
+    public BenchmarkList<Comparable<Object>> add() {
+        BenchmarkList<Comparable<Object>> list = impl.create();
+        for (Comparable<Object> element : data) {
+            list.add(element);
+        }
+        return list;
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.benchmarks;
+
+import java.util.Random;
+
+/**
+ * Генератор воспроизводимых входных данных для бенчмарков.
+ */
+final class BenchmarkData {
+    /**
+     * Фиксированное зерно, чтобы все реализации получали одинаковые данные.
+     */
+    static final long SEED = 42L;
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Создает массив элементов заданного типа и формы.
+     *
+     * @param size  количество элементов
+     * @param type  тип элементов
+     * @param shape форма входных данных
+     * @return массив элементов
+     */
+    @SuppressWarnings("unchecked")
+    static <T extends Comparable<? super T>> T[] elements(int size, ElementType type, InputShape shape) {
+        int[] keys = shape.keys(size, new Random(SEED));
+        T[] result = (T[]) new Comparable[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = (T) type.create(keys[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Создает массив случайных индексов в диапазоне [0, bound).
+     *
+     * @param count количество индексов
+     * @param bound верхняя граница (не включительно)
+     * @return массив индексов
+     */
+    static int[] indexes(int count, int bound) {
+        Random random = new Random(SEED + 1);
+        int[] result = new int[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = random.nextInt(bound);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.benchmarks;
+
+import java.util.Comparator;
+
+/**
+ * Общий интерфейс над сравниваемыми реализациями списков.
+ * Каждый форк JMH работает ровно с одной реализацией, поэтому вызовы через интерфейс остаются мономорфными.
+ *
+ * @param <T> тип элементов списка
+ */
+interface BenchmarkList<T extends Comparable<? super T>> {
+    /**
+     * Заполняет пустой список элементами массива в исходном порядке: одной пакетной вставкой, если реализация
+     * ее поддерживает ({@code MyArrayList.addAll(T[])}, {@code List.addAll}), иначе добавлением по одному элементу.
+     *
+     * @param data элементы для добавления
+     */
+    void fill(T[] data);
+
+    void add(T element);
+
+    void add(int index, T element);
+
+    T get(int index);
+
+    void remove(int index);
+
+    int size();
+
+    Object[] toArray();
+
+    void sort();
+
+    void sort(Comparator<? super T> comparator);
+}
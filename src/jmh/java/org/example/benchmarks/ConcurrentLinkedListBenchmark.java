@@ -0,0 +1,66 @@
+package org.example.benchmarks;
+
+import org.example.ConcurrentMyLinkedList;
+import org.example.MyLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарк конкуренции за связный список: каждый поток добавляет элемент в конец и извлекает первый,
+ * так что размер списка остается постоянным. {@link ConcurrentMyLinkedList} сравнивается
+ * с {@link MyLinkedList} под общей блокировкой. По умолчанию используется 4 потока;
+ * число потоков меняется ключом {@code -t}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class ConcurrentLinkedListBenchmark {
+    @Param({"16", "10000"})
+    public int size;
+
+    private ConcurrentMyLinkedList<Integer> lockFreeList;
+    private MyLinkedList<Integer> synchronizedList;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        lockFreeList = new ConcurrentMyLinkedList<>();
+        synchronizedList = new MyLinkedList<>();
+        for (int i = 0; i < size; i++) {
+            lockFreeList.addLast(i);
+            synchronizedList.add(i);
+        }
+    }
+
+    @Benchmark
+    public Integer lockFreeAddPoll() {
+        lockFreeList.addLast(1);
+        return lockFreeList.pollFirst();
+    }
+
+    @Benchmark
+    public Integer synchronizedAddPoll() {
+        synchronized (synchronizedList) {
+            synchronizedList.add(1);
+            Integer first = synchronizedList.get(0);
+            synchronizedList.remove(0);
+            return first;
+        }
+    }
+}
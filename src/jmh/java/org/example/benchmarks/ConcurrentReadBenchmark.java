@@ -0,0 +1,116 @@
+package org.example.benchmarks;
+
+import org.example.ConcurrentMyArrayList;
+import org.example.MyArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарки масштабирования чтения: {@link ConcurrentMyArrayList} с оптимистичными чтениями
+ * против {@link MyArrayList}, обернутого в {@code synchronized}.
+ * <p>
+ * Методы {@code optimisticGet} и {@code synchronizedGet} измеряют пропускную способность одних только читателей;
+ * число потоков задается ключом {@code -t}, например {@code -t 1}, {@code -t 2}, {@code -t 4} и так далее
+ * до числа ядер. Группы {@code optimisticReadMostly} и {@code synchronizedReadMostly} добавляют к трем читателям
+ * одного писателя, который добавляет и удаляет последний элемент.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class ConcurrentReadBenchmark {
+    private static final int INDEX_COUNT = 1 << 12;
+
+    @Param({"1000", "1000000"})
+    public int size;
+
+    private ConcurrentMyArrayList<Integer> concurrentList;
+    private MyArrayList<Integer> synchronizedList;
+    private int[] indexes;
+
+    /**
+     * Позиция читателя в последовательности случайных индексов; у каждого потока своя.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int position;
+
+        int next() {
+            position = (position + 1) & (INDEX_COUNT - 1);
+            return position;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        concurrentList = new ConcurrentMyArrayList<>(size + 1);
+        synchronizedList = new MyArrayList<>(size + 1);
+        for (int i = 0; i < size; i++) {
+            concurrentList.add(i);
+            synchronizedList.add(i);
+        }
+        indexes = BenchmarkData.indexes(INDEX_COUNT, size);
+    }
+
+    @Benchmark
+    public Integer optimisticGet(Cursor cursor) {
+        return concurrentList.get(indexes[cursor.next()]);
+    }
+
+    @Benchmark
+    public Integer synchronizedGet(Cursor cursor) {
+        synchronized (synchronizedList) {
+            return synchronizedList.get(indexes[cursor.next()]);
+        }
+    }
+
+    @Benchmark
+    @Group("optimisticReadMostly")
+    @GroupThreads(3)
+    public Integer optimisticReader(Cursor cursor) {
+        return concurrentList.get(indexes[cursor.next()]);
+    }
+
+    @Benchmark
+    @Group("optimisticReadMostly")
+    @GroupThreads(1)
+    public void optimisticWriter() {
+        concurrentList.add(-1);
+        concurrentList.remove(size);
+    }
+
+    @Benchmark
+    @Group("synchronizedReadMostly")
+    @GroupThreads(3)
+    public Integer synchronizedReader(Cursor cursor) {
+        synchronized (synchronizedList) {
+            return synchronizedList.get(indexes[cursor.next()]);
+        }
+    }
+
+    @Benchmark
+    @Group("synchronizedReadMostly")
+    @GroupThreads(1)
+    public void synchronizedWriter() {
+        synchronized (synchronizedList) {
+            synchronizedList.add(-1);
+            synchronizedList.remove(size);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package org.example.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарк правок рядом с перемещающимся курсором, как в текстовом редакторе: курсор делает небольшие
+ * случайные шаги, в его позицию вставляется элемент, а затем удаляется элемент рядом, так что размер
+ * списка не меняется. Сравнивается буфер с зазором {@code MY_GAP_ARRAY_LIST} со сдвигающим
+ * все элементы {@code MY_ARRAY_LIST}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class CursorEditBenchmark {
+    private static final int STEP_COUNT = 1 << 12;
+
+    /**
+     * Наибольший шаг курсора между правками.
+     */
+    private static final int MAX_STEP = 8;
+
+    @Param({"MY_ARRAY_LIST", "MY_GAP_ARRAY_LIST"})
+    public Implementation impl;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    private BenchmarkList<Comparable<Object>> list;
+    private int[] steps;
+    private int cursor;
+    private int step;
+    private Comparable<Object> element;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Comparable<Object>[] data = BenchmarkData.elements(size, ElementType.INTEGER, InputShape.RANDOM);
+        list = impl.create();
+        list.fill(data);
+        element = data[0];
+        Random random = new Random(BenchmarkData.SEED);
+        steps = new int[STEP_COUNT];
+        for (int i = 0; i < STEP_COUNT; i++) {
+            steps[i] = random.nextInt(2 * MAX_STEP + 1) - MAX_STEP;
+        }
+        cursor = size / 2;
+    }
+
+    @Benchmark
+    public void insertAndRemoveAtCursor() {
+        step = (step + 1) & (STEP_COUNT - 1);
+        cursor = Math.floorMod(cursor + steps[step], size);
+        list.add(cursor, element);
+        list.remove(cursor + 1);
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.benchmarks;
+
+/**
+ * Тип элементов, которыми заполняются списки в бенчмарках.
+ * Целые числа дают дешевое сравнение, строки - сравнение с обходом символов.
+ */
+public enum ElementType {
+    INTEGER {
+        @Override
+        Comparable<?> create(int key) {
+            return key;
+        }
+    },
+    STRING {
+        @Override
+        Comparable<?> create(int key) {
+            return "key-" + key;
+        }
+    };
+
+    /**
+     * Создает элемент, соответствующий целочисленному ключу.
+     *
+     * @param key ключ, определяющий порядок элемента
+     * @return элемент данного типа
+     */
+    abstract Comparable<?> create(int key);
+}
@@ -0,0 +1,375 @@
+package org.example.benchmarks;
+
+import org.example.MyArrayList;
+import org.example.MyGapArrayList;
+import org.example.MyLinkedList;
+import org.example.MySkipList;
+import org.example.MyUnrolledLinkedList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Реализации списков, сравниваемые в бенчмарках.
+ */
+public enum Implementation {
+    MY_ARRAY_LIST {
+        @Override
+        <T extends Comparable<? super T>> BenchmarkList<T> create() {
+            return new MyArrayListAdapter<>();
+        }
+    },
+    MY_GAP_ARRAY_LIST {
+        @Override
+        <T extends Comparable<? super T>> BenchmarkList<T> create() {
+            return new MyGapArrayListAdapter<>();
+        }
+    },
+    MY_LINKED_LIST {
+        @Override
+        <T extends Comparable<? super T>> BenchmarkList<T> create() {
+            return new MyLinkedListAdapter<>();
+        }
+    },
+    MY_UNROLLED_LINKED_LIST {
+        @Override
+        <T extends Comparable<? super T>> BenchmarkList<T> create() {
+            return new MyUnrolledLinkedListAdapter<>();
+        }
+    },
+    MY_SKIP_LIST {
+        @Override
+        <T extends Comparable<? super T>> BenchmarkList<T> create() {
+            return new MySkipListAdapter<>();
+        }
+    },
+    ARRAY_LIST {
+        @Override
+        <T extends Comparable<? super T>> BenchmarkList<T> create() {
+            return new JdkListAdapter<T>(new ArrayList<>());
+        }
+    },
+    LINKED_LIST {
+        @Override
+        <T extends Comparable<? super T>> BenchmarkList<T> create() {
+            return new JdkListAdapter<T>(new LinkedList<>());
+        }
+    };
+
+    /**
+     * Создает пустой список данной реализации.
+     *
+     * @param <T> тип элементов списка
+     * @return адаптер над новым списком
+     */
+    abstract <T extends Comparable<? super T>> BenchmarkList<T> create();
+
+    private static final class MyArrayListAdapter<T extends Comparable<? super T>> implements BenchmarkList<T> {
+        private final MyArrayList<T> list = new MyArrayList<>();
+
+        @Override
+        public void fill(T[] data) {
+            list.addAll(data);
+        }
+
+        @Override
+        public void add(T element) {
+            list.add(element);
+        }
+
+        @Override
+        public void add(int index, T element) {
+            list.add(index, element);
+        }
+
+        @Override
+        public T get(int index) {
+            return list.get(index);
+        }
+
+        @Override
+        public void remove(int index) {
+            list.remove(index);
+        }
+
+        @Override
+        public int size() {
+            return list.getSize();
+        }
+
+        @Override
+        public Object[] toArray() {
+            return list.toArray();
+        }
+
+        @Override
+        public void sort() {
+            list.sort();
+        }
+
+        @Override
+        public void sort(Comparator<? super T> comparator) {
+            list.sort(comparator);
+        }
+    }
+
+    private static final class MyGapArrayListAdapter<T extends Comparable<? super T>> implements BenchmarkList<T> {
+        private final MyGapArrayList<T> list = new MyGapArrayList<>();
+
+        @Override
+        public void fill(T[] data) {
+            for (T element : data) {
+                list.add(element);
+            }
+        }
+
+        @Override
+        public void add(T element) {
+            list.add(element);
+        }
+
+        @Override
+        public void add(int index, T element) {
+            list.add(index, element);
+        }
+
+        @Override
+        public T get(int index) {
+            return list.get(index);
+        }
+
+        @Override
+        public void remove(int index) {
+            list.remove(index);
+        }
+
+        @Override
+        public int size() {
+            return list.getSize();
+        }
+
+        @Override
+        public Object[] toArray() {
+            return list.toArray();
+        }
+
+        @Override
+        public void sort() {
+            list.sort();
+        }
+
+        @Override
+        public void sort(Comparator<? super T> comparator) {
+            list.sort(comparator);
+        }
+    }
+
+    private static final class MyLinkedListAdapter<T extends Comparable<? super T>> implements BenchmarkList<T> {
+        private final MyLinkedList<T> list = new MyLinkedList<>();
+
+        @Override
+        public void fill(T[] data) {
+            for (T element : data) {
+                list.add(element);
+            }
+        }
+
+        @Override
+        public void add(T element) {
+            list.add(element);
+        }
+
+        @Override
+        public void add(int index, T element) {
+            list.add(index, element);
+        }
+
+        @Override
+        public T get(int index) {
+            return list.get(index);
+        }
+
+        @Override
+        public void remove(int index) {
+            list.remove(index);
+        }
+
+        @Override
+        public int size() {
+            return list.getSize();
+        }
+
+        @Override
+        public Object[] toArray() {
+            return list.toArray();
+        }
+
+        @Override
+        public void sort() {
+            list.sort();
+        }
+
+        @Override
+        public void sort(Comparator<? super T> comparator) {
+            list.sort(comparator);
+        }
+    }
+
+    private static final class MyUnrolledLinkedListAdapter<T extends Comparable<? super T>> implements BenchmarkList<T> {
+        private final MyUnrolledLinkedList<T> list = new MyUnrolledLinkedList<>();
+
+        @Override
+        public void fill(T[] data) {
+            for (T element : data) {
+                list.add(element);
+            }
+        }
+
+        @Override
+        public void add(T element) {
+            list.add(element);
+        }
+
+        @Override
+        public void add(int index, T element) {
+            list.add(index, element);
+        }
+
+        @Override
+        public T get(int index) {
+            return list.get(index);
+        }
+
+        @Override
+        public void remove(int index) {
+            list.remove(index);
+        }
+
+        @Override
+        public int size() {
+            return list.getSize();
+        }
+
+        @Override
+        public Object[] toArray() {
+            return list.toArray();
+        }
+
+        @Override
+        public void sort() {
+            list.sort();
+        }
+
+        @Override
+        public void sort(Comparator<? super T> comparator) {
+            list.sort(comparator);
+        }
+    }
+
+    private static final class MySkipListAdapter<T extends Comparable<? super T>> implements BenchmarkList<T> {
+        private final MySkipList<T> list = new MySkipList<>();
+
+        @Override
+        public void fill(T[] data) {
+            for (T element : data) {
+                list.add(element);
+            }
+        }
+
+        @Override
+        public void add(T element) {
+            list.add(element);
+        }
+
+        @Override
+        public void add(int index, T element) {
+            list.add(index, element);
+        }
+
+        @Override
+        public T get(int index) {
+            return list.get(index);
+        }
+
+        @Override
+        public void remove(int index) {
+            list.remove(index);
+        }
+
+        @Override
+        public int size() {
+            return list.getSize();
+        }
+
+        @Override
+        public Object[] toArray() {
+            return list.toArray();
+        }
+
+        @Override
+        public void sort() {
+            list.sort();
+        }
+
+        @Override
+        public void sort(Comparator<? super T> comparator) {
+            list.sort(comparator);
+        }
+    }
+
+    private static final class JdkListAdapter<T extends Comparable<? super T>> implements BenchmarkList<T> {
+        private final List<T> list;
+
+        JdkListAdapter(List<T> list) {
+            this.list = list;
+        }
+
+        @Override
+        public void fill(T[] data) {
+            list.addAll(Arrays.asList(data));
+        }
+
+        @Override
+        public void add(T element) {
+            list.add(element);
+        }
+
+        @Override
+        public void add(int index, T element) {
+            list.add(index, element);
+        }
+
+        @Override
+        public T get(int index) {
+            return list.get(index);
+        }
+
+        @Override
+        public void remove(int index) {
+            list.remove(index);
+        }
+
+        @Override
+        public int size() {
+            return list.size();
+        }
+
+        @Override
+        public Object[] toArray() {
+            return list.toArray();
+        }
+
+        @Override
+        public void sort() {
+            list.sort(null);
+        }
+
+        @Override
+        public void sort(Comparator<? super T> comparator) {
+            list.sort(comparator);
+        }
+    }
+}
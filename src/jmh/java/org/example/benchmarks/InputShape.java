@@ -0,0 +1,63 @@
+package org.example.benchmarks;
+
+import java.util.Random;
+
+/**
+ * Форма входных данных для бенчмарков сортировки.
+ */
+public enum InputShape {
+    RANDOM {
+        @Override
+        int[] keys(int size, Random random) {
+            int[] keys = new int[size];
+            for (int i = 0; i < size; i++) {
+                keys[i] = random.nextInt();
+            }
+            return keys;
+        }
+    },
+    SORTED {
+        @Override
+        int[] keys(int size, Random random) {
+            int[] keys = new int[size];
+            for (int i = 0; i < size; i++) {
+                keys[i] = i;
+            }
+            return keys;
+        }
+    },
+    REVERSED {
+        @Override
+        int[] keys(int size, Random random) {
+            int[] keys = new int[size];
+            for (int i = 0; i < size; i++) {
+                keys[i] = size - i;
+            }
+            return keys;
+        }
+    },
+    DUPLICATES {
+        @Override
+        int[] keys(int size, Random random) {
+            int[] keys = new int[size];
+            for (int i = 0; i < size; i++) {
+                keys[i] = random.nextInt(DISTINCT_KEYS);
+            }
+            return keys;
+        }
+    };
+
+    /**
+     * Количество различных ключей для формы {@link #DUPLICATES}.
+     */
+    private static final int DISTINCT_KEYS = 16;
+
+    /**
+     * Генерирует последовательность ключей заданной формы.
+     *
+     * @param size   количество ключей
+     * @param random источник случайных чисел
+     * @return массив ключей
+     */
+    abstract int[] keys(int size, Random random);
+}
@@ -0,0 +1,68 @@
+package org.example.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарки вставки {@code add(int, T)} и удаления {@code remove(int)} по случайной позиции.
+ * Каждая итерация получает свежий список и выполняет пакет из {@value #BATCH} операций,
+ * поэтому размер списка за итерацию меняется не больше чем на {@value #BATCH} элементов.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, batchSize = MutationBenchmark.BATCH)
+@Measurement(iterations = 10, batchSize = MutationBenchmark.BATCH)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class MutationBenchmark {
+    static final int BATCH = 1000;
+
+    @Param
+    public Implementation impl;
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    @Param
+    public ElementType type;
+
+    private Comparable<Object>[] data;
+    private int[] indexes;
+    private BenchmarkList<Comparable<Object>> list;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUpData() {
+        data = BenchmarkData.elements(size + BATCH, type, InputShape.RANDOM);
+        indexes = BenchmarkData.indexes(BATCH, size);
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpList() {
+        list = impl.create();
+        list.fill(data);
+        cursor = 0;
+    }
+
+    @Benchmark
+    public void addAtIndex() {
+        list.add(indexes[cursor++ % BATCH], data[0]);
+    }
+
+    @Benchmark
+    public void remove() {
+        list.remove(indexes[cursor++ % BATCH]);
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.benchmarks;
+
+import org.example.MyArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение {@code MyArrayList.parallelSort()} с последовательной сортировкой и {@link Arrays#parallelSort}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class ParallelSortBenchmark {
+    @Param({"100000", "1000000", "10000000"})
+    public int size;
+
+    @Param
+    public ElementType type;
+
+    @Param({"RANDOM", "DUPLICATES"})
+    public InputShape shape;
+
+    private Comparable<Object>[] data;
+    private MyArrayList<Comparable<Object>> list;
+    private Comparable<Object>[] array;
+
+    @Setup(Level.Trial)
+    public void setUpData() {
+        data = BenchmarkData.elements(size, type, shape);
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpList() {
+        list = new MyArrayList<>();
+        for (Comparable<Object> element : data) {
+            list.add(element);
+        }
+        array = data.clone();
+    }
+
+    @Benchmark
+    public MyArrayList<Comparable<Object>> sort() {
+        list.sort();
+        return list;
+    }
+
+    @Benchmark
+    public MyArrayList<Comparable<Object>> parallelSort() {
+        list.parallelSort();
+        return list;
+    }
+
+    @Benchmark
+    public Comparable<Object>[] jdkParallelSort() {
+        Arrays.parallelSort(array);
+        return array;
+    }
+}
@@ -0,0 +1,147 @@
+package org.example.benchmarks;
+
+import org.example.MyDoubleArrayList;
+import org.example.MyIntArrayList;
+import org.example.MyLongArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарки агрегатов и поиска по примитивным спискам: векторные ядра против скалярных циклов.
+ * Параметр kernels выставляет свойство {@code org.example.vector} до первого обращения к ядрам,
+ * а каждое сочетание параметров выполняется в отдельном форке, поэтому выбор ядер не смешивается.
+ * Значения равномерно распределены в [0, 10<sup>6</sup>), диапазон count и filterInto отбирает половину из них,
+ * а indexOf ищет отсутствующее значение и просматривает весь список.
+ * Векторные ядра есть только в сборке с профилем {@code vector}: {@code mvn -Pbenchmarks,vector package}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "--add-modules=jdk.incubator.vector"})
+public class PrimitiveScanBenchmark {
+    private static final int BOUND = 1000000;
+    private static final int FROM = BOUND / 4;
+    private static final int TO = BOUND / 4 * 3;
+
+    /**
+     * Ядра, которыми выполняются операции списков.
+     */
+    public enum Kernels {
+        VECTOR,
+        SCALAR
+    }
+
+    /**
+     * Тип значений списка.
+     */
+    public enum Primitive {
+        INT,
+        LONG,
+        DOUBLE
+    }
+
+    @Param
+    public Kernels kernels;
+
+    @Param
+    public Primitive primitive;
+
+    @Param({"1000", "100000", "10000000"})
+    public int size;
+
+    private MyIntArrayList ints;
+    private MyLongArrayList longs;
+    private MyDoubleArrayList doubles;
+    private MyIntArrayList intTarget;
+    private MyLongArrayList longTarget;
+    private MyDoubleArrayList doubleTarget;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        System.setProperty("org.example.vector", String.valueOf(kernels == Kernels.VECTOR));
+        ints = new MyIntArrayList();
+        longs = new MyLongArrayList();
+        doubles = new MyDoubleArrayList();
+        intTarget = new MyIntArrayList();
+        longTarget = new MyLongArrayList();
+        doubleTarget = new MyDoubleArrayList();
+        Random random = new Random(25);
+        for (int i = 0; i < size; i++) {
+            int value = random.nextInt(BOUND);
+            switch (primitive) {
+                case INT -> ints.add(value);
+                case LONG -> longs.add(value);
+                case DOUBLE -> doubles.add(value);
+            }
+        }
+    }
+
+    @Benchmark
+    public double sum() {
+        return switch (primitive) {
+            case INT -> ints.sum();
+            case LONG -> longs.sum();
+            case DOUBLE -> doubles.sum();
+        };
+    }
+
+    @Benchmark
+    public double min() {
+        return switch (primitive) {
+            case INT -> ints.min();
+            case LONG -> longs.min();
+            case DOUBLE -> doubles.min();
+        };
+    }
+
+    @Benchmark
+    public int indexOf() {
+        return switch (primitive) {
+            case INT -> ints.indexOf(-1);
+            case LONG -> longs.indexOf(-1);
+            case DOUBLE -> doubles.indexOf(-1);
+        };
+    }
+
+    @Benchmark
+    public int count() {
+        return switch (primitive) {
+            case INT -> ints.count(FROM, TO);
+            case LONG -> longs.count(FROM, TO);
+            case DOUBLE -> doubles.count(FROM, TO);
+        };
+    }
+
+    @Benchmark
+    public int filterInto() {
+        return switch (primitive) {
+            case INT -> {
+                intTarget.clear();
+                yield ints.filterInto(FROM, TO, intTarget);
+            }
+            case LONG -> {
+                longTarget.clear();
+                yield longs.filterInto(FROM, TO, longTarget);
+            }
+            case DOUBLE -> {
+                doubleTarget.clear();
+                yield doubles.filterInto(FROM, TO, doubleTarget);
+            }
+        };
+    }
+}
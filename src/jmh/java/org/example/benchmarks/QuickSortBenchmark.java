@@ -0,0 +1,68 @@
+package org.example.benchmarks;
+
+import org.example.MyArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарки {@code quickSort()} и {@code quickSort(Comparator)}.
+ * Быстрая сортировка есть только у {@link MyArrayList}, поэтому параметра реализации здесь нет;
+ * для сравнения с сортировкой слиянием и JDK используйте {@link SortBenchmark} с теми же параметрами.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class QuickSortBenchmark {
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    @Param
+    public ElementType type;
+
+    @Param
+    public InputShape shape;
+
+    private Comparable<Object>[] data;
+    private MyArrayList<Comparable<Object>> list;
+
+    @Setup(Level.Trial)
+    public void setUpData() {
+        data = BenchmarkData.elements(size, type, shape);
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpList() {
+        list = new MyArrayList<>();
+        for (Comparable<Object> element : data) {
+            list.add(element);
+        }
+    }
+
+    @Benchmark
+    public MyArrayList<Comparable<Object>> quickSort() {
+        list.quickSort();
+        return list;
+    }
+
+    @Benchmark
+    public MyArrayList<Comparable<Object>> quickSortWithComparator() {
+        list.quickSort(Comparator.reverseOrder());
+        return list;
+    }
+}
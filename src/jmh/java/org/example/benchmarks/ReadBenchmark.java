@@ -0,0 +1,69 @@
+package org.example.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарки операций чтения: {@code get} по случайному и по очередному индексу и {@code toArray}.
+ * Список заполняется один раз на форк и далее не изменяется.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class ReadBenchmark {
+    private static final int INDEX_COUNT = 1 << 12;
+
+    @Param
+    public Implementation impl;
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    @Param
+    public ElementType type;
+
+    private BenchmarkList<Comparable<Object>> list;
+    private int[] indexes;
+    private int cursor;
+    private int position;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        list = impl.create();
+        list.fill(BenchmarkData.elements(size, type, InputShape.RANDOM));
+        indexes = BenchmarkData.indexes(INDEX_COUNT, size);
+    }
+
+    @Benchmark
+    public Object get() {
+        cursor = (cursor + 1) & (INDEX_COUNT - 1);
+        return list.get(indexes[cursor]);
+    }
+
+    @Benchmark
+    public Object getSequential() {
+        position = position + 1 == size ? 0 : position + 1;
+        return list.get(position);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Object[] toArray() {
+        return list.toArray();
+    }
+}
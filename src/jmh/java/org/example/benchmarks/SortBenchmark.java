@@ -0,0 +1,67 @@
+package org.example.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарки сортировки {@code sort()} и {@code sort(Comparator)} на данных разной формы.
+ * Перед каждым вызовом список заполняется заново, время заполнения в результат не входит.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class SortBenchmark {
+    @Param
+    public Implementation impl;
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    @Param
+    public ElementType type;
+
+    @Param
+    public InputShape shape;
+
+    private Comparable<Object>[] data;
+    private BenchmarkList<Comparable<Object>> list;
+
+    @Setup(Level.Trial)
+    public void setUpData() {
+        data = BenchmarkData.elements(size, type, shape);
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpList() {
+        list = impl.create();
+        list.fill(data);
+    }
+
+    @Benchmark
+    public BenchmarkList<Comparable<Object>> sort() {
+        list.sort();
+        return list;
+    }
+
+    @Benchmark
+    public BenchmarkList<Comparable<Object>> sortWithComparator() {
+        list.sort(Comparator.reverseOrder());
+        return list;
+    }
+}
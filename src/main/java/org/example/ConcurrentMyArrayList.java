@@ -0,0 +1,216 @@
+package org.example;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Класс ConcurrentMyArrayList представляет собой потокобезопасный вариант {@link MyArrayList}
+ * для нагрузки, в которой чтений гораздо больше, чем изменений.
+ * <p>
+ * Чтения ({@link #get(int)}, {@link #getSize()}) выполняются оптимистично: поля читаются без блокировки,
+ * после чего штамп {@link StampedLock} проверяется, и только если за это время прошла запись, чтение повторяется
+ * под блокировкой чтения. Поэтому читатели не пишут в общую память и не выстраиваются друг за другом,
+ * а пропускная способность чтения растет с числом ядер. Все изменения выполняются под блокировкой записи.
+ *
+ * @param <T> Тип элементов, которые будут храниться в списке. Должен быть сравнимым.
+ */
+public class ConcurrentMyArrayList<T extends Comparable<? super T>> {
+    private final StampedLock lock = new StampedLock();
+    private Object[] elements;
+    private int size;
+
+    /**
+     * Конструктор для создания пустого списка ConcurrentMyArrayList с начальной емкостью в 10 элементов.
+     */
+    public ConcurrentMyArrayList() {
+        this(10);
+    }
+
+    /**
+     * Конструктор для создания пустого списка ConcurrentMyArrayList с заданной начальной емкостью.
+     *
+     * @param initialCapacity Начальная емкость списка.
+     * @throws IllegalArgumentException если начальная емкость отрицательна.
+     */
+    public ConcurrentMyArrayList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        elements = new Object[initialCapacity];
+        size = 0;
+    }
+
+    /**
+     * Добавляет элемент в конец списка.
+     *
+     * @param element Элемент для добавления.
+     */
+    public void add(T element) {
+        long stamp = lock.writeLock();
+        try {
+            if (size == elements.length) {
+                grow();
+            }
+            elements[size++] = element;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Добавляет элемент в указанную позицию в списке.
+     *
+     * @param index   Индекс, куда должен быть добавлен элемент.
+     * @param element Элемент для добавления.
+     * @throws IndexOutOfBoundsException если индекс находится вне диапазона (index &lt; 0 || index > size).
+     */
+    public void add(int index, T element) {
+        long stamp = lock.writeLock();
+        try {
+            if (index < 0 || index > size) {
+                throw new IndexOutOfBoundsException();
+            }
+            if (size == elements.length) {
+                grow();
+            }
+            System.arraycopy(elements, index, elements, index + 1, size - index);
+            elements[index] = element;
+            size++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Возвращает элемент по указанному индексу. Чтение выполняется оптимистично без захвата блокировки
+     * и повторяется под блокировкой чтения, только если одновременно с ним список был изменен.
+     *
+     * @param index Индекс запрашиваемого элемента.
+     * @return Элемент на указанной позиции в списке.
+     * @throws IndexOutOfBoundsException если индекс находится вне диапазона (index &lt; 0 || index >= size).
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        long stamp = lock.tryOptimisticRead();
+        Object[] a = elements;
+        int n = size;
+        // Массив и размер могли быть прочитаны из разных версий списка, поэтому индекс проверяется и по длине массива.
+        Object element = index >= 0 && index < n && index < a.length ? a[index] : null;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                n = size;
+                element = index >= 0 && index < n ? elements[index] : null;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        if (index < 0 || index >= n) {
+            throw new IndexOutOfBoundsException();
+        }
+        return (T) element;
+    }
+
+    /**
+     * Возвращает количество элементов в списке.
+     *
+     * @return Количество элементов в списке.
+     */
+    public int getSize() {
+        long stamp = lock.tryOptimisticRead();
+        int n = size;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                n = size;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return n;
+    }
+
+    /**
+     * Удаляет элемент по указанному индексу из списка.
+     *
+     * @param index Индекс удаляемого элемента.
+     * @throws IndexOutOfBoundsException если индекс находится вне диапазона (index &lt; 0 || index >= size).
+     */
+    public void remove(int index) {
+        long stamp = lock.writeLock();
+        try {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException();
+            }
+            int numMoved = size - index - 1;
+            if (numMoved > 0) {
+                System.arraycopy(elements, index + 1, elements, index, numMoved);
+            }
+            elements[--size] = null;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Очищает список, удаляя все элементы из него.
+     */
+    public void clear() {
+        long stamp = lock.writeLock();
+        try {
+            Arrays.fill(elements, 0, size, null);
+            size = 0;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Сортирует список сортировкой слиянием с использованием естественного порядка элементов.
+     */
+    public void sort() {
+        sort(Comparator.naturalOrder());
+    }
+
+    /**
+     * Сортирует список устойчивой сортировкой слиянием с использованием заданного компаратора.
+     * На время сортировки захватывается блокировка записи, поэтому читатели видят список либо до, либо после нее.
+     *
+     * @param comparator Компаратор, используемый для сравнения элементов списка.
+     */
+    public void sort(Comparator<? super T> comparator) {
+        long stamp = lock.writeLock();
+        try {
+            if (size > 1) {
+                MergeSort.sort(elements, 0, size, comparator);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Возвращает массив всех элементов списка, согласованный с одним моментом времени.
+     *
+     * @return Массив содержащий все элементы списка.
+     */
+    @SuppressWarnings("unchecked")
+    public T[] toArray() {
+        long stamp = lock.readLock();
+        try {
+            T[] result = (T[]) new Comparable[size];
+            System.arraycopy(elements, 0, result, 0, size);
+            return result;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Увеличивает емкость массива вдвое. Вызывается под блокировкой записи.
+     */
+    private void grow() {
+        elements = Arrays.copyOf(elements, Math.max(elements.length * 2, 10));
+    }
+}
@@ -0,0 +1,298 @@
+package org.example;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicMarkableReference;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Неблокирующий потокобезопасный вариант {@link MyLinkedList} для добавления и удаления элементов
+ * из множества потоков.
+ * <p>
+ * Список односвязный, с фиктивным головным узлом. Ссылка на следующий узел хранится вместе с флагом удаления
+ * ({@link AtomicMarkableReference}), как в алгоритме Харриса-Майкла: удаление сначала помечает узел,
+ * установив флаг на его ссылке next, и только затем выключает узел из цепочки. Поэтому ни вставка после
+ * удаляемого узла, ни вставка за ним не может потеряться. Поток, встретивший помеченный узел, помогает
+ * выключить его из цепочки. Ни одна операция не захватывает блокировок: застрявший поток не мешает остальным.
+ * <p>
+ * Добавление в конец начинается с подсказки о последнем узле, поэтому обычно занимает O(1).
+ * Обход итератором слабо согласован: он не бросает {@link java.util.ConcurrentModificationException}
+ * и может как отразить, так и не отразить изменения, сделанные во время обхода.
+ * Элементы null не допускаются.
+ *
+ * @param <T> тип элементов, хранящихся в этом списке
+ */
+public class ConcurrentMyLinkedList<T extends Comparable<? super T>> implements Iterable<T> {
+    private final Node<T> head = new Node<>(null, null);
+
+    /**
+     * Подсказка о последнем узле. Может отставать от настоящего конца списка или указывать на удаленный узел.
+     */
+    private final AtomicReference<Node<T>> tail = new AtomicReference<>(head);
+
+    private final LongAdder size = new LongAdder();
+
+    /**
+     * Добавляет элемент в конец списка. Синоним {@link #addLast(Comparable)}.
+     *
+     * @param element элемент для добавления
+     */
+    public void add(T element) {
+        addLast(element);
+    }
+
+    /**
+     * Добавляет элемент в начало списка одной успешной операцией CAS над ссылкой головного узла.
+     *
+     * @param element элемент для добавления
+     */
+    public void addFirst(T element) {
+        Node<T> node = new Node<>(Objects.requireNonNull(element), null);
+        while (true) {
+            Node<T> first = head.next.getReference();
+            node.next.set(first, false);
+            if (head.next.compareAndSet(first, node, false, false)) {
+                size.increment();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Добавляет элемент в конец списка. Поиск последнего узла начинается с подсказки,
+     * а если она указывает на удаленный последний узел, список проходится от головы с очисткой помеченных узлов.
+     *
+     * @param element элемент для добавления
+     */
+    public void addLast(T element) {
+        Node<T> node = new Node<>(Objects.requireNonNull(element), null);
+        boolean[] marked = new boolean[1];
+        Node<T> hint = tail.get();
+        Node<T> last = hint;
+        while (true) {
+            Node<T> next = last.next.get(marked);
+            if (next != null) {
+                last = next;
+            } else if (marked[0]) {
+                last = findLast();
+            } else if (last.next.compareAndSet(null, node, false, false)) {
+                tail.compareAndSet(hint, node);
+                size.increment();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Удаляет и возвращает первый элемент списка.
+     *
+     * @return первый элемент или null, если список пуст
+     */
+    public T pollFirst() {
+        boolean[] marked = new boolean[1];
+        while (true) {
+            Node<T> first = head.next.getReference();
+            if (first == null) {
+                return null;
+            }
+            Node<T> next = first.next.get(marked);
+            if (marked[0]) {
+                head.next.compareAndSet(first, next, false, false);
+            } else if (first.next.compareAndSet(next, next, false, true)) {
+                head.next.compareAndSet(first, next, false, false);
+                size.decrement();
+                return first.data;
+            }
+        }
+    }
+
+    /**
+     * Удаляет первое вхождение элемента, равного указанному.
+     * Узел сначала помечается как удаленный, а затем выключается из цепочки; если выключить его не удалось,
+     * это сделает следующий поток, прошедший через него.
+     *
+     * @param element элемент для удаления
+     * @return true, если элемент был найден и удален этим вызовом
+     */
+    public boolean remove(T element) {
+        Objects.requireNonNull(element);
+        boolean[] marked = new boolean[1];
+        retry:
+        while (true) {
+            Node<T> pred = head;
+            Node<T> current = pred.next.getReference();
+            while (current != null) {
+                Node<T> next = current.next.get(marked);
+                if (marked[0]) {
+                    if (!pred.next.compareAndSet(current, next, false, false)) {
+                        continue retry;
+                    }
+                } else if (element.equals(current.data)) {
+                    if (!current.next.compareAndSet(next, next, false, true)) {
+                        continue retry;
+                    }
+                    pred.next.compareAndSet(current, next, false, false);
+                    size.decrement();
+                    return true;
+                } else {
+                    pred = current;
+                }
+                current = next;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Проверяет, содержит ли список элемент, равный указанному. Помеченные узлы пропускаются.
+     *
+     * @param element искомый элемент
+     * @return true, если элемент найден
+     */
+    public boolean contains(T element) {
+        Objects.requireNonNull(element);
+        for (T value : this) {
+            if (element.equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Возвращает количество элементов в списке. Пока список изменяется другими потоками, значение приблизительное.
+     *
+     * @return количество элементов в списке
+     */
+    public int getSize() {
+        return (int) Math.min(size.sum(), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Возвращает массив элементов, встреченных при слабо согласованном обходе списка.
+     *
+     * @return массив элементов списка
+     */
+    @SuppressWarnings("unchecked")
+    public T[] toArray() {
+        T[] result = (T[]) new Comparable[Math.max(getSize(), 10)];
+        int count = 0;
+        for (T value : this) {
+            if (count == result.length) {
+                result = Arrays.copyOf(result, count * 2);
+            }
+            result[count++] = value;
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Возвращает слабо согласованный итератор по элементам списка.
+     * Итератор не поддерживает удаление.
+     *
+     * @return итератор по элементам этого списка
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private final boolean[] marked = new boolean[1];
+            private Node<T> current = head;
+            private Node<T> next = advance(head);
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public T next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                current = next;
+                next = advance(current);
+                return current.data;
+            }
+
+            /**
+             * Возвращает ближайший за node узел, не помеченный как удаленный.
+             */
+            private Node<T> advance(Node<T> node) {
+                Node<T> candidate = node.next.getReference();
+                while (candidate != null) {
+                    Node<T> after = candidate.next.get(marked);
+                    if (!marked[0]) {
+                        return candidate;
+                    }
+                    candidate = after;
+                }
+                return null;
+            }
+        };
+    }
+
+    /**
+     * Возвращает слабо согласованный сплитератор по элементам списка.
+     *
+     * @return сплитератор по элементам этого списка
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED | Spliterator.NONNULL
+                | Spliterator.CONCURRENT);
+    }
+
+    /**
+     * Возвращает последовательный поток элементов списка.
+     *
+     * @return поток элементов этого списка
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Проходит список от головы, выключая из цепочки помеченные узлы, и возвращает последний непомеченный узел
+     * (или головной узел, если список пуст). Вызывается, когда подсказка привела к удаленному последнему узлу.
+     */
+    private Node<T> findLast() {
+        boolean[] marked = new boolean[1];
+        retry:
+        while (true) {
+            Node<T> pred = head;
+            Node<T> current = pred.next.getReference();
+            while (current != null) {
+                Node<T> next = current.next.get(marked);
+                if (marked[0]) {
+                    if (!pred.next.compareAndSet(current, next, false, false)) {
+                        continue retry;
+                    }
+                } else {
+                    pred = current;
+                }
+                current = next;
+            }
+            return pred;
+        }
+    }
+
+    /**
+     * Узел списка. Флаг на ссылке next означает, что сам узел логически удален.
+     */
+    private static final class Node<T> {
+        final T data;
+        final AtomicMarkableReference<Node<T>> next;
+
+        Node(T data, Node<T> next) {
+            this.data = data;
+            this.next = new AtomicMarkableReference<>(next, false);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package org.example;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Кодек, переводящий элементы в байтовое представление и обратно.
+ * Длина представления может зависеть от элемента; кодеки с записями одинаковой длины
+ * реализуют {@link FixedWidthCodec}. Все методы работают с абсолютными смещениями и не меняют позицию буфера.
+ *
+ * @param <T> тип кодируемых элементов
+ */
+public interface ElementCodec<T> {
+    /**
+     * Возвращает длину представления элемента в байтах.
+     *
+     * @param value элемент
+     * @return длина представления
+     */
+    int encodedSize(T value);
+
+    /**
+     * Записывает элемент в буфер начиная с указанного смещения.
+     * В буфере должно быть не меньше {@link #encodedSize(Object)} байт после смещения.
+     *
+     * @param value  элемент для записи
+     * @param target буфер назначения
+     * @param offset смещение записи в буфере
+     */
+    void encode(T value, ByteBuffer target, int offset);
+
+    /**
+     * Читает элемент из буфера.
+     *
+     * @param source исходный буфер
+     * @param offset смещение представления в буфере
+     * @param length длина представления в байтах
+     * @return прочитанный элемент
+     */
+    T decode(ByteBuffer source, int offset, int length);
+
+    /**
+     * Возвращает длину записи, если она одинакова для всех элементов, или -1, если длина переменная.
+     *
+     * @return длина записи или -1
+     */
+    default int fixedWidth() {
+        return -1;
+    }
+
+    /**
+     * Возвращает кодек строк в кодировке UTF-8.
+     *
+     * @return кодек строк
+     */
+    static ElementCodec<String> strings() {
+        return StringCodec.INSTANCE;
+    }
+}
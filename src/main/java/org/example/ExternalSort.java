@@ -0,0 +1,436 @@
+package org.example;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Внешняя сортировка слиянием для данных, которые не помещаются в куче.
+ * <p>
+ * Входные элементы накапливаются в {@link MyArrayList}, пока их оценочный объем не достигнет бюджета памяти.
+ * Заполненная серия сортируется устойчивой сортировкой слиянием и сбрасывается во временный файл в формате
+ * снимка списка (см. {@link MyArrayList#writeTo}), элементы кодируются переданным {@link ElementCodec}.
+ * Затем серии сливаются потоковым k-путевым слиянием через двоичную кучу: одновременно открыто не больше
+ * fanIn серий, а если серий больше, слияние выполняется в несколько проходов через промежуточные файлы.
+ * Файлы читаются и пишутся через каналы крупными блоками. Если все данные поместились в одну серию,
+ * временные файлы не создаются.
+ * <p>
+ * Сортировка устойчива: равные элементы выходят в порядке поступления. Временные файлы удаляются
+ * по завершении сортировки, в том числе при ошибке.
+ *
+ * @param <T> Тип сортируемых элементов. Должен быть сравнимым.
+ */
+public class ExternalSort<T extends Comparable<? super T>> {
+    /**
+     * Бюджет памяти по умолчанию на одну серию, в байтах.
+     */
+    public static final long DEFAULT_MEMORY_BUDGET = 64L << 20;
+
+    /**
+     * Количество серий, сливаемых за один проход, по умолчанию.
+     */
+    public static final int DEFAULT_FAN_IN = 64;
+
+    /**
+     * Оценка накладных расходов на элемент в куче сверх его закодированного размера:
+     * заголовок объекта и ссылки на него из списка и из буфера сортировки слиянием.
+     */
+    static final int ELEMENT_OVERHEAD = 32;
+
+    private final ElementCodec<T> codec;
+    private final Comparator<? super T> comparator;
+    private final Path tempDirectory;
+    private final long memoryBudget;
+    private final int fanIn;
+
+    /**
+     * Создает сортировку в естественном порядке элементов с бюджетом памяти и шириной слияния по умолчанию.
+     *
+     * @param codec         Кодек, которым элементы записываются во временные файлы.
+     * @param tempDirectory Каталог для временных файлов.
+     */
+    public ExternalSort(ElementCodec<T> codec, Path tempDirectory) {
+        this(codec, Comparator.naturalOrder(), tempDirectory, DEFAULT_MEMORY_BUDGET, DEFAULT_FAN_IN);
+    }
+
+    /**
+     * Создает сортировку с заданными параметрами.
+     *
+     * @param codec         Кодек, которым элементы записываются во временные файлы.
+     * @param comparator    Компаратор, задающий порядок элементов.
+     * @param tempDirectory Каталог для временных файлов.
+     * @param memoryBudget  Оценочный объем памяти под одну серию, в байтах.
+     * @param fanIn         Максимальное количество серий, сливаемых за один проход.
+     * @throws IllegalArgumentException если бюджет памяти не положителен или fanIn меньше 2.
+     */
+    public ExternalSort(ElementCodec<T> codec, Comparator<? super T> comparator, Path tempDirectory,
+                        long memoryBudget, int fanIn) {
+        if (memoryBudget <= 0) {
+            throw new IllegalArgumentException("Memory budget must be positive: " + memoryBudget);
+        }
+        if (fanIn < 2) {
+            throw new IllegalArgumentException("Fan-in must be at least 2: " + fanIn);
+        }
+        this.codec = Objects.requireNonNull(codec);
+        this.comparator = Objects.requireNonNull(comparator);
+        this.tempDirectory = Objects.requireNonNull(tempDirectory);
+        this.memoryBudget = memoryBudget;
+        this.fanIn = fanIn;
+    }
+
+    /**
+     * Сортирует элементы, выдаваемые итератором, и передает их в порядке возрастания получателю.
+     *
+     * @param input  Источник элементов. Элементы не должны быть null.
+     * @param output Получатель отсортированных элементов.
+     * @return Количество отсортированных элементов.
+     * @throws IOException если не удалось записать или прочитать временный файл.
+     */
+    public long sort(Iterator<? extends T> input, Consumer<? super T> output) throws IOException {
+        Objects.requireNonNull(output);
+        return sortInto(input, output::accept);
+    }
+
+    /**
+     * Сортирует снимок списка, записанный {@link MyArrayList#writeTo}, и записывает отсортированный снимок
+     * в том же формате. Результат можно прочитать {@link MyArrayList#readFrom} или отсортировать повторно.
+     *
+     * @param input  Канал, из которого читается исходный снимок.
+     * @param output Канал, в который записывается отсортированный снимок.
+     * @throws IOException если чтение, запись или работа с временными файлами не удались.
+     */
+    public void sort(ReadableByteChannel input, WritableByteChannel output) throws IOException {
+        SnapshotReader<T> reader = new SnapshotReader<>(input, codec);
+        SnapshotWriter<T> writer = new SnapshotWriter<>(output, codec, reader.count());
+        Iterator<T> elements = new Iterator<>() {
+            private long remaining = reader.count();
+
+            @Override
+            public boolean hasNext() {
+                return remaining > 0;
+            }
+
+            @Override
+            public T next() {
+                if (remaining == 0) {
+                    throw new NoSuchElementException();
+                }
+                remaining--;
+                try {
+                    return reader.read();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+        try {
+            sortInto(elements, writer::write);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.finish();
+    }
+
+    /**
+     * Формирует отсортированные серии и сливает их в получатель.
+     */
+    private long sortInto(Iterator<? extends T> input, Sink<? super T> output) throws IOException {
+        List<Path> runs = new ArrayList<>();
+        Throwable primary = null;
+        try {
+            MyArrayList<T> run = new MyArrayList<>();
+            long count = 0;
+            long used = 0;
+            while (input.hasNext()) {
+                T element = Objects.requireNonNull(input.next());
+                run.add(element);
+                count++;
+                used += codec.encodedSize(element) + ELEMENT_OVERHEAD;
+                if (used >= memoryBudget) {
+                    runs.add(spill(run));
+                    run.clear();
+                    used = 0;
+                }
+            }
+
+            if (runs.isEmpty()) {
+                run.sort(comparator);
+                for (T element : run) {
+                    output.write(element);
+                }
+                return count;
+            }
+            if (run.getSize() > 0) {
+                runs.add(spill(run));
+            }
+            run = null; // массив последней серии больше не нужен и не должен занимать память во время слияния
+
+            while (runs.size() > fanIn) {
+                runs = mergePass(runs);
+            }
+            merge(runs, output);
+            return count;
+        } catch (Throwable e) {
+            primary = e;
+            throw e;
+        } finally {
+            deleteAll(runs, primary);
+        }
+    }
+
+    /**
+     * Сортирует серию и записывает ее во временный файл.
+     */
+    private Path spill(MyArrayList<T> run) throws IOException {
+        run.sort(comparator);
+        Path file = Files.createTempFile(tempDirectory, "run-", ".snapshot");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            run.writeTo(channel, codec);
+        } catch (IOException | RuntimeException e) {
+            deleteAll(List.of(file), e);
+            throw e;
+        }
+        return file;
+    }
+
+    /**
+     * Сливает соседние группы из fanIn серий в новые серии, сохраняя порядок серий, чтобы слияние оставалось
+     * устойчивым. Прочитанные серии удаляются сразу после слияния их группы.
+     */
+    private List<Path> mergePass(List<Path> runs) throws IOException {
+        List<Path> merged = new ArrayList<>();
+        try {
+            for (int from = 0; from < runs.size(); from += fanIn) {
+                List<Path> group = runs.subList(from, Math.min(from + fanIn, runs.size()));
+                if (group.size() == 1) {
+                    merged.add(group.get(0));
+                    continue;
+                }
+                Path file = Files.createTempFile(tempDirectory, "merge-", ".snapshot");
+                merged.add(file);
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                    merge(group, new Sink<>() {
+                        private SnapshotWriter<T> writer;
+
+                        @Override
+                        public void start(long count) throws IOException {
+                            writer = new SnapshotWriter<>(channel, codec, count);
+                        }
+
+                        @Override
+                        public void write(T element) throws IOException {
+                            writer.write(element);
+                        }
+
+                        @Override
+                        public void finish() throws IOException {
+                            writer.finish();
+                        }
+                    });
+                }
+                for (Path run : group) {
+                    Files.delete(run);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            deleteAll(merged, e);
+            throw e;
+        }
+        return merged;
+    }
+
+    /**
+     * Потоково сливает серии в получатель. Текущие элементы серий хранятся в двоичной куче; после выдачи
+     * наименьшего элемента его серия продвигается и элемент на вершине просеивается вниз, поэтому на каждый
+     * элемент приходится O(log k) сравнений. При равенстве раньше выдается элемент из более ранней серии.
+     */
+    private void merge(List<Path> runs, Sink<? super T> output) throws IOException {
+        List<FileChannel> channels = new ArrayList<>(runs.size());
+        Throwable primary = null;
+        try {
+            Cursor<T>[] heap = newCursors(runs.size());
+            int heapSize = 0;
+            long total = 0;
+            for (Path run : runs) {
+                FileChannel channel = FileChannel.open(run, StandardOpenOption.READ);
+                channels.add(channel);
+                Cursor<T> cursor = new Cursor<>(new SnapshotReader<>(channel, codec), channels.size() - 1);
+                total += cursor.remaining;
+                if (cursor.advance()) {
+                    heap[heapSize++] = cursor;
+                }
+            }
+            for (int i = heapSize / 2 - 1; i >= 0; i--) {
+                siftDown(heap, heapSize, i);
+            }
+
+            output.start(total);
+            while (heapSize > 0) {
+                Cursor<T> top = heap[0];
+                output.write(top.current);
+                if (!top.advance()) {
+                    heap[0] = heap[--heapSize];
+                    heap[heapSize] = null;
+                }
+                siftDown(heap, heapSize, 0);
+            }
+            output.finish();
+        } catch (Throwable e) {
+            primary = e;
+            throw e;
+        } finally {
+            closeAll(channels, primary);
+        }
+    }
+
+    /**
+     * Закрывает все каналы, даже если закрытие некоторых из них не удалось.
+     *
+     * @param primary Исключение, с которым завершилась работа с каналами, или null.
+     * @throws IOException первая ошибка закрытия, если primary равно null.
+     */
+    private static void closeAll(List<FileChannel> channels, Throwable primary) throws IOException {
+        IOException failure = null;
+        for (FileChannel channel : channels) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                failure = collect(primary, failure, e);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Удаляет все временные файлы, даже если удаление некоторых из них не удалось.
+     *
+     * @param primary Исключение, после которого выполняется очистка, или null.
+     * @throws IOException первая ошибка удаления, если primary равно null.
+     */
+    private static void deleteAll(List<Path> files, Throwable primary) throws IOException {
+        IOException failure = null;
+        for (Path file : files) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                failure = collect(primary, failure, e);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Учитывает ошибку очистки: при исходном исключении primary она добавляется к нему как подавленная и не
+     * заменяет его, иначе становится первой ошибкой очистки или добавляется к ней.
+     *
+     * @return Ошибка очистки, которую нужно выбросить по ее завершении, или null.
+     */
+    private static IOException collect(Throwable primary, IOException failure, IOException e) {
+        if (primary != null) {
+            primary.addSuppressed(e);
+            return failure;
+        }
+        if (failure == null) {
+            return e;
+        }
+        failure.addSuppressed(e);
+        return failure;
+    }
+
+    private void siftDown(Cursor<T>[] heap, int heapSize, int index) {
+        Cursor<T> cursor = heap[index];
+        int half = heapSize >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < heapSize && less(heap[right], heap[child])) {
+                child = right;
+            }
+            if (!less(heap[child], cursor)) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        if (heapSize > 0) {
+            heap[index] = cursor;
+        }
+    }
+
+    private boolean less(Cursor<T> a, Cursor<T> b) {
+        int result = comparator.compare(a.current, b.current);
+        return result < 0 || result == 0 && a.order < b.order;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Cursor<T>[] newCursors(int length) {
+        return (Cursor<T>[]) new Cursor[length];
+    }
+
+    /**
+     * Получатель отсортированных элементов.
+     */
+    @FunctionalInterface
+    private interface Sink<T> {
+        /**
+         * Вызывается перед первым элементом слияния с общим количеством элементов.
+         */
+        default void start(long count) throws IOException {
+        }
+
+        void write(T element) throws IOException;
+
+        /**
+         * Вызывается после последнего элемента слияния.
+         */
+        default void finish() throws IOException {
+        }
+    }
+
+    /**
+     * Позиция чтения в серии: текущий элемент, количество непрочитанных элементов и порядковый номер серии.
+     */
+    private static final class Cursor<T> {
+        final SnapshotReader<T> reader;
+        final int order;
+        long remaining;
+        T current;
+
+        Cursor(SnapshotReader<T> reader, int order) {
+            this.reader = reader;
+            this.order = order;
+            this.remaining = reader.count();
+        }
+
+        /**
+         * Читает следующий элемент серии.
+         *
+         * @return false, если серия закончилась.
+         */
+        boolean advance() throws IOException {
+            if (remaining == 0) {
+                current = null;
+                return false;
+            }
+            remaining--;
+            current = reader.read();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package org.example;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Кодек, переводящий элементы в записи фиксированной длины и обратно.
+ * Используется списками, которые хранят элементы вне кучи в виде байтов.
+ * Все методы работают с абсолютными смещениями и не меняют позицию буфера.
+ *
+ * @param <T> тип кодируемых элементов
+ */
+public interface FixedWidthCodec<T extends Comparable<? super T>> extends ElementCodec<T> {
+    /**
+     * Возвращает длину одной записи в байтах.
+     *
+     * @return длина записи
+     */
+    int width();
+
+    /**
+     * Возвращает длину записи; она не зависит от элемента.
+     *
+     * @param value элемент
+     * @return длина записи
+     */
+    @Override
+    default int encodedSize(T value) {
+        return width();
+    }
+
+    /**
+     * Возвращает длину записи.
+     *
+     * @return длина записи
+     */
+    @Override
+    default int fixedWidth() {
+        return width();
+    }
+
+    /**
+     * Записывает элемент в буфер начиная с указанного смещения.
+     *
+     * @param value  элемент для записи
+     * @param target буфер назначения
+     * @param offset смещение записи в буфере
+     */
+    @Override
+    void encode(T value, ByteBuffer target, int offset);
+
+    /**
+     * Читает элемент из буфера начиная с указанного смещения.
+     *
+     * @param source исходный буфер
+     * @param offset смещение записи в буфере
+     * @return прочитанный элемент
+     */
+    T decode(ByteBuffer source, int offset);
+
+    /**
+     * Читает элемент из буфера; длина представления всегда равна {@link #width()}.
+     *
+     * @param source исходный буфер
+     * @param offset смещение записи в буфере
+     * @param length длина представления в байтах
+     * @return прочитанный элемент
+     */
+    @Override
+    default T decode(ByteBuffer source, int offset, int length) {
+        return decode(source, offset);
+    }
+
+    /**
+     * Сравнивает две закодированные записи в естественном порядке элементов.
+     * Реализация по умолчанию декодирует обе записи; кодеки примитивных типов сравнивают значения без создания объектов.
+     *
+     * @param a       буфер первой записи
+     * @param offsetA смещение первой записи
+     * @param b       буфер второй записи
+     * @param offsetB смещение второй записи
+     * @return отрицательное число, ноль или положительное число, если первая запись меньше, равна или больше второй
+     */
+    default int compare(ByteBuffer a, int offsetA, ByteBuffer b, int offsetB) {
+        return decode(a, offsetA).compareTo(decode(b, offsetB));
+    }
+
+    /**
+     * Возвращает кодек для значений Integer длиной 4 байта.
+     *
+     * @return кодек целых чисел
+     */
+    static FixedWidthCodec<Integer> ints() {
+        return PrimitiveCodecs.INT;
+    }
+
+    /**
+     * Возвращает кодек для значений Long длиной 8 байт.
+     *
+     * @return кодек длинных целых чисел
+     */
+    static FixedWidthCodec<Long> longs() {
+        return PrimitiveCodecs.LONG;
+    }
+
+    /**
+     * Возвращает кодек для значений Double длиной 8 байт, сравнивающий значения как {@link Double#compare}.
+     *
+     * @return кодек чисел с плавающей точкой
+     */
+    static FixedWidthCodec<Double> doubles() {
+        return PrimitiveCodecs.DOUBLE;
+    }
+}
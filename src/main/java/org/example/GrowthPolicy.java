@@ -0,0 +1,69 @@
+package org.example;
+
+/**
+ * Политика расширения внутреннего массива {@link MyArrayList}. Определяет, какой емкости будет новый массив,
+ * когда элементы перестают помещаться в текущий: большой множитель реже перевыделяет массив и копирует элементы,
+ * а маленький множитель или постоянный шаг оставляют меньше неиспользуемых ячеек.
+ * <p>
+ * Встроенные политики не выходят за максимальный размер массива {@link #MAX_CAPACITY}.
+ */
+@FunctionalInterface
+public interface GrowthPolicy {
+    /**
+     * Наибольшая емкость массива, которую выбирают встроенные политики: некоторые виртуальные машины
+     * резервируют несколько слов в заголовке массива.
+     */
+    int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    /**
+     * Вычисляет емкость нового массива. Если результат меньше minCapacity, список использует minCapacity.
+     *
+     * @param capacity    Текущая емкость массива.
+     * @param minCapacity Емкость, необходимая для выполняемой операции, больше capacity.
+     * @return Емкость нового массива.
+     */
+    int grow(int capacity, int minCapacity);
+
+    /**
+     * Возвращает политику, удваивающую емкость. Используется списком по умолчанию: каждый элемент
+     * в среднем копируется не больше одного раза, а незанятой может оставаться половина массива.
+     *
+     * @return Политика удвоения емкости.
+     */
+    static GrowthPolicy doubling() {
+        return (capacity, minCapacity) -> clamp(capacity * 2L, minCapacity);
+    }
+
+    /**
+     * Возвращает политику, увеличивающую емкость в полтора раза, как у {@link java.util.ArrayList}:
+     * незанятой остается не больше трети массива ценой более частых расширений.
+     *
+     * @return Политика расширения в полтора раза.
+     */
+    static GrowthPolicy oneAndHalf() {
+        return (capacity, minCapacity) -> clamp(capacity + (capacity >> 1), minCapacity);
+    }
+
+    /**
+     * Возвращает политику, увеличивающую емкость на постоянное количество ячеек. Незанятых ячеек остается
+     * не больше increment, но заполнение списка из n элементов копирует O(n<sup>2</sup> / increment) элементов,
+     * поэтому политика подходит для списков, размер которых известен с точностью до шага.
+     *
+     * @param increment Количество ячеек, добавляемых при каждом расширении.
+     * @return Политика расширения с постоянным шагом.
+     * @throws IllegalArgumentException если шаг не положителен.
+     */
+    static GrowthPolicy fixedIncrement(int increment) {
+        if (increment <= 0) {
+            throw new IllegalArgumentException("Illegal increment: " + increment);
+        }
+        return (capacity, minCapacity) -> clamp((long) capacity + increment, minCapacity);
+    }
+
+    /**
+     * Ограничивает емкость снизу требуемой, а сверху - {@link #MAX_CAPACITY}.
+     */
+    private static int clamp(long capacity, int minCapacity) {
+        return (int) Math.max(minCapacity, Math.min(capacity, MAX_CAPACITY));
+    }
+}
@@ -0,0 +1,177 @@
+package org.example;
+
+import java.util.Comparator;
+
+/**
+ * Интроспективная быстрая сортировка участков массива объектов.
+ * <p>
+ * Опорный элемент выбирается медианой трех (на больших участках - "девяткой" Тьюки),
+ * разбиение трехпутевое, поэтому повторяющиеся ключи не ухудшают сложность.
+ * Рекурсия идет только в меньшую часть, а большая обрабатывается в цикле, так что глубина стека
+ * не превышает log n. Если глубина разбиений превышает 2·log n, участок досортировывается пирамидальной
+ * сортировкой, что гарантирует O(n log n) в худшем случае. Короткие участки сортируются вставками.
+ * Сортировка неустойчива.
+ */
+final class IntroSort {
+    /**
+     * Участки не длиннее этого порога сортируются вставками.
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    /**
+     * Участки длиннее этого порога выбирают опорный элемент "девяткой" Тьюки вместо медианы трех.
+     */
+    private static final int NINTHER_THRESHOLD = 128;
+
+    private IntroSort() {
+    }
+
+    /**
+     * Сортирует участок массива.
+     *
+     * @param a          массив элементов
+     * @param lo         начальный индекс участка (включительно)
+     * @param hi         конечный индекс участка (не включительно)
+     * @param comparator компаратор для сравнения элементов
+     * @param <T>        тип элементов
+     */
+    @SuppressWarnings("unchecked")
+    static <T> void sort(Object[] a, int lo, int hi, Comparator<? super T> comparator) {
+        int n = hi - lo;
+        if (n < 2) {
+            return;
+        }
+        int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(n));
+        introSort(a, lo, hi - 1, depthLimit, (Comparator<Object>) comparator);
+    }
+
+    /**
+     * Сортирует участок [low, high] с ограничением глубины разбиений.
+     */
+    private static void introSort(Object[] a, int low, int high, int depthLimit, Comparator<Object> c) {
+        while (high - low + 1 > INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                heapSort(a, low, high + 1, c);
+                return;
+            }
+
+            Object pivot = a[choosePivot(a, low, high, c)];
+
+            // Трехпутевое разбиение: [low, lt) < pivot, [lt, gt] == pivot, (gt, high] > pivot.
+            int lt = low;
+            int i = low;
+            int gt = high;
+            while (i <= gt) {
+                int cmp = c.compare(a[i], pivot);
+                if (cmp < 0) {
+                    swap(a, lt++, i++);
+                } else if (cmp > 0) {
+                    swap(a, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+
+            if (lt - low < high - gt) {
+                introSort(a, low, lt - 1, depthLimit, c);
+                low = gt + 1;
+            } else {
+                introSort(a, gt + 1, high, depthLimit, c);
+                high = lt - 1;
+            }
+        }
+        insertionSort(a, low, high + 1, c);
+    }
+
+    /**
+     * Возвращает индекс опорного элемента для участка [low, high].
+     */
+    private static int choosePivot(Object[] a, int low, int high, Comparator<Object> c) {
+        int mid = (low + high) >>> 1;
+        int n = high - low + 1;
+        if (n > NINTHER_THRESHOLD) {
+            int step = n / 8;
+            int m1 = medianOfThree(a, low, low + step, low + 2 * step, c);
+            int m2 = medianOfThree(a, mid - step, mid, mid + step, c);
+            int m3 = medianOfThree(a, high - 2 * step, high - step, high, c);
+            return medianOfThree(a, m1, m2, m3, c);
+        }
+        return medianOfThree(a, low, mid, high, c);
+    }
+
+    /**
+     * Возвращает индекс медианы из трех элементов.
+     */
+    private static int medianOfThree(Object[] a, int i, int j, int k, Comparator<Object> c) {
+        if (c.compare(a[i], a[j]) < 0) {
+            if (c.compare(a[j], a[k]) < 0) {
+                return j;
+            }
+            return c.compare(a[i], a[k]) < 0 ? k : i;
+        }
+        if (c.compare(a[j], a[k]) > 0) {
+            return j;
+        }
+        return c.compare(a[i], a[k]) > 0 ? k : i;
+    }
+
+    /**
+     * Сортирует участок [lo, hi) вставками.
+     */
+    private static void insertionSort(Object[] a, int lo, int hi, Comparator<Object> c) {
+        for (int i = lo + 1; i < hi; i++) {
+            Object x = a[i];
+            int j = i - 1;
+            while (j >= lo && c.compare(a[j], x) > 0) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = x;
+        }
+    }
+
+    /**
+     * Сортирует участок [lo, hi) пирамидальной сортировкой.
+     */
+    private static void heapSort(Object[] a, int lo, int hi, Comparator<Object> c) {
+        int n = hi - lo;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(a, lo, i, n, c);
+        }
+        for (int end = n - 1; end > 0; end--) {
+            swap(a, lo, lo + end);
+            siftDown(a, lo, 0, end, c);
+        }
+    }
+
+    /**
+     * Просеивает элемент i вниз по max-куче из n элементов, начинающейся с позиции base.
+     */
+    private static void siftDown(Object[] a, int base, int i, int n, Comparator<Object> c) {
+        Object x = a[base + i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= n) {
+                break;
+            }
+            if (child + 1 < n && c.compare(a[base + child + 1], a[base + child]) > 0) {
+                child++;
+            }
+            if (c.compare(a[base + child], x) <= 0) {
+                break;
+            }
+            a[base + i] = a[base + child];
+            i = child;
+        }
+        a[base + i] = x;
+    }
+
+    /**
+     * Меняет местами два элемента массива.
+     */
+    private static void swap(Object[] a, int i, int j) {
+        Object temp = a[i];
+        a[i] = a[j];
+        a[j] = temp;
+    }
+}
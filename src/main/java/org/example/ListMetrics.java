@@ -0,0 +1,186 @@
+package org.example;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Получатель метрик, который накапливает счетчики и гистограммы внутренних операций списков.
+ * Один экземпляр можно подключить к нескольким спискам, в том числе используемым из разных потоков:
+ * счетчики основаны на {@link LongAdder}, а корзины гистограмм - на атомарных счетчиках.
+ */
+public class ListMetrics implements ListMetricsListener {
+    private final LongAdder resizes = new LongAdder();
+    private final LongAdder copiedElements = new LongAdder();
+    private final LongAdder movedElements = new LongAdder();
+    private final LongAdder sorts = new LongAdder();
+    private final LongAdder comparisons = new LongAdder();
+    private final Histogram sortNanos = new Histogram();
+    private final Histogram traversalSteps = new Histogram();
+    private final Histogram traversalNanos = new Histogram();
+
+    @Override
+    public void onResize(int oldCapacity, int newCapacity, int copiedElements) {
+        resizes.increment();
+        this.copiedElements.add(copiedElements);
+    }
+
+    @Override
+    public void onElementsMoved(int movedElements) {
+        this.movedElements.add(movedElements);
+    }
+
+    @Override
+    public void onSort(String algorithm, int size, long comparisons, long durationNanos) {
+        sorts.increment();
+        this.comparisons.add(comparisons);
+        sortNanos.record(durationNanos);
+    }
+
+    @Override
+    public void onTraversal(long steps, long durationNanos) {
+        traversalSteps.record(steps);
+        traversalNanos.record(durationNanos);
+    }
+
+    /**
+     * Возвращает количество замен внутреннего массива.
+     *
+     * @return Количество расширений и сжатий массива.
+     */
+    public long getResizes() {
+        return resizes.sum();
+    }
+
+    /**
+     * Возвращает количество элементов, скопированных при заменах внутреннего массива.
+     *
+     * @return Количество скопированных элементов.
+     */
+    public long getCopiedElements() {
+        return copiedElements.sum();
+    }
+
+    /**
+     * Возвращает количество элементов, сдвинутых внутри массива при вставках и удалениях.
+     *
+     * @return Количество сдвинутых элементов.
+     */
+    public long getMovedElements() {
+        return movedElements.sum();
+    }
+
+    /**
+     * Возвращает количество выполненных сортировок.
+     *
+     * @return Количество сортировок.
+     */
+    public long getSorts() {
+        return sorts.sum();
+    }
+
+    /**
+     * Возвращает общее количество сравнений во всех сортировках.
+     *
+     * @return Количество вызовов компараторов.
+     */
+    public long getComparisons() {
+        return comparisons.sum();
+    }
+
+    /**
+     * Возвращает гистограмму длительности сортировок в наносекундах.
+     *
+     * @return Гистограмма длительности сортировок.
+     */
+    public Histogram getSortNanos() {
+        return sortNanos;
+    }
+
+    /**
+     * Возвращает гистограмму количества узлов, пройденных при доступе по индексу.
+     *
+     * @return Гистограмма длины обходов.
+     */
+    public Histogram getTraversalSteps() {
+        return traversalSteps;
+    }
+
+    /**
+     * Возвращает гистограмму длительности обходов при доступе по индексу в наносекундах.
+     *
+     * @return Гистограмма длительности обходов.
+     */
+    public Histogram getTraversalNanos() {
+        return traversalNanos;
+    }
+
+    /**
+     * Гистограмма неотрицательных значений с корзинами по степеням двойки: в корзину i попадают значения
+     * из диапазона [2<sup>i-1</sup>, 2<sup>i</sup>), в корзину 0 - только ноль. Запись значения стоит
+     * одного атомарного инкремента, а точность оценки перцентилей - в пределах двух раз.
+     */
+    public static final class Histogram {
+        private static final int BUCKETS = Long.SIZE;
+
+        private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+        /**
+         * Записывает значение; отрицательные значения учитываются как ноль.
+         *
+         * @param value Записываемое значение.
+         */
+        public void record(long value) {
+            counts.incrementAndGet(bucket(Math.max(value, 0)));
+        }
+
+        /**
+         * Возвращает количество записанных значений.
+         *
+         * @return Количество значений.
+         */
+        public long getCount() {
+            long total = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                total += counts.get(i);
+            }
+            return total;
+        }
+
+        /**
+         * Возвращает количество значений в корзине.
+         *
+         * @param bucket Номер корзины от 0 до 63.
+         * @return Количество значений в диапазоне [2<sup>bucket-1</sup>, 2<sup>bucket</sup>).
+         */
+        public long getBucketCount(int bucket) {
+            return counts.get(bucket);
+        }
+
+        /**
+         * Оценивает перцентиль сверху: возвращает верхнюю границу корзины, в которую он попадает.
+         *
+         * @param percentile Перцентиль от 0 до 100.
+         * @return Значение, не меньшее заданной доли записанных значений, или 0, если значений нет.
+         * @throws IllegalArgumentException если перцентиль вне диапазона [0, 100].
+         */
+        public long getValueAtPercentile(double percentile) {
+            if (percentile < 0 || percentile > 100) {
+                throw new IllegalArgumentException("Percentile out of range: " + percentile);
+            }
+            long total = getCount();
+            long threshold = (long) Math.ceil(total * percentile / 100);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += counts.get(i);
+                if (seen >= threshold && seen > 0) {
+                    return i == 0 ? 0 : (1L << i) - 1;
+                }
+            }
+            return 0;
+        }
+
+        private static int bucket(long value) {
+            return Long.SIZE - Long.numberOfLeadingZeros(value);
+        }
+    }
+}
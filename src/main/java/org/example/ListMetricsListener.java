@@ -0,0 +1,50 @@
+package org.example;
+
+/**
+ * Получатель метрик внутренних операций списков. Подключается к конкретному списку методом
+ * {@code setMetricsListener}; пока получатель не подключен, списки проверяют только одно поле на null
+ * и не измеряют время и не считают сравнения.
+ * <p>
+ * Все методы имеют пустую реализацию по умолчанию, поэтому достаточно переопределить нужные.
+ * Методы вызываются в потоке, выполняющем операцию; при параллельной сортировке сравнения считаются
+ * во всех потоках пула, а {@link #onSort} вызывается один раз по ее завершении.
+ */
+public interface ListMetricsListener {
+    /**
+     * Вызывается после замены внутреннего массива списка массивом другой емкости.
+     *
+     * @param oldCapacity    Емкость до изменения.
+     * @param newCapacity    Емкость после изменения.
+     * @param copiedElements Количество скопированных в новый массив элементов.
+     */
+    default void onResize(int oldCapacity, int newCapacity, int copiedElements) {
+    }
+
+    /**
+     * Вызывается после сдвига элементов внутри массива при вставке или удалении.
+     *
+     * @param movedElements Количество сдвинутых элементов.
+     */
+    default void onElementsMoved(int movedElements) {
+    }
+
+    /**
+     * Вызывается после сортировки списка.
+     *
+     * @param algorithm     Название алгоритма сортировки.
+     * @param size          Количество отсортированных элементов.
+     * @param comparisons   Количество вызовов компаратора.
+     * @param durationNanos Длительность сортировки в наносекундах.
+     */
+    default void onSort(String algorithm, int size, long comparisons, long durationNanos) {
+    }
+
+    /**
+     * Вызывается после обхода узлов связного списка для доступа по индексу.
+     *
+     * @param steps         Количество пройденных узлов.
+     * @param durationNanos Длительность обхода в наносекундах.
+     */
+    default void onTraversal(long steps, long durationNanos) {
+    }
+}
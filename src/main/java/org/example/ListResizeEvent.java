@@ -0,0 +1,29 @@
+package org.example;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Событие JFR о замене внутреннего массива списка массивом другой емкости.
+ * Пока событие не включено в записи, его создание и проверка {@link #shouldCommit()} практически ничего не стоят.
+ */
+@Name("org.example.ListResize")
+@Label("List Resize")
+@Category({"MyList", "Collections"})
+@Description("Replacement of the backing array of a list with an array of another capacity")
+final class ListResizeEvent extends Event {
+    @Label("List Type")
+    String listType;
+
+    @Label("Old Capacity")
+    int oldCapacity;
+
+    @Label("New Capacity")
+    int newCapacity;
+
+    @Label("Copied Elements")
+    int copiedElements;
+}
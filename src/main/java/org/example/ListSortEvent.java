@@ -0,0 +1,29 @@
+package org.example;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Событие JFR о сортировке списка. Количество сравнений считается только тогда, когда событие включено
+ * в записи или к списку подключен {@link ListMetricsListener}.
+ */
+@Name("org.example.ListSort")
+@Label("List Sort")
+@Category({"MyList", "Collections"})
+@Description("Sorting of a list")
+final class ListSortEvent extends Event {
+    @Label("List Type")
+    String listType;
+
+    @Label("Algorithm")
+    String algorithm;
+
+    @Label("Size")
+    int size;
+
+    @Label("Comparisons")
+    long comparisons;
+}
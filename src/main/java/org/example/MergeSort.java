@@ -0,0 +1,208 @@
+package org.example;
+
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Устойчивая сортировка слиянием для участков массива объектов.
+ * Последовательный вариант делегирует {@link NaturalMergeSort}, параллельный построен на fork/join
+ * и сортирует листовые участки тем же алгоритмом, используя общий буфер как рабочую область.
+ */
+final class MergeSort {
+    /**
+     * Минимальный размер участка, который параллельная сортировка по умолчанию делит на подзадачи.
+     */
+    static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 13;
+
+    private MergeSort() {
+    }
+
+    /**
+     * Сортирует участок массива адаптивной сортировкой слиянием естественных серий.
+     *
+     * @param a          массив элементов
+     * @param lo         начальный индекс участка (включительно)
+     * @param hi         конечный индекс участка (не включительно)
+     * @param comparator компаратор для сравнения элементов
+     * @param <T>        тип элементов
+     * @see NaturalMergeSort
+     */
+    static <T> void sort(Object[] a, int lo, int hi, Comparator<? super T> comparator) {
+        NaturalMergeSort.sort(a, lo, hi, comparator);
+    }
+
+    /**
+     * Сортирует участок массива параллельно в указанном пуле.
+     * Участок делится пополам, пока его размер больше порога; половины сортируются независимо
+     * и затем сливаются параллельным слиянием. Участки не больше порога сортируются последовательно.
+     *
+     * @param a          массив элементов
+     * @param lo         начальный индекс участка (включительно)
+     * @param hi         конечный индекс участка (не включительно)
+     * @param comparator компаратор для сравнения элементов
+     * @param pool       пул, в котором выполняются подзадачи
+     * @param threshold  размер участка, начиная с которого работа больше не делится
+     * @param <T>        тип элементов
+     */
+    static <T> void parallelSort(Object[] a, int lo, int hi, Comparator<? super T> comparator,
+                                 ForkJoinPool pool, int threshold) {
+        if (hi - lo <= threshold || pool.getParallelism() <= 1) {
+            sort(a, lo, hi, comparator);
+            return;
+        }
+        Object[] buffer = new Object[hi - lo];
+        pool.invoke(new SortTask<>(a, buffer, lo, lo, hi, false, comparator, threshold));
+    }
+
+    /**
+     * Находит первый индекс в отсортированном участке, элемент по которому не меньше ключа.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> int lowerBound(Object[] a, int lo, int hi, Object key, Comparator<? super T> comparator) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (comparator.compare((T) a[mid], (T) key) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Находит первый индекс в отсортированном участке, элемент по которому строго больше ключа.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> int upperBound(Object[] a, int lo, int hi, Object key, Comparator<? super T> comparator) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (comparator.compare((T) a[mid], (T) key) <= 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Задача сортировки участка. Результат попадает либо в исходный массив, либо в буфер,
+     * чтобы уровни рекурсии попеременно сливали данные в разные массивы без обратного копирования.
+     * Буфер покрывает только сортируемый участок: элементу {@code a[i]} соответствует {@code buffer[i - base]}.
+     */
+    private static final class SortTask<T> extends RecursiveAction {
+        private final Object[] a;
+        private final Object[] buffer;
+        private final int base;
+        private final int lo;
+        private final int hi;
+        private final boolean intoBuffer;
+        private final Comparator<? super T> comparator;
+        private final int threshold;
+
+        SortTask(Object[] a, Object[] buffer, int base, int lo, int hi, boolean intoBuffer,
+                 Comparator<? super T> comparator, int threshold) {
+            this.a = a;
+            this.buffer = buffer;
+            this.base = base;
+            this.lo = lo;
+            this.hi = hi;
+            this.intoBuffer = intoBuffer;
+            this.comparator = comparator;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= threshold) {
+                NaturalMergeSort.sort(a, lo, hi, comparator, buffer, lo - base, hi - lo);
+                if (intoBuffer) {
+                    System.arraycopy(a, lo, buffer, lo - base, hi - lo);
+                }
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new SortTask<>(a, buffer, base, lo, mid, !intoBuffer, comparator, threshold),
+                    new SortTask<>(a, buffer, base, mid, hi, !intoBuffer, comparator, threshold));
+
+            Object[] src = intoBuffer ? a : buffer;
+            Object[] dst = intoBuffer ? buffer : a;
+            int srcShift = intoBuffer ? 0 : base;
+            int dstShift = intoBuffer ? base : 0;
+            new MergeTask<>(src, dst, lo - srcShift, mid - srcShift, mid - srcShift, hi - srcShift, lo - dstShift,
+                    comparator, threshold).compute();
+        }
+    }
+
+    /**
+     * Задача слияния двух отсортированных участков {@code src} в {@code dst}, начиная с позиции {@code out}.
+     * Большой участок делится пополам, а точка раздела второго участка находится двоичным поиском;
+     * при равенстве элементы левого участка остаются перед элементами правого, что сохраняет устойчивость.
+     */
+    private static final class MergeTask<T> extends RecursiveAction {
+        private final Object[] src;
+        private final Object[] dst;
+        private final int leftLo;
+        private final int leftHi;
+        private final int rightLo;
+        private final int rightHi;
+        private final int out;
+        private final Comparator<? super T> comparator;
+        private final int threshold;
+
+        MergeTask(Object[] src, Object[] dst, int leftLo, int leftHi, int rightLo, int rightHi, int out,
+                  Comparator<? super T> comparator, int threshold) {
+            this.src = src;
+            this.dst = dst;
+            this.leftLo = leftLo;
+            this.leftHi = leftHi;
+            this.rightLo = rightLo;
+            this.rightHi = rightHi;
+            this.out = out;
+            this.comparator = comparator;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            int leftSize = leftHi - leftLo;
+            int rightSize = rightHi - rightLo;
+            if (leftSize + rightSize <= Math.max(threshold, 2) || leftSize == 0 || rightSize == 0) {
+                mergeSequentially();
+                return;
+            }
+
+            int leftSplit;
+            int rightSplit;
+            if (leftSize >= rightSize) {
+                leftSplit = (leftLo + leftHi) >>> 1;
+                rightSplit = lowerBound(src, rightLo, rightHi, src[leftSplit], comparator);
+            } else {
+                rightSplit = (rightLo + rightHi) >>> 1;
+                leftSplit = upperBound(src, leftLo, leftHi, src[rightSplit], comparator);
+            }
+            int outSplit = out + (leftSplit - leftLo) + (rightSplit - rightLo);
+            invokeAll(new MergeTask<>(src, dst, leftLo, leftSplit, rightLo, rightSplit, out, comparator, threshold),
+                    new MergeTask<>(src, dst, leftSplit, leftHi, rightSplit, rightHi, outSplit, comparator, threshold));
+        }
+
+        @SuppressWarnings("unchecked")
+        private void mergeSequentially() {
+            int i = leftLo;
+            int j = rightLo;
+            int k = out;
+            while (i < leftHi && j < rightHi) {
+                if (comparator.compare((T) src[i], (T) src[j]) <= 0) {
+                    dst[k++] = src[i++];
+                } else {
+                    dst[k++] = src[j++];
+                }
+            }
+            System.arraycopy(src, i, dst, k, leftHi - i);
+            k += leftHi - i;
+            System.arraycopy(src, j, dst, k, rightHi - j);
+        }
+    }
+}
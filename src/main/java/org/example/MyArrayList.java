@@ -1,17 +1,69 @@
 package org.example;
 
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Класс MyArrayList представляет собой упрощенную реализацию списка массивов,
  * который может автоматически расширять свой размер при добавлении элементов.
+ * <p>
+ * Внутренний массив используется как кольцевой буфер: первый элемент хранится в позиции head,
+ * а элементы, не поместившиеся до конца массива, продолжаются с его начала. Вставка и удаление сдвигают
+ * ту часть списка, которая короче, поэтому операции в начале и в конце списка выполняются за O(1) амортизированно,
+ * а список можно использовать как скользящее окно. Доступ по индексу остается O(1).
+ * <p>
+ * Емкость массива управляется политиками {@link GrowthPolicy} и {@link ShrinkPolicy}: по умолчанию массив
+ * удваивается при заполнении и никогда не сжимается.
  *
  * @param <T> Тип элементов, которые будут храниться в списке. Должен быть сравнимым.
  */
-public class MyArrayList<T extends Comparable<? super T>> {
+public class MyArrayList<T extends Comparable<? super T>> implements Iterable<T> {
+    private static final String LIST_TYPE = "MyArrayList";
+
     private Object[] elements;
+
+    /**
+     * Позиция первого элемента списка во внутреннем массиве.
+     */
+    private int head;
+
     private int size;
 
+    /**
+     * Компаратор, по которому список заведомо отсортирован, или null, если порядок неизвестен.
+     * Устанавливается сортировкой, сохраняется удалениями и вставками, не нарушающими порядок,
+     * и позволяет повторной сортировке тем же компаратором завершаться сразу.
+     * Список не видит изменений самих элементов: если ключ сортировки элемента меняется на месте, флаг
+     * становится недостоверным и должен быть сброшен методом {@link #markUnsorted()}.
+     */
+    private Comparator<? super T> sortedBy;
+
+    /**
+     * Получатель метрик внутренних операций или null, если метрики не собираются.
+     */
+    private ListMetricsListener metrics;
+
+    /**
+     * Политика выбора емкости нового массива при расширении.
+     */
+    private GrowthPolicy growthPolicy = GrowthPolicy.doubling();
+
+    /**
+     * Политика сжатия массива после удалений и очистки.
+     */
+    private ShrinkPolicy shrinkPolicy = ShrinkPolicy.never();
+
     /**
      * Конструктор для создания пустого списка MyArrayList с начальной размером.
      */
@@ -20,6 +72,21 @@ public class MyArrayList<T extends Comparable<? super T>> {
         size = 0;
     }
 
+    /**
+     * Конструктор для создания пустого списка MyArrayList с заданной начальной емкостью.
+     * Позволяет заранее выделить память под известное количество элементов и избежать расширений массива.
+     *
+     * @param initialCapacity Начальная емкость списка.
+     * @throws IllegalArgumentException если начальная емкость отрицательна.
+     */
+    public MyArrayList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        elements = new Object[initialCapacity];
+        size = 0;
+    }
+
     /**
      * Добавляет элемент в конец списка.
      *
@@ -29,11 +96,15 @@ public class MyArrayList<T extends Comparable<? super T>> {
         if (size == elements.length) {
             increaseCapacity();
         }
-        elements[size++] = element;
+        checkOrder(size, element);
+        elements[physical(size)] = element;
+        size++;
     }
 
     /**
      * Добавляет элемент в указанную позицию в списке.
+     * Сдвигается более короткая часть списка: элементы перед индексом - к началу, после него - к концу,
+     * поэтому вставка в начало списка выполняется за O(1).
      *
      * @param index   Индекс, куда должен быть добавлен элемент.
      * @param element Элемент для добавления.
@@ -47,11 +118,89 @@ public class MyArrayList<T extends Comparable<? super T>> {
         if (size == elements.length) {
             increaseCapacity();
         }
-        arrayCopy(elements, index, elements, index + 1, size - index);
-        elements[index] = element;
+        checkOrder(index, element);
+        openGap(index, 1);
+        elements[physical(index)] = element;
         size++;
     }
 
+    /**
+     * Добавляет все элементы массива в конец списка одним блочным копированием.
+     *
+     * @param array Массив добавляемых элементов.
+     */
+    public void addAll(T[] array) {
+        addAll(size, array);
+    }
+
+    /**
+     * Добавляет все элементы другого списка в конец этого списка одним блочным копированием.
+     *
+     * @param other Список, элементы которого добавляются.
+     */
+    public void addAll(MyArrayList<? extends T> other) {
+        addAll(size, other);
+    }
+
+    /**
+     * Вставляет все элементы массива в указанную позицию списка.
+     * Хвост списка сдвигается один раз на длину массива, а не на один элемент для каждой вставки.
+     *
+     * @param index Индекс, куда должен быть вставлен первый элемент массива.
+     * @param array Массив вставляемых элементов.
+     * @throws IndexOutOfBoundsException если индекс находится вне диапазона (index &lt; 0 || index > size).
+     */
+    public void addAll(int index, T[] array) {
+        insertBlock(index, array, 0, array.length);
+    }
+
+    /**
+     * Вставляет все элементы другого списка в указанную позицию этого списка.
+     * Хвост списка сдвигается один раз на размер вставляемого списка.
+     *
+     * @param index Индекс, куда должен быть вставлен первый элемент другого списка.
+     * @param other Список, элементы которого вставляются. Может совпадать с этим списком.
+     * @throws IndexOutOfBoundsException если индекс находится вне диапазона (index &lt; 0 || index > size).
+     */
+    public void addAll(int index, MyArrayList<? extends T> other) {
+        if (other != this && other.size <= other.elements.length - other.head) {
+            insertBlock(index, other.elements, other.head, other.size);
+        } else {
+            insertBlock(index, other.copyElements(other.size), 0, other.size);
+        }
+    }
+
+    /**
+     * Вставляет count элементов массива source, начиная с позиции offset, в позицию index.
+     *
+     * @param index  Индекс вставки.
+     * @param source Массив вставляемых элементов.
+     * @param offset Позиция первого вставляемого элемента в массиве source.
+     * @param count  Количество вставляемых элементов.
+     */
+    private void insertBlock(int index, Object[] source, int offset, int count) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (count == 0) {
+            return;
+        }
+
+        if (size + count - elements.length > 0) {
+            grow(size + count);
+        }
+        sortedBy = null;
+        openGap(index, count);
+        int done = 0;
+        while (done < count) {
+            int target = physical(index + done);
+            int chunk = Math.min(count - done, elements.length - target);
+            System.arraycopy(source, offset + done, elements, target, chunk);
+            done += chunk;
+        }
+        size += count;
+    }
+
     /**
      * Возвращает элемент по указанному индексу.
      *
@@ -65,7 +214,7 @@ public class MyArrayList<T extends Comparable<? super T>> {
             throw new IndexOutOfBoundsException();
         }
 
-        return (T) elements[index];
+        return (T) elements[physical(index)];
     }
 
     /**
@@ -79,6 +228,7 @@ public class MyArrayList<T extends Comparable<? super T>> {
 
     /**
      * Удаляет элемент по указанному индексу из списка.
+     * Сдвигается более короткая часть списка, поэтому удаление первого элемента выполняется за O(1).
      *
      * @param index Индекс удаляемого элемента.
      * @throws IndexOutOfBoundsException если индекс находится вне диапазона (index &lt; 0 || index >= size).
@@ -88,25 +238,102 @@ public class MyArrayList<T extends Comparable<? super T>> {
             throw new IndexOutOfBoundsException();
         }
 
-        int numMoved = size - index - 1;
-        if (numMoved > 0) {
-            arrayCopy(elements, index + 1, elements, index, numMoved);
+        closeGap(index, 1);
+        shrinkIfNeeded();
+    }
+
+    /**
+     * Удаляет из списка элементы с индексами от fromIndex (включительно) до toIndex (не включительно).
+     * Более короткая из оставшихся частей списка сдвигается блочным копированием.
+     *
+     * @param fromIndex Индекс первого удаляемого элемента.
+     * @param toIndex   Индекс, следующий за последним удаляемым элементом.
+     * @throws IndexOutOfBoundsException если fromIndex &lt; 0, toIndex > size или fromIndex > toIndex.
+     */
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException();
         }
-        elements[--size] = null;
+
+        closeGap(fromIndex, toIndex - fromIndex);
+        shrinkIfNeeded();
     }
 
     /**
-     * Очищает список, удаляя все элементы из него.
+     * Очищает список, удаляя все элементы из него. Если политика сжатия требует уменьшить массив,
+     * вместо обнуления старого массива выделяется новый.
      */
     public void clear() {
-        for (int i = 0; i < size; i++) {
-            elements[i] = null;
+        int newCapacity = shrinkPolicy.shrink(elements.length, 0);
+        if (newCapacity < elements.length) {
+            size = 0;
+            resize(Math.max(newCapacity, 0));
+        } else {
+            fill(0, size);
+            head = 0;
+            size = 0;
         }
-        size = 0;
+    }
+
+    /**
+     * Увеличивает емкость списка, если это необходимо, чтобы он мог вместить не меньше указанного количества элементов
+     * без расширения внутреннего массива.
+     *
+     * @param minCapacity Требуемая минимальная емкость.
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * Уменьшает емкость внутреннего массива до текущего количества элементов, освобождая неиспользуемую память.
+     */
+    public void trimToSize() {
+        if (size < elements.length) {
+            resize(size);
+        }
+    }
+
+    /**
+     * Подключает получатель метрик внутренних операций списка: замен массива, сдвигов элементов и сортировок.
+     * Независимо от получателя замены массива и сортировки публикуются как события JFR
+     * {@code org.example.ListResize} и {@code org.example.ListSort}, если они включены в записи.
+     *
+     * @param listener Получатель метрик или null, чтобы отключить сбор.
+     */
+    public void setMetricsListener(ListMetricsListener listener) {
+        metrics = listener;
+    }
+
+    /**
+     * Задает политику расширения внутреннего массива. По умолчанию емкость удваивается.
+     *
+     * @param policy Политика расширения.
+     * @throws NullPointerException если политика равна null.
+     */
+    public void setGrowthPolicy(GrowthPolicy policy) {
+        growthPolicy = Objects.requireNonNull(policy);
+    }
+
+    /**
+     * Задает политику сжатия внутреннего массива, которая проверяется после удалений и очистки списка.
+     * По умолчанию массив не сжимается. Новая политика применяется сразу к текущей емкости.
+     *
+     * @param policy Политика сжатия.
+     * @throws NullPointerException если политика равна null.
+     */
+    public void setShrinkPolicy(ShrinkPolicy policy) {
+        shrinkPolicy = Objects.requireNonNull(policy);
+        shrinkIfNeeded();
     }
 
     /**
      * Сортирует список сортировкой слиянием с использованием естественного порядка элементов.
+     * Если список уже отсортирован в естественном порядке и с тех пор не вставлялись элементы, нарушающие порядок,
+     * метод завершается сразу. Изменение элементов на месте список не отслеживает, поэтому после него нужно
+     * вызвать {@link #markUnsorted()}, иначе сортировка будет пропущена.
      */
     public void sort() {
         sort(Comparator.naturalOrder());
@@ -114,60 +341,84 @@ public class MyArrayList<T extends Comparable<? super T>> {
 
     /**
      * Сортирует список сортировкой слиянием с использованием заданного компаратора.
+     * Сортировка устойчива и адаптивна: уже упорядоченные серии во входных данных используются как есть,
+     * поэтому отсортированный или почти отсортированный список сортируется за время, близкое к линейному.
+     * Если список заведомо отсортирован тем же экземпляром компаратора, сортировка не выполняется.
+     * Изменение ключей сортировки элементов на месте список не отслеживает: чтобы после него список был
+     * отсортирован заново, нужно вызвать {@link #markUnsorted()} или передать другой экземпляр компаратора.
      *
      * @param comparator Компаратор, используемый для сравнения элементов списка.
+     * @throws IllegalArgumentException если компаратор нарушает свой контракт.
      */
     public void sort(Comparator<? super T> comparator) {
-        if (size > 1) {
-            for (int width = 1; width < size; width = 2 * width) {
-                for (int i = 0; i < size; i = i + 2 * width) {
-                    int left = i;
-                    int right = Math.min(i + width, size);
-                    int end = Math.min(i + 2 * width, size);
-
-                    merge(elements, left, right, end, comparator);
-                }
-            }
+        if (size > 1 && sortedBy != comparator) {
+            int from = contiguousHead();
+            SortMeter<T> meter = new SortMeter<>(LIST_TYPE, "mergeSort", size, comparator, metrics);
+            MergeSort.sort(elements, from, from + size, meter.comparator());
+            meter.finish();
         }
+        sortedBy = comparator;
+    }
+
+    /**
+     * Сортирует список параллельной сортировкой слиянием с использованием естественного порядка элементов.
+     * Подзадачи выполняются в общем пуле {@link ForkJoinPool#commonPool()}.
+     */
+    public void parallelSort() {
+        parallelSort(Comparator.naturalOrder());
     }
 
     /**
-     * Сливает две отсортированные последовательности в одну отсортированную последовательность.
+     * Сортирует список параллельной сортировкой слиянием с использованием заданного компаратора.
+     * Подзадачи выполняются в общем пуле {@link ForkJoinPool#commonPool()}.
      *
-     * @param elements   Массив элементов для слияния.
-     * @param left       Начальный индекс левой последовательности.
-     * @param right      Начальный индекс правой последовательности.
-     * @param end        Конечный индекс правой последовательности.
-     * @param comparator Компаратор для сравнения элементов.
+     * @param comparator Компаратор, используемый для сравнения элементов списка.
      */
-    @SuppressWarnings("unchecked")
-    private void merge(Object[] elements, int left, int right, int end, Comparator<? super T> comparator) {
-        int leftEnd = right - 1;
-        int tempPos = left;
-        Object[] tempArray = new Object[end - left];
-
-        int i = left;
-        int j = right;
-        int k = 0;
-
-        while (i <= leftEnd && j < end) {
-            if (comparator.compare((T) elements[i], (T) elements[j]) <= 0) {
-                tempArray[k++] = elements[i++];
-            } else {
-                tempArray[k++] = elements[j++];
-            }
-        }
+    public void parallelSort(Comparator<? super T> comparator) {
+        parallelSort(comparator, ForkJoinPool.commonPool(), MergeSort.DEFAULT_PARALLEL_THRESHOLD);
+    }
 
-        while (i <= leftEnd) {
-            tempArray[k++] = elements[i++];
+    /**
+     * Сортирует список параллельной сортировкой слиянием в указанном пуле.
+     * Сортировка устойчива: равные элементы сохраняют взаимный порядок, как и в {@link #sort(Comparator)}.
+     * Если в списке не больше {@code threshold} элементов, выполняется обычная последовательная сортировка.
+     * Как и {@link #sort(Comparator)}, не выполняется, если список заведомо отсортирован тем же компаратором;
+     * после изменения элементов на месте нужно вызвать {@link #markUnsorted()}.
+     *
+     * @param comparator Компаратор, используемый для сравнения элементов списка.
+     * @param pool       Пул, в котором выполняются подзадачи сортировки.
+     * @param threshold  Размер участка, который сортируется последовательно без дальнейшего деления.
+     * @throws IllegalArgumentException если threshold меньше 1.
+     */
+    public void parallelSort(Comparator<? super T> comparator, ForkJoinPool pool, int threshold) {
+        Objects.requireNonNull(pool);
+        if (threshold < 1) {
+            throw new IllegalArgumentException("threshold < 1: " + threshold);
         }
-
-        while (j < end) {
-            tempArray[k++] = elements[j++];
+        if (size <= threshold) {
+            sort(comparator);
+        } else if (sortedBy != comparator) {
+            int from = contiguousHead();
+            SortMeter<T> meter = new SortMeter<>(LIST_TYPE, "parallelMergeSort", size, comparator, metrics);
+            MergeSort.parallelSort(elements, from, from + size, meter.comparator(), pool, threshold);
+            meter.finish();
+            sortedBy = comparator;
         }
+    }
 
-        for (i = 0; i < k; i++, tempPos++) {
-            elements[tempPos] = tempArray[i];
+    /**
+     * Сбрасывает признак отсортированности, если элемент, вставляемый в позицию index, нарушает порядок
+     * относительно соседей. Вставка в конец отсортированного списка по возрастанию признак сохраняет.
+     *
+     * @param index   Индекс вставки, 0 &lt;= index &lt;= size.
+     * @param element Вставляемый элемент.
+     */
+    @SuppressWarnings("unchecked")
+    private void checkOrder(int index, T element) {
+        if (sortedBy != null && (element == null
+                || index > 0 && sortedBy.compare((T) elements[physical(index - 1)], element) > 0
+                || index < size && sortedBy.compare(element, (T) elements[physical(index)]) > 0)) {
+            sortedBy = null;
         }
     }
 
@@ -175,36 +426,201 @@ public class MyArrayList<T extends Comparable<? super T>> {
      * Увеличивает емкость внутреннего массива элементов, чтобы вместить больше элементов.
      */
     private void increaseCapacity() {
-        int newSize = elements.length * 2;
-        Object[] copy = new Object[newSize];
-        for (int i = 0; i < elements.length; i++) {
-            copy[i] = elements[i];
+        grow(size + 1);
+    }
+
+    /**
+     * Расширяет внутренний массив как минимум до указанной емкости. Емкость выбирает политика расширения,
+     * а элементы переносятся в начало нового массива не более чем двумя блочными копированиями.
+     *
+     * @param minCapacity Требуемая минимальная емкость.
+     * @throws OutOfMemoryError если требуемая емкость превышает максимальный размер массива.
+     */
+    private void grow(int minCapacity) {
+        if (minCapacity < 0) {
+            throw new OutOfMemoryError("Required array size too large");
         }
-        elements = copy;
+        resize(Math.max(growthPolicy.grow(elements.length, minCapacity), minCapacity));
     }
 
     /**
-     * Копирует элементы из одного массива в другой.
+     * Сжимает внутренний массив, если этого требует политика сжатия. Емкость не становится меньше размера списка.
+     */
+    private void shrinkIfNeeded() {
+        int newCapacity = shrinkPolicy.shrink(elements.length, size);
+        if (newCapacity < elements.length) {
+            resize(Math.max(newCapacity, size));
+        }
+    }
+
+    /**
+     * Заменяет внутренний массив массивом указанной емкости, перенося элементы в его начало,
+     * и сообщает о замене получателю метрик и в JFR.
      *
-     * @param src     Исходный массив.
-     * @param srcPos  Начальная позиция в исходном массиве.
-     * @param dest    Целевой массив.
-     * @param destPos Начальная позиция в целевом массиве.
-     * @param length  Количество копируемых элементов.
+     * @param newCapacity Новая емкость, не меньше size.
      */
-    private void arrayCopy(Object[] src, int srcPos, Object[] dest, int destPos, int length) {
-        if (src == dest) {
-            Object[] temp = new Object[length];
-            for (int i = 0; i < length; i++) {
-                temp[i] = src[srcPos + i];
-            }
-            for (int i = 0; i < length; i++) {
-                dest[destPos + i] = temp[i];
-            }
+    private void resize(int newCapacity) {
+        ListResizeEvent event = new ListResizeEvent();
+        event.begin();
+        int oldCapacity = elements.length;
+        elements = copyElements(newCapacity);
+        head = 0;
+        event.end();
+        if (event.shouldCommit()) {
+            event.listType = LIST_TYPE;
+            event.oldCapacity = oldCapacity;
+            event.newCapacity = newCapacity;
+            event.copiedElements = size;
+            event.commit();
+        }
+        if (metrics != null) {
+            metrics.onResize(oldCapacity, newCapacity, size);
+        }
+    }
+
+    /**
+     * Возвращает позицию элемента с указанным индексом во внутреннем массиве.
+     *
+     * @param index Индекс элемента, 0 &lt;= index &lt; elements.length.
+     * @return Позиция элемента в массиве.
+     */
+    private int physical(int index) {
+        return physical(elements, head, index);
+    }
+
+    private static int physical(Object[] array, int head, int index) {
+        int untilEnd = array.length - head;
+        return index < untilEnd ? head + index : index - untilEnd;
+    }
+
+    /**
+     * Возвращает позицию в массиве для индекса, который может выходить за границы списка в обе стороны
+     * не больше чем на длину массива.
+     */
+    private int wrap(long index) {
+        return (int) Math.floorMod(head + index, (long) elements.length);
+    }
+
+    /**
+     * Освобождает count ячеек перед элементом с индексом index, сдвигая более короткую часть списка.
+     * Емкость массива должна быть достаточной. Размер списка не меняется.
+     */
+    private void openGap(int index, int count) {
+        if (index < size - index) {
+            moveTowardsHead(0, index, count);
+            head = wrap(-count);
         } else {
-            for (int i = 0; i < length; i++) {
-                dest[destPos + i] = src[srcPos + i];
-            }
+            moveTowardsTail(index, size - index, count);
+        }
+        if (metrics != null) {
+            metrics.onElementsMoved(Math.min(index, size - index));
+        }
+    }
+
+    /**
+     * Удаляет count элементов, начиная с индекса index, сдвигая более короткую из оставшихся частей списка
+     * и обнуляя освободившиеся ячейки.
+     */
+    private void closeGap(int index, int count) {
+        int after = size - index - count;
+        if (index < after) {
+            moveTowardsTail(0, index, count);
+            fill(0, count);
+            head = wrap(count);
+        } else {
+            moveTowardsHead(index + count, after, count);
+            fill(size - count, size);
+        }
+        size -= count;
+        if (metrics != null) {
+            metrics.onElementsMoved(Math.min(index, after));
+        }
+    }
+
+    /**
+     * Сдвигает count элементов, начиная с индекса from, на distance позиций к концу списка.
+     * Копирование идет блоками с конца, поэтому перекрывающиеся участки не портятся.
+     */
+    private void moveTowardsTail(int from, int count, int distance) {
+        int remaining = count;
+        while (remaining > 0) {
+            int src = wrap((long) from + remaining - 1);
+            int dst = wrap((long) from + distance + remaining - 1);
+            int chunk = Math.min(remaining, Math.min(src, dst) + 1);
+            System.arraycopy(elements, src - chunk + 1, elements, dst - chunk + 1, chunk);
+            remaining -= chunk;
+        }
+    }
+
+    /**
+     * Сдвигает count элементов, начиная с индекса from, на distance позиций к началу списка.
+     * Копирование идет блоками с начала, поэтому перекрывающиеся участки не портятся.
+     */
+    private void moveTowardsHead(int from, int count, int distance) {
+        int done = 0;
+        while (done < count) {
+            int src = wrap((long) from + done);
+            int dst = wrap((long) from - distance + done);
+            int chunk = Math.min(count - done, elements.length - Math.max(src, dst));
+            System.arraycopy(elements, src, elements, dst, chunk);
+            done += chunk;
+        }
+    }
+
+    /**
+     * Обнуляет ячейки, соответствующие индексам [from, to).
+     */
+    private void fill(int from, int to) {
+        int done = from;
+        while (done < to) {
+            int start = physical(done);
+            int chunk = Math.min(to - done, elements.length - start);
+            Arrays.fill(elements, start, start + chunk, null);
+            done += chunk;
+        }
+    }
+
+    /**
+     * Копирует элементы списка по порядку в начало нового массива указанной длины.
+     */
+    private Object[] copyElements(int capacity) {
+        Object[] copy = new Object[capacity];
+        copyTo(copy);
+        return copy;
+    }
+
+    /**
+     * Копирует элементы списка по порядку в начало массива target не более чем двумя блочными копированиями.
+     */
+    private void copyTo(Object[] target) {
+        int first = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, target, 0, first);
+        System.arraycopy(elements, 0, target, first, size - first);
+    }
+
+    /**
+     * Делает так, чтобы элементы списка лежали в массиве подряд, и возвращает позицию первого из них.
+     * Если элементы переходят через конец массива, массив поворачивается на месте тремя разворотами,
+     * без выделения памяти; иначе раскладка не меняется.
+     */
+    private int contiguousHead() {
+        if (size > elements.length - head) {
+            reverse(0, head);
+            reverse(head, elements.length);
+            reverse(0, elements.length);
+            head = 0;
+        }
+        return head;
+    }
+
+    /**
+     * Разворачивает участок [from, to) внутреннего массива.
+     */
+    private void reverse(int from, int to) {
+        for (int i = from, j = to - 1; i < j; i++, j--) {
+            Object temp = elements[i];
+            elements[i] = elements[j];
+            elements[j] = temp;
         }
     }
 
@@ -212,78 +628,216 @@ public class MyArrayList<T extends Comparable<? super T>> {
      * Выполняет быструю сортировку списка, используя естественный порядок элементов.
      */
     public void quickSort() {
-        quickSort(0, size - 1, Comparator.naturalOrder());
+        quickSort(Comparator.naturalOrder());
     }
 
     /**
      * Выполняет быструю сортировку списка, используя заданный компаратор.
+     * Используется интроспективная сортировка: опорный элемент выбирается медианой нескольких элементов,
+     * равные элементы собираются трехпутевым разбиением, а при слишком глубоком разбиении участок
+     * досортировывается пирамидальной сортировкой. Время работы - O(n log n) в худшем случае,
+     * глубина рекурсии - O(log n). Сортировка неустойчива. Как и {@link #sort(Comparator)}, не выполняется,
+     * если список заведомо отсортирован тем же компаратором; после изменения элементов на месте нужно
+     * вызвать {@link #markUnsorted()}.
      *
      * @param comparator Компаратор, используемый для сравнения элементов списка.
      */
     public void quickSort(Comparator<? super T> comparator) {
-        quickSort(0, size - 1, comparator);
+        if (size > 1 && sortedBy != comparator) {
+            int from = contiguousHead();
+            SortMeter<T> meter = new SortMeter<>(LIST_TYPE, "introSort", size, comparator, metrics);
+            IntroSort.sort(elements, from, from + size, meter.comparator());
+            meter.finish();
+        }
+        sortedBy = comparator;
     }
 
     /**
-     * Выполняет быструю сортировку части списка.
+     * Сбрасывает сведения о том, что список отсортирован, чтобы следующая сортировка выполнилась полностью.
+     * Нужен, если ключи сортировки элементов изменились на месте: список не может заметить такие изменения
+     * и иначе пропустил бы сортировку тем же компаратором.
+     */
+    public void markUnsorted() {
+        sortedBy = null;
+    }
+
+    /**
+     * Возвращает массив всех элементов списка.
      *
-     * @param low        Нижний индекс диапазона для сортировки.
-     * @param high       Верхний индекс диапазона для сортировки.
-     * @param comparator Компаратор для сравнения элементов.
+     * @return Массив содержащий все элементы списка.
      */
-    private void quickSort(int low, int high, Comparator<? super T> comparator) {
-        if (low < high) {
-            int pivotIndex = partition(low, high, comparator);
-            quickSort(low, pivotIndex - 1, comparator);
-            quickSort(pivotIndex + 1, high, comparator);
-        }
+    @SuppressWarnings("unchecked")
+    public T[] toArray() {
+        T[] result = (T[]) new Comparable[size];
+        copyTo(result);
+        return result;
     }
 
     /**
-     * Разделяет часть списка на две части: элементы меньше опорного и элементы больше опорного.
+     * Записывает снимок списка в канал в компактном двоичном формате.
+     * Элементы кодируются заданным кодеком и передаются в канал крупными блоками без промежуточного массива.
      *
-     * @param low        Нижний индекс диапазона для разделения.
-     * @param high       Верхний индекс диапазона для разделения.
-     * @param comparator Компаратор для сравнения элементов.
-     * @return Индекс опорного элемента после разделения.
+     * @param channel Канал, в который записывается снимок.
+     * @param codec   Кодек элементов.
+     * @throws IOException          если запись в канал не удалась.
+     * @throws NullPointerException если список содержит null.
      */
     @SuppressWarnings("unchecked")
-    private int partition(int low, int high, Comparator<? super T> comparator) {
-        T pivot = (T) elements[high];
-        int i = (low - 1);
-        for (int j = low; j < high; j++) {
-            if (comparator.compare((T) elements[j], pivot) <= 0) {
-                i++;
-                swap(i, j);
-            }
+    public void writeTo(WritableByteChannel channel, ElementCodec<? super T> codec) throws IOException {
+        SnapshotWriter<T> writer = new SnapshotWriter<>(channel, codec, size);
+        for (int i = 0; i < size; i++) {
+            writer.write((T) Objects.requireNonNull(elements[physical(i)]));
         }
-        swap(i + 1, high);
-        return i + 1;
+        writer.finish();
     }
 
     /**
-     * Меняет местами два элемента в списке.
+     * Восстанавливает список из снимка, записанного {@link #writeTo(WritableByteChannel, ElementCodec)}.
+     * Емкость списка выделяется сразу по количеству элементов из заголовка снимка, поэтому массив не расширяется.
      *
-     * @param i Индекс первого элемента для обмена.
-     * @param j Индекс второго элемента для обмена.
+     * @param channel Канал, из которого читается снимок.
+     * @param codec   Кодек элементов, которым снимок был записан.
+     * @param <T>     Тип элементов списка.
+     * @return Восстановленный список.
+     * @throws IOException если чтение не удалось или данные не являются снимком списка.
      */
-    private void swap(int i, int j) {
-        Object temp = elements[i];
-        elements[i] = elements[j];
-        elements[j] = temp;
+    public static <T extends Comparable<? super T>> MyArrayList<T> readFrom(ReadableByteChannel channel,
+                                                                          ElementCodec<T> codec) throws IOException {
+        SnapshotReader<T> reader = new SnapshotReader<>(channel, codec);
+        long count = reader.count();
+        if (count > Integer.MAX_VALUE) {
+            throw new IOException("Snapshot is too large for MyArrayList: " + count);
+        }
+        MyArrayList<T> list = new MyArrayList<>((int) count);
+        for (int i = 0; i < count; i++) {
+            list.elements[i] = reader.read();
+        }
+        list.size = (int) count;
+        return list;
     }
 
     /**
-     * Возвращает массив всех элементов списка.
+     * Возвращает итератор по элементам списка в порядке их следования.
      *
-     * @return Массив содержащий все элементы списка.
+     * @return Итератор по элементам списка.
      */
-    @SuppressWarnings("unchecked")
-    public T[] toArray() {
-        T[] result = (T[]) new Comparable[size];
-        for (int i = 0; i < size; i++) {
-            result[i] = (T) elements[i];
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private int cursor;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (cursor >= size) {
+                    throw new NoSuchElementException();
+                }
+                return (T) elements[physical(cursor++)];
+            }
+        };
+    }
+
+    /**
+     * Возвращает сплитератор по элементам списка. Сплитератор делит диапазон индексов пополам,
+     * поэтому обе части всегда знают свой точный размер.
+     *
+     * @return Сплитератор с характеристиками ORDERED, SIZED и SUBSIZED.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new ArrayRangeSpliterator<>(elements, head, 0, size);
+    }
+
+    /**
+     * Возвращает последовательный поток элементов списка.
+     *
+     * @return Поток элементов списка.
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Возвращает параллельный поток элементов списка.
+     *
+     * @return Параллельный поток элементов списка.
+     */
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Сплитератор по диапазону индексов [index, fence) кольцевого буфера, первый элемент которого лежит в позиции head.
+     *
+     * @param <T> тип элементов
+     */
+    private static final class ArrayRangeSpliterator<T> implements Spliterator<T> {
+        private final Object[] array;
+        private final int head;
+        private int index;
+        private final int fence;
+
+        ArrayRangeSpliterator(Object[] array, int head, int origin, int fence) {
+            this.array = array;
+            this.head = head;
+            this.index = origin;
+            this.fence = fence;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int lo = index;
+            int mid = (lo + fence) >>> 1;
+            if (lo >= mid) {
+                return null;
+            }
+            index = mid;
+            return new ArrayRangeSpliterator<>(array, head, lo, mid);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean tryAdvance(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            if (index < fence) {
+                action.accept((T) array[physical(array, head, index++)]);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void forEachRemaining(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            Object[] a = array;
+            int i = index;
+            int hi = fence;
+            index = hi;
+            if (i >= hi) {
+                return;
+            }
+            for (int p = physical(a, head, i); i < hi; i++) {
+                action.accept((T) a[p]);
+                if (++p == a.length) {
+                    p = 0;
+                }
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
         }
-        return result;
     }
 }
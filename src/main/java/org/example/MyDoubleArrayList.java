@@ -0,0 +1,384 @@
+package org.example;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Класс MyDoubleArrayList представляет собой вариант {@link MyArrayList}, специализированный для значений типа double.
+ * Элементы хранятся в массиве double[] без упаковки в объекты, поэтому список занимает в несколько раз меньше памяти,
+ * а сравнения при сортировке не требуют обращения по ссылке и вызова compareTo.
+ * <p>
+ * Сумма, минимум, максимум, поиск и отбор по диапазону значений выполняются ядрами {@link VectorSupport#KERNELS}:
+ * векторными ядрами Vector API в сборке с профилем {@code vector} и при запуске с
+ * {@code --add-modules jdk.incubator.vector}, и скалярными циклами иначе.
+ */
+public class MyDoubleArrayList {
+    /**
+     * Списки короче этого порога сортируются быстрой сортировкой вместо поразрядной.
+     */
+    private static final int RADIX_SORT_THRESHOLD = 256;
+
+    /**
+     * Участки не длиннее этого порога быстрая сортировка упорядочивает вставками.
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    private double[] elements;
+    private int size;
+
+    /**
+     * Конструктор для создания пустого списка MyDoubleArrayList с начальной размером.
+     */
+    public MyDoubleArrayList() {
+        elements = new double[10];
+        size = 0;
+    }
+
+    /**
+     * Добавляет элемент в конец списка.
+     *
+     * @param element Элемент для добавления.
+     */
+    public void add(double element) {
+        if (size == elements.length) {
+            increaseCapacity();
+        }
+        elements[size++] = element;
+    }
+
+    /**
+     * Добавляет элемент в указанную позицию в списке.
+     *
+     * @param index   Индекс, куда должен быть добавлен элемент.
+     * @param element Элемент для добавления.
+     * @throws IndexOutOfBoundsException если индекс находится вне диапазона (index &lt; 0 || index > size).
+     */
+    public void add(int index, double element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        if (size == elements.length) {
+            increaseCapacity();
+        }
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = element;
+        size++;
+    }
+
+    /**
+     * Возвращает элемент по указанному индексу.
+     *
+     * @param index Индекс запрашиваемого элемента.
+     * @return Элемент на указанной позиции в списке.
+     * @throws IndexOutOfBoundsException если индекс находится вне диапазона (index &lt; 0 || index >= size).
+     */
+    public double get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        return elements[index];
+    }
+
+    /**
+     * Возвращает количество элементов в списке.
+     *
+     * @return Количество элементов в списке.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Удаляет элемент по указанному индексу из списка.
+     *
+     * @param index Индекс удаляемого элемента.
+     * @throws IndexOutOfBoundsException если индекс находится вне диапазона (index &lt; 0 || index >= size).
+     */
+    public void remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        int numMoved = size - index - 1;
+        if (numMoved > 0) {
+            System.arraycopy(elements, index + 1, elements, index, numMoved);
+        }
+        size--;
+    }
+
+    /**
+     * Очищает список, удаляя все элементы из него.
+     * Примитивные значения не удерживают объектов, поэтому обнулять массив не нужно.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Сортирует список по возрастанию в порядке {@link Double#compare} поразрядной сортировкой
+     * (LSD, по одному байту за проход): -0.0 идет перед 0.0, а NaN - после всех остальных значений.
+     * Проходы, в которых у всех элементов совпадает текущий байт, пропускаются.
+     * Короткие списки сортируются быстрой сортировкой.
+     */
+    public void sort() {
+        if (size < RADIX_SORT_THRESHOLD) {
+            quickSort();
+        } else {
+            radixSort(elements, size);
+        }
+    }
+
+    /**
+     * Выполняет быструю сортировку списка по возрастанию в порядке {@link Double#compare}.
+     * Как и {@link MyArrayList#quickSort()}, использует интроспективную сортировку
+     * с трехпутевым разбиением и переходом на пирамидальную сортировку при слишком глубоком разбиении.
+     */
+    public void quickSort() {
+        if (size > 1) {
+            introSort(elements, 0, size - 1, 2 * (31 - Integer.numberOfLeadingZeros(size)));
+        }
+    }
+
+    /**
+     * Возвращает сумму элементов списка.
+     * Векторные ядра складывают элементы в другом порядке, чем последовательный цикл, поэтому сумма
+     * может отличаться от него в последних разрядах.
+     *
+     * @return Сумма элементов списка или 0 для пустого списка.
+     */
+    public double sum() {
+        return VectorSupport.KERNELS.sum(elements, size);
+    }
+
+    /**
+     * Возвращает наименьший элемент списка.
+     * Если список содержит NaN, результат - NaN.
+     *
+     * @return Наименьший элемент списка.
+     * @throws NoSuchElementException если список пуст.
+     */
+    public double min() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+
+        return VectorSupport.KERNELS.min(elements, size);
+    }
+
+    /**
+     * Возвращает наибольший элемент списка.
+     * Если список содержит NaN, результат - NaN.
+     *
+     * @return Наибольший элемент списка.
+     * @throws NoSuchElementException если список пуст.
+     */
+    public double max() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+
+        return VectorSupport.KERNELS.max(elements, size);
+    }
+
+    /**
+     * Возвращает индекс первого вхождения значения в список.
+     * Значения сравниваются оператором ==, поэтому NaN не находится, а 0.0 и -0.0 считаются равными.
+     *
+     * @param value Искомое значение.
+     * @return Индекс первого вхождения или -1, если значения в списке нет.
+     */
+    public int indexOf(double value) {
+        return VectorSupport.KERNELS.indexOf(elements, size, value);
+    }
+
+    /**
+     * Возвращает количество элементов, значения которых попадают в диапазон [from, to).
+     *
+     * @param from Нижняя граница диапазона включительно.
+     * @param to   Верхняя граница диапазона не включительно.
+     * @return Количество элементов в диапазоне.
+     */
+    public int count(double from, double to) {
+        return VectorSupport.KERNELS.count(elements, size, from, to);
+    }
+
+    /**
+     * Добавляет в конец списка target все элементы этого списка из диапазона значений [from, to), сохраняя их порядок.
+     * Емкость target расширяется один раз до размера, достаточного для худшего случая.
+     *
+     * @param from   Нижняя граница диапазона включительно.
+     * @param to     Верхняя граница диапазона не включительно.
+     * @param target Список, в который добавляются элементы. Может совпадать с этим списком.
+     * @return Количество добавленных элементов.
+     */
+    public int filterInto(double from, double to, MyDoubleArrayList target) {
+        int count = size;
+        if (target.elements.length - target.size < count) {
+            int capacity = Math.max(target.elements.length * 2, target.size + count);
+            target.elements = Arrays.copyOf(target.elements, capacity);
+        }
+        int added = VectorSupport.KERNELS.filter(elements, count, from, to, target.elements, target.size);
+        target.size += added;
+        return added;
+    }
+
+    /**
+     * Возвращает массив всех элементов списка.
+     *
+     * @return Массив содержащий все элементы списка.
+     */
+    public double[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    /**
+     * Увеличивает емкость внутреннего массива элементов, чтобы вместить больше элементов.
+     */
+    private void increaseCapacity() {
+        elements = Arrays.copyOf(elements, elements.length * 2);
+    }
+
+    /**
+     * Сортирует первые n элементов массива поразрядной сортировкой.
+     * Значения переводятся в 64-битные ключи, беззнаковый порядок которых совпадает с порядком {@link Double#compare}:
+     * у положительных чисел инвертируется знаковый бит, у отрицательных - все биты.
+     */
+    private static void radixSort(double[] a, int n) {
+        long[] src = new long[n];
+        for (int i = 0; i < n; i++) {
+            long bits = Double.doubleToLongBits(a[i]);
+            src[i] = bits ^ ((bits >> 63) | Long.MIN_VALUE);
+        }
+
+        long[] dst = new long[n];
+        int[] count = new int[256];
+        for (int shift = 0; shift < Long.SIZE; shift += 8) {
+            Arrays.fill(count, 0);
+            for (int i = 0; i < n; i++) {
+                count[(int) ((src[i] >>> shift) & 0xFF)]++;
+            }
+            if (count[(int) ((src[0] >>> shift) & 0xFF)] == n) {
+                continue;
+            }
+
+            int sum = 0;
+            for (int b = 0; b < count.length; b++) {
+                int c = count[b];
+                count[b] = sum;
+                sum += c;
+            }
+            for (int i = 0; i < n; i++) {
+                long key = src[i];
+                dst[count[(int) ((key >>> shift) & 0xFF)]++] = key;
+            }
+
+            long[] t = src;
+            src = dst;
+            dst = t;
+        }
+
+        for (int i = 0; i < n; i++) {
+            long key = src[i];
+            a[i] = Double.longBitsToDouble(key < 0 ? key ^ Long.MIN_VALUE : ~key);
+        }
+    }
+
+    /**
+     * Сортирует участок [low, high] с ограничением глубины разбиений.
+     */
+    private static void introSort(double[] a, int low, int high, int depthLimit) {
+        while (high - low + 1 > INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                heapSort(a, low, high + 1);
+                return;
+            }
+
+            double pivot = a[medianOfThree(a, low, (low + high) >>> 1, high)];
+            int lt = low;
+            int i = low;
+            int gt = high;
+            while (i <= gt) {
+                int cmp = Double.compare(a[i], pivot);
+                if (cmp < 0) {
+                    swap(a, lt++, i++);
+                } else if (cmp > 0) {
+                    swap(a, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+
+            if (lt - low < high - gt) {
+                introSort(a, low, lt - 1, depthLimit);
+                low = gt + 1;
+            } else {
+                introSort(a, gt + 1, high, depthLimit);
+                high = lt - 1;
+            }
+        }
+        insertionSort(a, low, high + 1);
+    }
+
+    private static int medianOfThree(double[] a, int i, int j, int k) {
+        if (Double.compare(a[i], a[j]) < 0) {
+            if (Double.compare(a[j], a[k]) < 0) {
+                return j;
+            }
+            return Double.compare(a[i], a[k]) < 0 ? k : i;
+        }
+        if (Double.compare(a[j], a[k]) > 0) {
+            return j;
+        }
+        return Double.compare(a[i], a[k]) > 0 ? k : i;
+    }
+
+    private static void insertionSort(double[] a, int lo, int hi) {
+        for (int i = lo + 1; i < hi; i++) {
+            double x = a[i];
+            int j = i - 1;
+            while (j >= lo && Double.compare(a[j], x) > 0) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = x;
+        }
+    }
+
+    private static void heapSort(double[] a, int lo, int hi) {
+        int n = hi - lo;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(a, lo, i, n);
+        }
+        for (int end = n - 1; end > 0; end--) {
+            swap(a, lo, lo + end);
+            siftDown(a, lo, 0, end);
+        }
+    }
+
+    private static void siftDown(double[] a, int base, int i, int n) {
+        double x = a[base + i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= n) {
+                break;
+            }
+            if (child + 1 < n && Double.compare(a[base + child + 1], a[base + child]) > 0) {
+                child++;
+            }
+            if (Double.compare(a[base + child], x) <= 0) {
+                break;
+            }
+            a[base + i] = a[base + child];
+            i = child;
+        }
+        a[base + i] = x;
+    }
+
+    private static void swap(double[] a, int i, int j) {
+        double temp = a[i];
+        a[i] = a[j];
+        a[j] = temp;
+    }
+}
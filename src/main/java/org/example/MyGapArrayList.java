@@ -0,0 +1,247 @@
+package org.example;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Класс MyGapArrayList представляет собой вариант {@link MyArrayList} на основе буфера с зазором (gap buffer),
+ * рассчитанный на сгруппированные вставки и удаления рядом с перемещающимся курсором, как в текстовом редакторе.
+ * <p>
+ * Свободная емкость массива хранится не в конце, а в виде зазора в позиции последней правки. Вставка и удаление
+ * в позиции зазора выполняются за O(1); правка в другой позиции сначала переносит зазор туда, сдвигая только
+ * элементы между старой и новой позицией. Поэтому серия правок рядом с курсором стоит O(1) амортизированно,
+ * а не O(n) на каждую, как в {@link MyArrayList#add(int, Comparable)}. Доступ по индексу остается O(1).
+ *
+ * @param <T> Тип элементов, которые будут храниться в списке. Должен быть сравнимым.
+ */
+public class MyGapArrayList<T extends Comparable<? super T>> implements Iterable<T> {
+    private Object[] elements;
+
+    /**
+     * Первая ячейка зазора.
+     */
+    private int gapStart;
+
+    /**
+     * Первая ячейка после зазора.
+     */
+    private int gapEnd;
+
+    /**
+     * Конструктор для создания пустого списка MyGapArrayList с начальной емкостью в 10 элементов.
+     */
+    public MyGapArrayList() {
+        this(10);
+    }
+
+    /**
+     * Конструктор для создания пустого списка MyGapArrayList с заданной начальной емкостью.
+     *
+     * @param initialCapacity Начальная емкость списка.
+     * @throws IllegalArgumentException если начальная емкость отрицательна.
+     */
+    public MyGapArrayList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        elements = new Object[initialCapacity];
+        gapStart = 0;
+        gapEnd = initialCapacity;
+    }
+
+    /**
+     * Добавляет элемент в конец списка.
+     *
+     * @param element Элемент для добавления.
+     */
+    public void add(T element) {
+        add(getSize(), element);
+    }
+
+    /**
+     * Добавляет элемент в указанную позицию в списке. Зазор переносится в эту позицию,
+     * после чего элемент записывается в его первую ячейку.
+     *
+     * @param index   Индекс, куда должен быть добавлен элемент.
+     * @param element Элемент для добавления.
+     * @throws IndexOutOfBoundsException если индекс находится вне диапазона (index &lt; 0 || index > size).
+     */
+    public void add(int index, T element) {
+        if (index < 0 || index > getSize()) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        moveGap(index);
+        if (gapStart == gapEnd) {
+            increaseCapacity();
+        }
+        elements[gapStart++] = element;
+    }
+
+    /**
+     * Возвращает элемент по указанному индексу.
+     *
+     * @param index Индекс запрашиваемого элемента.
+     * @return Элемент на указанной позиции в списке.
+     * @throws IndexOutOfBoundsException если индекс находится вне диапазона (index &lt; 0 || index >= size).
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if (index < 0 || index >= getSize()) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        return (T) elements[index < gapStart ? index : index + gapEnd - gapStart];
+    }
+
+    /**
+     * Возвращает количество элементов в списке.
+     *
+     * @return Количество элементов в списке.
+     */
+    public int getSize() {
+        return elements.length - (gapEnd - gapStart);
+    }
+
+    /**
+     * Удаляет элемент по указанному индексу из списка. Зазор переносится к этому индексу
+     * и поглощает удаляемый элемент.
+     *
+     * @param index Индекс удаляемого элемента.
+     * @throws IndexOutOfBoundsException если индекс находится вне диапазона (index &lt; 0 || index >= size).
+     */
+    public void remove(int index) {
+        if (index < 0 || index >= getSize()) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        moveGap(index);
+        elements[gapEnd++] = null;
+    }
+
+    /**
+     * Очищает список, удаляя все элементы из него.
+     */
+    public void clear() {
+        Arrays.fill(elements, null);
+        gapStart = 0;
+        gapEnd = elements.length;
+    }
+
+    /**
+     * Сортирует список сортировкой слиянием с использованием естественного порядка элементов.
+     */
+    public void sort() {
+        sort(Comparator.naturalOrder());
+    }
+
+    /**
+     * Сортирует список устойчивой сортировкой слиянием с использованием заданного компаратора.
+     * Перед сортировкой зазор переносится в конец массива, чтобы элементы лежали подряд.
+     *
+     * @param comparator Компаратор, используемый для сравнения элементов списка.
+     */
+    public void sort(Comparator<? super T> comparator) {
+        int size = getSize();
+        if (size > 1) {
+            moveGap(size);
+            MergeSort.sort(elements, 0, size, comparator);
+        }
+    }
+
+    /**
+     * Возвращает массив всех элементов списка.
+     *
+     * @return Массив содержащий все элементы списка.
+     */
+    @SuppressWarnings("unchecked")
+    public T[] toArray() {
+        T[] result = (T[]) new Comparable[getSize()];
+        System.arraycopy(elements, 0, result, 0, gapStart);
+        System.arraycopy(elements, gapEnd, result, gapStart, elements.length - gapEnd);
+        return result;
+    }
+
+    /**
+     * Возвращает итератор по элементам списка в порядке их следования.
+     *
+     * @return Итератор по элементам списка.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int cursor;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < getSize();
+            }
+
+            @Override
+            public T next() {
+                if (cursor >= getSize()) {
+                    throw new NoSuchElementException();
+                }
+                return get(cursor++);
+            }
+        };
+    }
+
+    /**
+     * Возвращает последовательный поток элементов списка.
+     *
+     * @return Поток элементов списка.
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Переносит зазор так, чтобы он начинался с указанного индекса. Сдвигаются только элементы,
+     * лежащие между старой и новой позицией зазора; освободившиеся ячейки обнуляются.
+     *
+     * @param index Новая позиция зазора (0 &lt;= index &lt;= size).
+     */
+    private void moveGap(int index) {
+        if (index == gapStart) {
+            return;
+        }
+        int gap = gapEnd - gapStart;
+        if (index < gapStart) {
+            int moved = gapStart - index;
+            System.arraycopy(elements, index, elements, gapEnd - moved, moved);
+            Arrays.fill(elements, index, Math.min(gapStart, gapEnd - moved), null);
+        } else {
+            int moved = index - gapStart;
+            System.arraycopy(elements, gapEnd, elements, gapStart, moved);
+            Arrays.fill(elements, Math.max(gapEnd, index), gapEnd + moved, null);
+        }
+        gapStart = index;
+        gapEnd = index + gap;
+    }
+
+    /**
+     * Увеличивает емкость массива вдвое; новый зазор занимает все добавленные ячейки в позиции старого зазора.
+     */
+    private void increaseCapacity() {
+        int oldCapacity = elements.length;
+        int minCapacity = oldCapacity + 1;
+        if (minCapacity < 0) {
+            throw new OutOfMemoryError("Required array size too large");
+        }
+        int newCapacity = Math.max(oldCapacity * 2, 10);
+        if (newCapacity - minCapacity < 0) {
+            newCapacity = minCapacity;
+        }
+        Object[] grown = new Object[newCapacity];
+        int tail = oldCapacity - gapEnd;
+        System.arraycopy(elements, 0, grown, 0, gapStart);
+        System.arraycopy(elements, gapEnd, grown, newCapacity - tail, tail);
+        elements = grown;
+        gapEnd = newCapacity - tail;
+    }
+}
@@ -1,5 +1,8 @@
 /**
- * Пользовательская реализация связного списка, который хранит элементы в линейном порядке.
+ * Пользовательская реализация двусвязного списка, который хранит элементы в линейном порядке.
+ * Список хранит ссылки на первый и последний узлы, поэтому добавление в конец и удаление последнего элемента
+ * выполняются за O(1), а доступ по индексу идет от ближайшего к индексу конца списка или от последнего найденного узла,
+ * поэтому последовательный проход вызовами get по возрастанию или убыванию индекса занимает O(n), а не O(n²).
  * Элементы могут быть добавлены, удалены, получены, и список может быть отсортирован с использованием естественного порядка или пользовательского компаратора.
  * Список является обобщенным и может содержать объекты любого типа, расширяющие Comparable.
  *
@@ -7,19 +10,50 @@
  */
 package org.example;
 
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
-public class MyLinkedList<T extends Comparable<? super T>> {
+public class MyLinkedList<T extends Comparable<? super T>> implements Iterable<T> {
+
+    private static final String LIST_TYPE = "MyLinkedList";
 
     private Node<T> head;
 
+    private Node<T> tail;
+
     private int size;
 
+    /**
+     * Последний узел, найденный по индексу, или null, если такого узла нет или порядок узлов изменился.
+     */
+    private Node<T> finger;
+
+    /**
+     * Индекс узла finger в списке.
+     */
+    private int fingerIndex;
+
+    /**
+     * Получатель метрик обходов и сортировок или null, если метрики не собираются.
+     */
+    private ListMetricsListener metrics;
+
     /**
      * Конструктор создает пустой список.
      */
     public MyLinkedList() {
         head = null;
+        tail = null;
         size = 0;
     }
 
@@ -29,7 +63,15 @@ public class MyLinkedList<T extends Comparable<? super T>> {
      * @param element элемент для добавления
      */
     public void add(T element) {
-        add(size, element);
+        Node<T> newNode = new Node<>(element);
+        if (tail == null) {
+            head = newNode;
+        } else {
+            newNode.prev = tail;
+            tail.next = newNode;
+        }
+        tail = newNode;
+        size++;
     }
 
     /**
@@ -44,18 +86,22 @@ public class MyLinkedList<T extends Comparable<? super T>> {
             throw new IndexOutOfBoundsException();
         }
 
+        if (index == size) {
+            add(element);
+            return;
+        }
+
+        Node<T> successor = node(index);
         Node<T> newNode = new Node<>(element);
-        if (index == 0) {
-            newNode.next = head;
+        newNode.next = successor;
+        newNode.prev = successor.prev;
+        if (successor.prev == null) {
             head = newNode;
         } else {
-            Node<T> current = head;
-            for (int i = 0; i < index - 1; i++) {
-                current = current.next;
-            }
-            newNode.next = current.next;
-            current.next = newNode;
+            successor.prev.next = newNode;
         }
+        successor.prev = newNode;
+        finger = newNode;
         size++;
     }
 
@@ -71,12 +117,7 @@ public class MyLinkedList<T extends Comparable<? super T>> {
             throw new IndexOutOfBoundsException();
         }
 
-        Node<T> current = head;
-        for (int i = 0; i < index; i++) {
-            current = current.next;
-        }
-
-        return current.data;
+        return node(index).data;
     }
 
     /**
@@ -99,14 +140,22 @@ public class MyLinkedList<T extends Comparable<? super T>> {
             throw new IndexOutOfBoundsException();
         }
 
-        if (index == 0) {
-            head = head.next;
+        Node<T> removed = node(index);
+        if (removed.prev == null) {
+            head = removed.next;
         } else {
-            Node<T> current = head;
-            for (int i = 0; i < index - 1; i++) {
-                current = current.next;
-            }
-            current.next = current.next.next;
+            removed.prev.next = removed.next;
+        }
+        if (removed.next == null) {
+            tail = removed.prev;
+        } else {
+            removed.next.prev = removed.prev;
+        }
+        if (removed.next != null) {
+            finger = removed.next;
+        } else {
+            finger = removed.prev;
+            fingerIndex--;
         }
         size--;
     }
@@ -116,9 +165,58 @@ public class MyLinkedList<T extends Comparable<? super T>> {
      */
     public void clear() {
         head = null;
+        tail = null;
+        finger = null;
         size = 0;
     }
 
+    /**
+     * Возвращает узел в указанной позиции и запоминает его в finger. Обход начинается с того из концов списка
+     * или узла finger, который ближе к индексу.
+     *
+     * @param index индекс узла, заведомо находящийся в диапазоне [0, size)
+     * @return узел в указанной позиции
+     */
+    private Node<T> node(long index) {
+        long start = metrics == null ? 0 : System.nanoTime();
+        Node<T> current;
+        long from;
+        if (index < (size >> 1)) {
+            current = head;
+            from = 0;
+        } else {
+            current = tail;
+            from = size - 1;
+        }
+        if (finger != null && Math.abs(index - fingerIndex) < Math.abs(index - from)) {
+            current = finger;
+            from = fingerIndex;
+        }
+        for (long i = from; i < index; i++) {
+            current = current.next;
+        }
+        for (long i = from; i > index; i--) {
+            current = current.prev;
+        }
+        finger = current;
+        fingerIndex = (int) index;
+        if (metrics != null) {
+            metrics.onTraversal(Math.abs(index - from), System.nanoTime() - start);
+        }
+        return current;
+    }
+
+    /**
+     * Подключает получатель метрик обходов при доступе по индексу и сортировок.
+     * Независимо от получателя сортировки публикуются как события JFR {@code org.example.ListSort},
+     * если они включены в записи.
+     *
+     * @param listener получатель метрик или null, чтобы отключить сбор
+     */
+    public void setMetricsListener(ListMetricsListener listener) {
+        metrics = listener;
+    }
+
     /**
      * Сортирует этот список согласно естественному порядку его элементов.
      */
@@ -128,77 +226,108 @@ public class MyLinkedList<T extends Comparable<? super T>> {
 
     /**
      * Сортирует этот список согласно порядку, определенному указанным компаратором.
+     * Используется устойчивая сортировка слиянием естественных серий прямо по цепочке узлов:
+     * каждый проход находит пары соседних неубывающих серий и сливает их, перевязывая ссылки узлов.
+     * Дополнительная память не выделяется, а уже отсортированный список обрабатывается за один проход.
      *
      * @param comparator компаратор для определения порядка списка. Значение null указывает на то, что должен быть использован естественный порядок элементов
      */
-    @SuppressWarnings("unchecked")
     public void sort(Comparator<? super T> comparator) {
         if (size > 1) {
-            Node<T>[] nodeArray = (Node<T>[]) new Node[size];
-            Node<T> current = head;
-            for (int i = 0; i < size; i++) {
-                nodeArray[i] = current;
-                current = current.next;
-            }
-
-            for (int width = 1; width < size; width = 2 * width) {
-                for (int i = 0; i < size; i = i + 2 * width) {
-                    int left = i;
-                    int right = Math.min(i + width, size);
-                    int end = Math.min(i + 2 * width, size);
-
-                    merge(nodeArray, left, right, end, comparator);
+            SortMeter<T> meter = new SortMeter<>(LIST_TYPE, "naturalMergeSort", size, comparator, metrics);
+            finger = null;
+            comparator = meter.comparator();
+            int runs;
+            do {
+                Node<T> rest = head;
+                Node<T> last = null;
+                runs = 0;
+                while (rest != null) {
+                    Node<T> first = rest;
+                    Node<T> firstEnd = runEnd(first, comparator);
+                    Node<T> second = firstEnd.next;
+                    if (second == null) {
+                        link(last, first);
+                        last = firstEnd;
+                        rest = null;
+                    } else {
+                        Node<T> secondEnd = runEnd(second, comparator);
+                        rest = secondEnd.next;
+                        firstEnd.next = null;
+                        secondEnd.next = null;
+                        last = merge(last, first, firstEnd, second, secondEnd, comparator);
+                    }
+                    runs++;
                 }
-            }
-
-            head = nodeArray[0];
-            current = head;
-            for (int i = 1; i < size; i++) {
-                current.next = nodeArray[i];
-                current = current.next;
-            }
-            current.next = null;
+                tail = last;
+            } while (runs > 1);
+            meter.finish();
         }
     }
 
     /**
-     * Объединяет два подмассива во время сортировки.
+     * Возвращает последний узел неубывающей серии, начинающейся с указанного узла.
      *
-     * @param nodeArray  массив узлов, представляющих подмассивы для объединения
-     * @param left       начальный индекс левого подмассива
-     * @param right      начальный индекс правого подмассива
-     * @param end        конечный индекс правого подмассива
+     * @param start      первый узел серии
      * @param comparator компаратор для определения порядка элементов
+     * @return последний узел серии
      */
-    @SuppressWarnings("unchecked")
-    private void merge(Node<T>[] nodeArray, int left, int right, int end, Comparator<? super T> comparator) {
-        int leftEnd = right - 1;
-        int tempPos = left;
-        Node<T>[] tempArray = (Node<T>[]) new Node[end - left];
-
-        int i = left;
-        int j = right;
-        int k = 0;
-
-        while (i <= leftEnd && j < end) {
-            if (comparator.compare(nodeArray[i].data, nodeArray[j].data) <= 0) {
-                tempArray[k++] = nodeArray[i++];
-            } else {
-                tempArray[k++] = nodeArray[j++];
-            }
+    private Node<T> runEnd(Node<T> start, Comparator<? super T> comparator) {
+        Node<T> end = start;
+        while (end.next != null && comparator.compare(end.next.data, end.data) >= 0) {
+            end = end.next;
         }
+        return end;
+    }
 
-        while (i <= leftEnd) {
-            tempArray[k++] = nodeArray[i++];
+    /**
+     * Сливает две отсортированные цепочки узлов и присоединяет результат после узла last.
+     * При равенстве элементов первым берется узел из первой цепочки, что сохраняет устойчивость.
+     *
+     * @param last        узел, после которого присоединяется результат, или null, если результат становится головой списка
+     * @param first       первый узел первой цепочки
+     * @param firstEnd    последний узел первой цепочки
+     * @param second      первый узел второй цепочки
+     * @param secondEnd   последний узел второй цепочки
+     * @param comparator  компаратор для определения порядка элементов
+     * @return последний узел объединенной цепочки
+     */
+    private Node<T> merge(Node<T> last, Node<T> first, Node<T> firstEnd, Node<T> second, Node<T> secondEnd,
+                          Comparator<? super T> comparator) {
+        while (first != null && second != null) {
+            Node<T> next;
+            if (comparator.compare(first.data, second.data) <= 0) {
+                next = first;
+                first = first.next;
+            } else {
+                next = second;
+                second = second.next;
+            }
+            link(last, next);
+            last = next;
         }
 
-        while (j < end) {
-            tempArray[k++] = nodeArray[j++];
+        if (first != null) {
+            link(last, first);
+            return firstEnd;
         }
+        link(last, second);
+        return secondEnd;
+    }
 
-        for (i = 0; i < k; i++, tempPos++) {
-            nodeArray[tempPos] = tempArray[i];
+    /**
+     * Присоединяет узел после узла last или делает его головой списка, если last равен null.
+     *
+     * @param last узел, после которого присоединяется node, или null
+     * @param node присоединяемый узел
+     */
+    private void link(Node<T> last, Node<T> node) {
+        if (last == null) {
+            head = node;
+        } else {
+            last.next = node;
         }
+        node.prev = last;
     }
 
     /**
@@ -221,6 +350,184 @@ public class MyLinkedList<T extends Comparable<? super T>> {
         return result;
     }
 
+    /**
+     * Записывает снимок этого списка в канал в компактном двоичном формате.
+     * Узлы обходятся по ссылкам, а закодированные элементы передаются в канал крупными блоками без промежуточного массива.
+     *
+     * @param channel канал, в который записывается снимок
+     * @param codec   кодек элементов
+     * @throws IOException          если запись в канал не удалась
+     * @throws NullPointerException если список содержит null
+     */
+    public void writeTo(WritableByteChannel channel, ElementCodec<? super T> codec) throws IOException {
+        SnapshotWriter<T> writer = new SnapshotWriter<>(channel, codec, size);
+        for (Node<T> current = head; current != null; current = current.next) {
+            writer.write(Objects.requireNonNull(current.data));
+        }
+        writer.finish();
+    }
+
+    /**
+     * Восстанавливает список из снимка, записанного {@link #writeTo(WritableByteChannel, ElementCodec)}.
+     *
+     * @param channel канал, из которого читается снимок
+     * @param codec   кодек элементов, которым снимок был записан
+     * @param <T>     тип элементов списка
+     * @return восстановленный список
+     * @throws IOException если чтение не удалось или данные не являются снимком списка
+     */
+    public static <T extends Comparable<? super T>> MyLinkedList<T> readFrom(ReadableByteChannel channel,
+                                                                           ElementCodec<T> codec) throws IOException {
+        SnapshotReader<T> reader = new SnapshotReader<>(channel, codec);
+        long count = reader.count();
+        if (count > Integer.MAX_VALUE) {
+            throw new IOException("Snapshot is too large for MyLinkedList: " + count);
+        }
+        MyLinkedList<T> list = new MyLinkedList<>();
+        for (long i = 0; i < count; i++) {
+            list.add(reader.read());
+        }
+        return list;
+    }
+
+    /**
+     * Возвращает итератор по элементам этого списка в правильной последовательности.
+     * Итератор переходит по ссылкам узлов, поэтому полный обход занимает O(n) в отличие от вызовов get по индексу.
+     *
+     * @return итератор по элементам этого списка
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private Node<T> current = head;
+
+            @Override
+            public boolean hasNext() {
+                return current != null;
+            }
+
+            @Override
+            public T next() {
+                if (current == null) {
+                    throw new NoSuchElementException();
+                }
+                T data = current.data;
+                current = current.next;
+                return data;
+            }
+        };
+    }
+
+    /**
+     * Возвращает сплитератор по элементам этого списка. При разделении сплитератор переносит очередную порцию
+     * узлов в массив и отдает ее как отдельный сплитератор по массиву; размер порции растет с каждым разделением,
+     * поэтому параллельные потоки получают достаточно работы на каждое ядро.
+     *
+     * @return сплитератор с характеристиками ORDERED, SIZED и SUBSIZED
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new LinkedSpliterator<>(head, size);
+    }
+
+    /**
+     * Возвращает последовательный поток элементов этого списка.
+     *
+     * @return поток элементов этого списка
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Возвращает параллельный поток элементов этого списка.
+     *
+     * @return параллельный поток элементов этого списка
+     */
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Сплитератор по цепочке узлов, отделяющий порции элементов в массивы.
+     *
+     * @param <T> тип элементов
+     */
+    private static final class LinkedSpliterator<T> implements Spliterator<T> {
+        /**
+         * Шаг роста размера порции при каждом разделении.
+         */
+        private static final int BATCH_UNIT = 1 << 10;
+
+        /**
+         * Максимальный размер порции.
+         */
+        private static final int MAX_BATCH = 1 << 25;
+
+        private Node<T> current;
+        private int remaining;
+        private int batch;
+
+        LinkedSpliterator(Node<T> current, int remaining) {
+            this.current = current;
+            this.remaining = remaining;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            if (remaining <= 1) {
+                return null;
+            }
+            int n = Math.min(Math.min(batch + BATCH_UNIT, MAX_BATCH), remaining);
+            Object[] array = new Object[n];
+            Node<T> node = current;
+            for (int j = 0; j < n; j++) {
+                array[j] = node.data;
+                node = node.next;
+            }
+            current = node;
+            remaining -= n;
+            batch = n;
+            return Spliterators.spliterator(array, 0, n, Spliterator.ORDERED);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            if (remaining > 0) {
+                T data = current.data;
+                current = current.next;
+                remaining--;
+                action.accept(data);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            Node<T> node = current;
+            int n = remaining;
+            current = null;
+            remaining = 0;
+            for (int j = 0; j < n; j++) {
+                action.accept(node.data);
+                node = node.next;
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return remaining;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
     /**
      * Узел, используемый в связном списке для хранения элементов.
      *
@@ -229,15 +536,17 @@ public class MyLinkedList<T extends Comparable<? super T>> {
     private static class Node<T> {
         T data;
         Node<T> next;
+        Node<T> prev;
 
         /**
-         * Конструктор создает узел с указанным элементом и следующим узлом.
+         * Конструктор создает узел с указанным элементом без соседних узлов.
          *
          * @param data элемент, который будет храниться в узле
          */
         Node(T data) {
             this.data = data;
             this.next = null;
+            this.prev = null;
         }
     }
 }
@@ -0,0 +1,372 @@
+package org.example;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Класс MyLongArrayList представляет собой вариант {@link MyArrayList}, специализированный для значений типа long.
+ * Элементы хранятся в массиве long[] без упаковки в объекты, поэтому список занимает в несколько раз меньше памяти,
+ * а сравнения при сортировке не требуют обращения по ссылке и вызова compareTo.
+ * <p>
+ * Сумма, минимум, максимум, поиск и отбор по диапазону значений выполняются ядрами {@link VectorSupport#KERNELS}:
+ * векторными ядрами Vector API в сборке с профилем {@code vector} и при запуске с
+ * {@code --add-modules jdk.incubator.vector}, и скалярными циклами иначе.
+ */
+public class MyLongArrayList {
+    /**
+     * Списки короче этого порога сортируются быстрой сортировкой вместо поразрядной.
+     */
+    private static final int RADIX_SORT_THRESHOLD = 256;
+
+    /**
+     * Участки не длиннее этого порога быстрая сортировка упорядочивает вставками.
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    private long[] elements;
+    private int size;
+
+    /**
+     * Конструктор для создания пустого списка MyLongArrayList с начальной размером.
+     */
+    public MyLongArrayList() {
+        elements = new long[10];
+        size = 0;
+    }
+
+    /**
+     * Добавляет элемент в конец списка.
+     *
+     * @param element Элемент для добавления.
+     */
+    public void add(long element) {
+        if (size == elements.length) {
+            increaseCapacity();
+        }
+        elements[size++] = element;
+    }
+
+    /**
+     * Добавляет элемент в указанную позицию в списке.
+     *
+     * @param index   Индекс, куда должен быть добавлен элемент.
+     * @param element Элемент для добавления.
+     * @throws IndexOutOfBoundsException если индекс находится вне диапазона (index &lt; 0 || index > size).
+     */
+    public void add(int index, long element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        if (size == elements.length) {
+            increaseCapacity();
+        }
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = element;
+        size++;
+    }
+
+    /**
+     * Возвращает элемент по указанному индексу.
+     *
+     * @param index Индекс запрашиваемого элемента.
+     * @return Элемент на указанной позиции в списке.
+     * @throws IndexOutOfBoundsException если индекс находится вне диапазона (index &lt; 0 || index >= size).
+     */
+    public long get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        return elements[index];
+    }
+
+    /**
+     * Возвращает количество элементов в списке.
+     *
+     * @return Количество элементов в списке.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Удаляет элемент по указанному индексу из списка.
+     *
+     * @param index Индекс удаляемого элемента.
+     * @throws IndexOutOfBoundsException если индекс находится вне диапазона (index &lt; 0 || index >= size).
+     */
+    public void remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        int numMoved = size - index - 1;
+        if (numMoved > 0) {
+            System.arraycopy(elements, index + 1, elements, index, numMoved);
+        }
+        size--;
+    }
+
+    /**
+     * Очищает список, удаляя все элементы из него.
+     * Примитивные значения не удерживают объектов, поэтому обнулять массив не нужно.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Сортирует список по возрастанию поразрядной сортировкой (LSD, по одному байту за проход).
+     * Проходы, в которых у всех элементов совпадает текущий байт, пропускаются.
+     * Короткие списки сортируются быстрой сортировкой.
+     */
+    public void sort() {
+        if (size < RADIX_SORT_THRESHOLD) {
+            quickSort();
+        } else {
+            radixSort(elements, size);
+        }
+    }
+
+    /**
+     * Выполняет быструю сортировку списка по возрастанию.
+     * Как и {@link MyArrayList#quickSort()}, использует интроспективную сортировку
+     * с трехпутевым разбиением и переходом на пирамидальную сортировку при слишком глубоком разбиении.
+     */
+    public void quickSort() {
+        if (size > 1) {
+            introSort(elements, 0, size - 1, 2 * (31 - Integer.numberOfLeadingZeros(size)));
+        }
+    }
+
+    /**
+     * Возвращает сумму элементов списка.
+     * При переполнении сумма, как и {@link java.util.stream.LongStream#sum()}, берется по модулю 2<sup>64</sup>.
+     *
+     * @return Сумма элементов списка или 0 для пустого списка.
+     */
+    public long sum() {
+        return VectorSupport.KERNELS.sum(elements, size);
+    }
+
+    /**
+     * Возвращает наименьший элемент списка.
+     *
+     * @return Наименьший элемент списка.
+     * @throws NoSuchElementException если список пуст.
+     */
+    public long min() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+
+        return VectorSupport.KERNELS.min(elements, size);
+    }
+
+    /**
+     * Возвращает наибольший элемент списка.
+     *
+     * @return Наибольший элемент списка.
+     * @throws NoSuchElementException если список пуст.
+     */
+    public long max() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+
+        return VectorSupport.KERNELS.max(elements, size);
+    }
+
+    /**
+     * Возвращает индекс первого вхождения значения в список.
+     *
+     * @param value Искомое значение.
+     * @return Индекс первого вхождения или -1, если значения в списке нет.
+     */
+    public int indexOf(long value) {
+        return VectorSupport.KERNELS.indexOf(elements, size, value);
+    }
+
+    /**
+     * Возвращает количество элементов, значения которых попадают в диапазон [from, to).
+     *
+     * @param from Нижняя граница диапазона включительно.
+     * @param to   Верхняя граница диапазона не включительно.
+     * @return Количество элементов в диапазоне.
+     */
+    public int count(long from, long to) {
+        return VectorSupport.KERNELS.count(elements, size, from, to);
+    }
+
+    /**
+     * Добавляет в конец списка target все элементы этого списка из диапазона значений [from, to), сохраняя их порядок.
+     * Емкость target расширяется один раз до размера, достаточного для худшего случая.
+     *
+     * @param from   Нижняя граница диапазона включительно.
+     * @param to     Верхняя граница диапазона не включительно.
+     * @param target Список, в который добавляются элементы. Может совпадать с этим списком.
+     * @return Количество добавленных элементов.
+     */
+    public int filterInto(long from, long to, MyLongArrayList target) {
+        int count = size;
+        if (target.elements.length - target.size < count) {
+            int capacity = Math.max(target.elements.length * 2, target.size + count);
+            target.elements = Arrays.copyOf(target.elements, capacity);
+        }
+        int added = VectorSupport.KERNELS.filter(elements, count, from, to, target.elements, target.size);
+        target.size += added;
+        return added;
+    }
+
+    /**
+     * Возвращает массив всех элементов списка.
+     *
+     * @return Массив содержащий все элементы списка.
+     */
+    public long[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    /**
+     * Увеличивает емкость внутреннего массива элементов, чтобы вместить больше элементов.
+     */
+    private void increaseCapacity() {
+        elements = Arrays.copyOf(elements, elements.length * 2);
+    }
+
+    /**
+     * Сортирует первые n элементов массива поразрядной сортировкой.
+     * Старший байт сравнивается с инвертированным знаковым битом, чтобы отрицательные числа шли первыми.
+     */
+    private static void radixSort(long[] a, int n) {
+        long[] src = a;
+        long[] dst = new long[n];
+        int[] count = new int[256];
+        for (int shift = 0; shift < Long.SIZE; shift += 8) {
+            int flip = shift == Long.SIZE - 8 ? 0x80 : 0;
+            Arrays.fill(count, 0);
+            for (int i = 0; i < n; i++) {
+                count[(int) ((src[i] >>> shift) & 0xFF) ^ flip]++;
+            }
+            if (count[(int) ((src[0] >>> shift) & 0xFF) ^ flip] == n) {
+                continue;
+            }
+
+            int sum = 0;
+            for (int b = 0; b < count.length; b++) {
+                int c = count[b];
+                count[b] = sum;
+                sum += c;
+            }
+            for (int i = 0; i < n; i++) {
+                long value = src[i];
+                dst[count[(int) ((value >>> shift) & 0xFF) ^ flip]++] = value;
+            }
+
+            long[] t = src;
+            src = dst;
+            dst = t;
+        }
+        if (src != a) {
+            System.arraycopy(src, 0, a, 0, n);
+        }
+    }
+
+    /**
+     * Сортирует участок [low, high] с ограничением глубины разбиений.
+     */
+    private static void introSort(long[] a, int low, int high, int depthLimit) {
+        while (high - low + 1 > INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                heapSort(a, low, high + 1);
+                return;
+            }
+
+            long pivot = a[medianOfThree(a, low, (low + high) >>> 1, high)];
+            int lt = low;
+            int i = low;
+            int gt = high;
+            while (i <= gt) {
+                long value = a[i];
+                if (value < pivot) {
+                    swap(a, lt++, i++);
+                } else if (value > pivot) {
+                    swap(a, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+
+            if (lt - low < high - gt) {
+                introSort(a, low, lt - 1, depthLimit);
+                low = gt + 1;
+            } else {
+                introSort(a, gt + 1, high, depthLimit);
+                high = lt - 1;
+            }
+        }
+        insertionSort(a, low, high + 1);
+    }
+
+    private static int medianOfThree(long[] a, int i, int j, int k) {
+        if (a[i] < a[j]) {
+            if (a[j] < a[k]) {
+                return j;
+            }
+            return a[i] < a[k] ? k : i;
+        }
+        if (a[j] > a[k]) {
+            return j;
+        }
+        return a[i] > a[k] ? k : i;
+    }
+
+    private static void insertionSort(long[] a, int lo, int hi) {
+        for (int i = lo + 1; i < hi; i++) {
+            long x = a[i];
+            int j = i - 1;
+            while (j >= lo && a[j] > x) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = x;
+        }
+    }
+
+    private static void heapSort(long[] a, int lo, int hi) {
+        int n = hi - lo;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(a, lo, i, n);
+        }
+        for (int end = n - 1; end > 0; end--) {
+            swap(a, lo, lo + end);
+            siftDown(a, lo, 0, end);
+        }
+    }
+
+    private static void siftDown(long[] a, int base, int i, int n) {
+        long x = a[base + i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= n) {
+                break;
+            }
+            if (child + 1 < n && a[base + child + 1] > a[base + child]) {
+                child++;
+            }
+            if (a[base + child] <= x) {
+                break;
+            }
+            a[base + i] = a[base + child];
+            i = child;
+        }
+        a[base + i] = x;
+    }
+
+    private static void swap(long[] a, int i, int j) {
+        long temp = a[i];
+        a[i] = a[j];
+        a[j] = temp;
+    }
+}
@@ -0,0 +1,329 @@
+package org.example;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Класс MyMappedArrayList представляет собой список с API в духе {@link MyArrayList}, содержимое которого
+ * хранится в файле, отображенном в память. Элементы кодируются {@link FixedWidthCodec} в записи фиксированной длины,
+ * а в заголовке файла хранятся длина записи, размер и емкость списка.
+ * <p>
+ * Повторное открытие файла занимает время, не зависящее от количества элементов: данные подгружаются
+ * страничным кэшем операционной системы по мере обращения к ним. При заполнении файл увеличивается вдвое
+ * и отображается заново. Размер отображения ограничен Integer.MAX_VALUE байт.
+ * <p>
+ * Изменения попадают в страничный кэш сразу, а на диск - при вызове {@link #force()}, {@link #close()}
+ * или по усмотрению операционной системы. Класс не является потокобезопасным.
+ *
+ * @param <T> Тип элементов, которые будут храниться в списке. Должен быть сравнимым.
+ */
+public class MyMappedArrayList<T extends Comparable<? super T>> implements Closeable {
+    /**
+     * Сигнатура файла списка ("MYLS").
+     */
+    private static final int MAGIC = 0x4D594C53;
+
+    private static final int VERSION = 1;
+
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int WIDTH_OFFSET = 8;
+    private static final int SIZE_OFFSET = 12;
+    private static final int CAPACITY_OFFSET = 16;
+
+    /**
+     * Длина заголовка; данные начинаются с выровненного смещения.
+     */
+    private static final int HEADER_SIZE = 32;
+
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private final FileChannel channel;
+    private final FixedWidthCodec<T> codec;
+    private final int width;
+    private MappedByteBuffer mapping;
+    private ByteBuffer data;
+    private int capacity;
+    private int size;
+    private boolean closed;
+
+    private MyMappedArrayList(FileChannel channel, FixedWidthCodec<T> codec) {
+        this.channel = channel;
+        this.codec = codec;
+        this.width = codec.width();
+    }
+
+    /**
+     * Открывает список, хранящийся в указанном файле, или создает новый пустой список, если файла нет или он пуст.
+     *
+     * @param file  Путь к файлу списка.
+     * @param codec Кодек элементов; его длина записи должна совпадать с длиной, записанной в файле.
+     * @param <T>   Тип элементов списка.
+     * @return Открытый список.
+     * @throws IOException если файл не удалось открыть или он не является файлом списка с такой длиной записи.
+     */
+    public static <T extends Comparable<? super T>> MyMappedArrayList<T> open(Path file, FixedWidthCodec<T> codec)
+            throws IOException {
+        Objects.requireNonNull(codec);
+        if (codec.width() <= 0) {
+            throw new IllegalArgumentException("Codec width must be positive: " + codec.width());
+        }
+        FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            MyMappedArrayList<T> list = new MyMappedArrayList<>(channel, codec);
+            if (channel.size() == 0) {
+                list.initialize();
+            } else {
+                list.load();
+            }
+            return list;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Добавляет элемент в конец списка.
+     *
+     * @param element Элемент для добавления.
+     */
+    public void add(T element) {
+        ensureOpen();
+        Objects.requireNonNull(element);
+        if (size == capacity) {
+            increaseCapacity();
+        }
+        codec.encode(element, data, size * width);
+        setSize(size + 1);
+    }
+
+    /**
+     * Добавляет элемент в указанную позицию в списке. Последующие записи сдвигаются одним блочным копированием.
+     *
+     * @param index   Индекс, куда должен быть добавлен элемент.
+     * @param element Элемент для добавления.
+     * @throws IndexOutOfBoundsException если индекс находится вне диапазона (index &lt; 0 || index > size).
+     */
+    public void add(int index, T element) {
+        ensureOpen();
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        Objects.requireNonNull(element);
+
+        if (size == capacity) {
+            increaseCapacity();
+        }
+        data.put((index + 1) * width, data, index * width, (size - index) * width);
+        codec.encode(element, data, index * width);
+        setSize(size + 1);
+    }
+
+    /**
+     * Возвращает элемент по указанному индексу, декодируя его запись.
+     *
+     * @param index Индекс запрашиваемого элемента.
+     * @return Элемент на указанной позиции в списке.
+     * @throws IndexOutOfBoundsException если индекс находится вне диапазона (index &lt; 0 || index >= size).
+     */
+    public T get(int index) {
+        ensureOpen();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        return codec.decode(data, index * width);
+    }
+
+    /**
+     * Возвращает количество элементов в списке.
+     *
+     * @return Количество элементов в списке.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Удаляет элемент по указанному индексу из списка.
+     *
+     * @param index Индекс удаляемого элемента.
+     * @throws IndexOutOfBoundsException если индекс находится вне диапазона (index &lt; 0 || index >= size).
+     */
+    public void remove(int index) {
+        ensureOpen();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        data.put(index * width, data, (index + 1) * width, (size - index - 1) * width);
+        setSize(size - 1);
+    }
+
+    /**
+     * Очищает список. Размер файла при этом не меняется.
+     */
+    public void clear() {
+        ensureOpen();
+        setSize(0);
+    }
+
+    /**
+     * Сортирует список на месте прямо в отображенном файле в естественном порядке элементов.
+     * Записи сравниваются кодеком без декодирования; используется интроспективная сортировка,
+     * которой не нужен дополнительный буфер. Сортировка неустойчива.
+     */
+    public void sort() {
+        ensureOpen();
+        RecordSort.introSort(data, size, width, codec::compare);
+    }
+
+    /**
+     * Сортирует список на месте прямо в отображенном файле с использованием заданного компаратора.
+     * Для сравнения записи декодируются во временные объекты. Сортировка неустойчива.
+     *
+     * @param comparator Компаратор, используемый для сравнения элементов списка.
+     */
+    public void sort(Comparator<? super T> comparator) {
+        ensureOpen();
+        Objects.requireNonNull(comparator);
+        RecordSort.introSort(data, size, width,
+                (a, offsetA, b, offsetB) -> comparator.compare(codec.decode(a, offsetA), codec.decode(b, offsetB)));
+    }
+
+    /**
+     * Возвращает массив всех элементов списка.
+     *
+     * @return Массив содержащий все элементы списка.
+     */
+    @SuppressWarnings("unchecked")
+    public T[] toArray() {
+        ensureOpen();
+        T[] result = (T[]) new Comparable[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = codec.decode(data, i * width);
+        }
+        return result;
+    }
+
+    /**
+     * Принудительно записывает изменения содержимого списка на диск.
+     */
+    public void force() {
+        ensureOpen();
+        mapping.force();
+    }
+
+    /**
+     * Записывает изменения на диск и закрывает файл. Повторный вызов ничего не делает.
+     *
+     * @throws IOException если файл не удалось закрыть.
+     */
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            mapping.force();
+            channel.close();
+        }
+    }
+
+    /**
+     * Записывает заголовок нового списка и отображает файл.
+     */
+    private void initialize() throws IOException {
+        map(DEFAULT_CAPACITY);
+        mapping.putInt(MAGIC_OFFSET, MAGIC);
+        mapping.putInt(VERSION_OFFSET, VERSION);
+        mapping.putInt(WIDTH_OFFSET, width);
+        mapping.putInt(CAPACITY_OFFSET, capacity);
+        setSize(0);
+    }
+
+    /**
+     * Проверяет заголовок существующего файла и отображает его.
+     */
+    private void load() throws IOException {
+        if (channel.size() < HEADER_SIZE) {
+            throw new IOException("File is too short to be a list file");
+        }
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        while (header.hasRemaining()) {
+            if (channel.read(header, header.position()) < 0) {
+                throw new IOException("Unexpected end of file");
+            }
+        }
+        if (header.getInt(MAGIC_OFFSET) != MAGIC) {
+            throw new IOException("Not a list file");
+        }
+        if (header.getInt(VERSION_OFFSET) != VERSION) {
+            throw new IOException("Unsupported list file version: " + header.getInt(VERSION_OFFSET));
+        }
+        if (header.getInt(WIDTH_OFFSET) != width) {
+            throw new IOException("Record width mismatch: file has " + header.getInt(WIDTH_OFFSET)
+                    + ", codec has " + width);
+        }
+        int storedCapacity = header.getInt(CAPACITY_OFFSET);
+        int storedSize = header.getInt(SIZE_OFFSET);
+        if (storedCapacity < 0 || storedSize < 0 || storedSize > storedCapacity
+                || storedCapacity > maxCapacity() || channel.size() < HEADER_SIZE + (long) storedCapacity * width) {
+            throw new IOException("Corrupted list file header");
+        }
+        map(storedCapacity);
+        size = storedSize;
+    }
+
+    /**
+     * Увеличивает емкость списка вдвое, расширяя файл и отображая его заново.
+     */
+    private void increaseCapacity() {
+        int max = maxCapacity();
+        if (capacity == max) {
+            throw new OutOfMemoryError("Mapped list capacity exceeded");
+        }
+        int newCapacity = (int) Math.min(Math.max(2L * capacity, DEFAULT_CAPACITY), max);
+        try {
+            map(newCapacity);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        mapping.putInt(CAPACITY_OFFSET, capacity);
+    }
+
+    /**
+     * Отображает заголовок и область данных указанной емкости; файл при необходимости удлиняется.
+     */
+    private void map(int newCapacity) throws IOException {
+        int dataBytes = newCapacity * width;
+        mapping = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + dataBytes);
+        mapping.order(ByteOrder.LITTLE_ENDIAN);
+        data = mapping.slice(HEADER_SIZE, dataBytes).order(ByteOrder.LITTLE_ENDIAN);
+        capacity = newCapacity;
+    }
+
+    private void setSize(int newSize) {
+        size = newSize;
+        mapping.putInt(SIZE_OFFSET, newSize);
+    }
+
+    private int maxCapacity() {
+        return (Integer.MAX_VALUE - HEADER_SIZE) / width;
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("List is closed");
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package org.example;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Класс MyOffHeapList представляет собой список с API в духе {@link MyArrayList}, хранящий элементы вне кучи.
+ * Каждый элемент кодируется заданным {@link FixedWidthCodec} в запись фиксированной длины внутри прямого
+ * {@link ByteBuffer}, поэтому сборщик мусора не обходит содержимое списка, сколько бы элементов в нем ни было.
+ * Объекты-элементы создаются только при чтении через {@link #get(int)} и {@link #toArray()}.
+ * <p>
+ * При заполнении буфер перевыделяется с удвоением емкости и копированием байтов. Общий объем данных
+ * ограничен максимальным размером одного прямого буфера (Integer.MAX_VALUE байт).
+ *
+ * @param <T> Тип элементов, которые будут храниться в списке. Должен быть сравнимым.
+ */
+public class MyOffHeapList<T extends Comparable<? super T>> {
+    private final FixedWidthCodec<T> codec;
+    private final int width;
+    private ByteBuffer buffer;
+    private int capacity;
+    private int size;
+
+    /**
+     * Конструктор для создания пустого списка MyOffHeapList с начальной емкостью в 10 элементов.
+     *
+     * @param codec Кодек элементов.
+     */
+    public MyOffHeapList(FixedWidthCodec<T> codec) {
+        this(codec, 10);
+    }
+
+    /**
+     * Конструктор для создания пустого списка MyOffHeapList с заданной начальной емкостью.
+     *
+     * @param codec           Кодек элементов.
+     * @param initialCapacity Начальная емкость списка в элементах.
+     * @throws IllegalArgumentException если начальная емкость отрицательна или данные не помещаются в один буфер.
+     */
+    public MyOffHeapList(FixedWidthCodec<T> codec, int initialCapacity) {
+        this.codec = Objects.requireNonNull(codec);
+        this.width = codec.width();
+        if (width <= 0) {
+            throw new IllegalArgumentException("Codec width must be positive: " + width);
+        }
+        if (initialCapacity < 0 || initialCapacity > maxCapacity()) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        this.buffer = allocate(initialCapacity);
+        this.capacity = initialCapacity;
+        this.size = 0;
+    }
+
+    /**
+     * Добавляет элемент в конец списка.
+     *
+     * @param element Элемент для добавления.
+     */
+    public void add(T element) {
+        Objects.requireNonNull(element);
+        if (size == capacity) {
+            increaseCapacity();
+        }
+        codec.encode(element, buffer, size * width);
+        size++;
+    }
+
+    /**
+     * Добавляет элемент в указанную позицию в списке. Последующие записи сдвигаются одним блочным копированием байтов.
+     *
+     * @param index   Индекс, куда должен быть добавлен элемент.
+     * @param element Элемент для добавления.
+     * @throws IndexOutOfBoundsException если индекс находится вне диапазона (index &lt; 0 || index > size).
+     */
+    public void add(int index, T element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        Objects.requireNonNull(element);
+
+        if (size == capacity) {
+            increaseCapacity();
+        }
+        buffer.put((index + 1) * width, buffer, index * width, (size - index) * width);
+        codec.encode(element, buffer, index * width);
+        size++;
+    }
+
+    /**
+     * Возвращает элемент по указанному индексу, декодируя его запись.
+     *
+     * @param index Индекс запрашиваемого элемента.
+     * @return Элемент на указанной позиции в списке.
+     * @throws IndexOutOfBoundsException если индекс находится вне диапазона (index &lt; 0 || index >= size).
+     */
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        return codec.decode(buffer, index * width);
+    }
+
+    /**
+     * Возвращает количество элементов в списке.
+     *
+     * @return Количество элементов в списке.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Удаляет элемент по указанному индексу из списка.
+     *
+     * @param index Индекс удаляемого элемента.
+     * @throws IndexOutOfBoundsException если индекс находится вне диапазона (index &lt; 0 || index >= size).
+     */
+    public void remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        buffer.put(index * width, buffer, (index + 1) * width, (size - index - 1) * width);
+        size--;
+    }
+
+    /**
+     * Очищает список. Записи не обнуляются: они не содержат ссылок и будут перезаписаны новыми элементами.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Сортирует список устойчивой сортировкой слиянием в естественном порядке элементов.
+     * Записи сравниваются кодеком прямо в закодированном виде, а вспомогательный буфер тоже выделяется вне кучи.
+     */
+    public void sort() {
+        sort(codec::compare);
+    }
+
+    /**
+     * Сортирует список устойчивой сортировкой слиянием с использованием заданного компаратора.
+     * Для сравнения записи декодируются во временные объекты.
+     *
+     * @param comparator Компаратор, используемый для сравнения элементов списка.
+     */
+    public void sort(Comparator<? super T> comparator) {
+        Objects.requireNonNull(comparator);
+        sort((a, offsetA, b, offsetB) -> comparator.compare(codec.decode(a, offsetA), codec.decode(b, offsetB)));
+    }
+
+    /**
+     * Сортирует записи списка и, если результат оказался во вспомогательном буфере, делает его основным.
+     */
+    private void sort(RecordSort.RecordComparator comparator) {
+        if (size > 1) {
+            ByteBuffer sorted = RecordSort.mergeSort(buffer, allocate(size), size, width, comparator);
+            if (sorted != buffer) {
+                buffer = sorted;
+                capacity = size;
+            }
+        }
+    }
+
+    /**
+     * Возвращает массив всех элементов списка.
+     *
+     * @return Массив содержащий все элементы списка.
+     */
+    @SuppressWarnings("unchecked")
+    public T[] toArray() {
+        T[] result = (T[]) new Comparable[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = codec.decode(buffer, i * width);
+        }
+        return result;
+    }
+
+    /**
+     * Увеличивает емкость списка вдвое, перенося записи в новый прямой буфер одним блочным копированием.
+     *
+     * @throws OutOfMemoryError если данные больше не помещаются в один буфер.
+     */
+    private void increaseCapacity() {
+        int max = maxCapacity();
+        if (capacity == max) {
+            throw new OutOfMemoryError("Off-heap list capacity exceeded");
+        }
+        int newCapacity = (int) Math.min(Math.max(2L * capacity, 10), max);
+        ByteBuffer copy = allocate(newCapacity);
+        copy.put(0, buffer, 0, size * width);
+        buffer = copy;
+        capacity = newCapacity;
+    }
+
+    /**
+     * Возвращает максимальное количество записей, которое помещается в один буфер.
+     */
+    private int maxCapacity() {
+        return Integer.MAX_VALUE / width;
+    }
+
+    /**
+     * Выделяет прямой буфер под указанное количество записей с нативным порядком байтов.
+     */
+    private ByteBuffer allocate(int records) {
+        return ByteBuffer.allocateDirect(records * width).order(ByteOrder.nativeOrder());
+    }
+}
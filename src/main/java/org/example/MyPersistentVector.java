@@ -0,0 +1,898 @@
+package org.example;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Неизменяемый персистентный список с семантикой элементов {@link MyArrayList}.
+ * <p>
+ * Элементы хранятся в 32-ичном префиксном дереве, листья которого - массивы до 32 элементов, а последние
+ * элементы списка накапливаются в отдельном хвостовом массиве. Операции {@link #add(Comparable)},
+ * {@link #set(int, Comparable)}, {@link #remove(int)} и другие не меняют список, а возвращают новую версию,
+ * которая копирует только путь от корня до измененного листа (O(log<sub>32</sub> n)) и разделяет с исходной
+ * версией все остальные узлы. Поэтому снимок списка для передачи другому потоку стоит O(1): это сам список.
+ * <p>
+ * Дерево ослабленное (RRB): узел, у которого не все дочерние поддеревья, кроме последнего, заполнены полностью,
+ * хранит таблицу накопленных размеров детей. Это позволяет выполнять {@link #slice(int, int)} и
+ * {@link #concat(MyPersistentVector)} за O(log n) с перебалансировкой только узлов на стыке, а не копировать
+ * элементы. Для быстрого построения большого списка используется изменяемый {@link Builder}.
+ * <p>
+ * Экземпляры неизменяемы и потокобезопасны.
+ *
+ * @param <T> Тип элементов списка. Должен быть сравнимым.
+ */
+public final class MyPersistentVector<T extends Comparable<? super T>> implements Iterable<T> {
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    /**
+     * Допустимое превышение числа узлов над минимально возможным после перебалансировки стыка.
+     */
+    private static final int EXTRAS = 2;
+
+    private static final Object[] EMPTY_LEAF = new Object[0];
+    private static final Node EMPTY_ROOT = new Node(new Object[0], null);
+    private static final MyPersistentVector<?> EMPTY = new MyPersistentVector<>(0, 1, EMPTY_ROOT, EMPTY_LEAF);
+
+    private final int size;
+
+    /**
+     * Высота корня: узлы уровня 1 содержат листья, листья имеют уровень 0.
+     */
+    private final int level;
+
+    private final Node root;
+    private final Object[] tail;
+
+    private MyPersistentVector(int size, int level, Node root, Object[] tail) {
+        this.size = size;
+        this.level = level;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * Возвращает пустой список.
+     *
+     * @param <T> Тип элементов списка.
+     * @return Пустой список.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Comparable<? super T>> MyPersistentVector<T> empty() {
+        return (MyPersistentVector<T>) EMPTY;
+    }
+
+    /**
+     * Создает изменяемый построитель для быстрого заполнения нового списка.
+     *
+     * @param <T> Тип элементов списка.
+     * @return Пустой построитель.
+     */
+    public static <T extends Comparable<? super T>> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Возвращает элемент по указанному индексу.
+     *
+     * @param index Индекс запрашиваемого элемента.
+     * @return Элемент на указанной позиции в списке.
+     * @throws IndexOutOfBoundsException если индекс находится вне диапазона (index &lt; 0 || index >= size).
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        int tailOffset = size - tail.length;
+        if (index >= tailOffset) {
+            return (T) tail[index - tailOffset];
+        }
+        Object node = root;
+        for (int l = level; l > 0; l--) {
+            Node n = (Node) node;
+            int shift = BITS * l;
+            int slot = (index >>> shift) & MASK;
+            if (n.sizes == null) {
+                index &= (1 << shift) - 1;
+            } else {
+                while (n.sizes[slot] <= index) {
+                    slot++;
+                }
+                if (slot > 0) {
+                    index -= n.sizes[slot - 1];
+                }
+            }
+            node = n.children[slot];
+        }
+        return (T) ((Object[]) node)[index];
+    }
+
+    /**
+     * Возвращает количество элементов в списке.
+     *
+     * @return Количество элементов в списке.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Возвращает новую версию списка с элементом, добавленным в конец.
+     * Обычно копируется только хвостовой массив; раз в 32 добавления он переносится в дерево.
+     *
+     * @param element Элемент для добавления.
+     * @return Новая версия списка.
+     */
+    public MyPersistentVector<T> add(T element) {
+        if (tail.length < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = element;
+            return new MyPersistentVector<>(size + 1, level, root, newTail);
+        }
+        MyPersistentVector<T> pushed = withTailPushed();
+        return new MyPersistentVector<>(size + 1, pushed.level, pushed.root, new Object[]{element});
+    }
+
+    /**
+     * Возвращает новую версию списка с элементом, вставленным в указанную позицию.
+     * Вставка в середину выполняется как разрез списка и склейка частей за O(log n).
+     *
+     * @param index   Индекс, куда должен быть добавлен элемент.
+     * @param element Элемент для добавления.
+     * @return Новая версия списка.
+     * @throws IndexOutOfBoundsException если индекс находится вне диапазона (index &lt; 0 || index > size).
+     */
+    public MyPersistentVector<T> add(int index, T element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        if (index == size) {
+            return add(element);
+        }
+        return slice(0, index).add(element).concat(slice(index, size));
+    }
+
+    /**
+     * Возвращает новую версию списка, в которой элемент по указанному индексу заменен.
+     *
+     * @param index   Индекс заменяемого элемента.
+     * @param element Новый элемент.
+     * @return Новая версия списка.
+     * @throws IndexOutOfBoundsException если индекс находится вне диапазона (index &lt; 0 || index >= size).
+     */
+    public MyPersistentVector<T> set(int index, T element) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        int tailOffset = size - tail.length;
+        if (index >= tailOffset) {
+            Object[] newTail = tail.clone();
+            newTail[index - tailOffset] = element;
+            return new MyPersistentVector<>(size, level, root, newTail);
+        }
+        return new MyPersistentVector<>(size, level, setIn(root, level, index, element), tail);
+    }
+
+    /**
+     * Возвращает новую версию списка без элемента по указанному индексу.
+     * Удаление из хвостового массива копирует только его, удаление из дерева выполняется разрезом и склейкой.
+     *
+     * @param index Индекс удаляемого элемента.
+     * @return Новая версия списка.
+     * @throws IndexOutOfBoundsException если индекс находится вне диапазона (index &lt; 0 || index >= size).
+     */
+    public MyPersistentVector<T> remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        int tailOffset = size - tail.length;
+        if (index >= tailOffset) {
+            Object[] newTail = new Object[tail.length - 1];
+            int inTail = index - tailOffset;
+            System.arraycopy(tail, 0, newTail, 0, inTail);
+            System.arraycopy(tail, inTail + 1, newTail, inTail, newTail.length - inTail);
+            return new MyPersistentVector<>(size - 1, level, root, newTail);
+        }
+        return slice(0, index).concat(slice(index + 1, size));
+    }
+
+    /**
+     * Возвращает список из элементов с индексами от fromIndex (включительно) до toIndex (не включительно).
+     * Копируются только узлы на границах разреза, остальные узлы разделяются с исходным списком.
+     *
+     * @param fromIndex Индекс первого элемента.
+     * @param toIndex   Индекс, следующий за последним элементом.
+     * @return Новый список.
+     * @throws IndexOutOfBoundsException если fromIndex &lt; 0, toIndex > size или fromIndex > toIndex.
+     */
+    public MyPersistentVector<T> slice(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        if (fromIndex == toIndex) {
+            return empty();
+        }
+        return take(toIndex).drop(fromIndex);
+    }
+
+    /**
+     * Возвращает список, состоящий из элементов этого списка, за которыми следуют элементы другого.
+     * Деревья склеиваются по правому краю первого и левому краю второго с перебалансировкой узлов на стыке,
+     * поэтому время работы - O(log n), а не O(n).
+     *
+     * @param other Присоединяемый список.
+     * @return Новый список.
+     */
+    @SuppressWarnings("unchecked")
+    public MyPersistentVector<T> concat(MyPersistentVector<? extends T> other) {
+        if (other.size == 0) {
+            return this;
+        }
+        if (size == 0) {
+            return (MyPersistentVector<T>) other;
+        }
+        if (other.size <= WIDTH) {
+            MyPersistentVector<T> result = this;
+            for (Object element : other.toArray()) {
+                result = result.add((T) element);
+            }
+            return result;
+        }
+
+        MyPersistentVector<T> left = withTailPushed();
+        int newSize = size + other.size;
+        if (other.root.children.length == 0) {
+            return new MyPersistentVector<>(newSize, left.level, left.root, other.tail);
+        }
+        Node merged = concatTrees(left.root, left.level, other.root, other.level);
+        return collapse(newSize, Math.max(left.level, other.level) + 1, merged, other.tail);
+    }
+
+    /**
+     * Возвращает новый список с элементами, отсортированными в естественном порядке.
+     *
+     * @return Отсортированный список.
+     */
+    public MyPersistentVector<T> sorted() {
+        return sorted(Comparator.naturalOrder());
+    }
+
+    /**
+     * Возвращает новый список с элементами, отсортированными устойчивой сортировкой слиянием
+     * с использованием заданного компаратора.
+     *
+     * @param comparator Компаратор, используемый для сравнения элементов.
+     * @return Отсортированный список.
+     */
+    public MyPersistentVector<T> sorted(Comparator<? super T> comparator) {
+        Object[] array = new Object[size];
+        copyTo(array);
+        MergeSort.sort(array, 0, size, comparator);
+        Builder<T> builder = new Builder<>();
+        builder.addArray(array);
+        return builder.build();
+    }
+
+    /**
+     * Возвращает массив всех элементов списка. Листья копируются блоками.
+     *
+     * @return Массив содержащий все элементы списка.
+     */
+    @SuppressWarnings("unchecked")
+    public T[] toArray() {
+        T[] result = (T[]) new Comparable[size];
+        copyTo(result);
+        return result;
+    }
+
+    /**
+     * Возвращает итератор по элементам списка. Итератор спускается к каждому листу один раз
+     * и затем перебирает его элементы подряд.
+     *
+     * @return Итератор по элементам списка.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int index;
+            private Object[] leaf = EMPTY_LEAF;
+            private int position;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                if (position == leaf.length) {
+                    seek(index);
+                }
+                index++;
+                return (T) leaf[position++];
+            }
+
+            /**
+             * Находит лист, содержащий элемент с указанным индексом, и позицию элемента в нем.
+             */
+            private void seek(int target) {
+                int tailOffset = size - tail.length;
+                if (target >= tailOffset) {
+                    leaf = tail;
+                    position = target - tailOffset;
+                    return;
+                }
+                Object node = root;
+                for (int l = level; l > 0; l--) {
+                    Node n = (Node) node;
+                    int slot = childContaining(n, l, target);
+                    target -= childStart(n, l, slot);
+                    node = n.children[slot];
+                }
+                leaf = (Object[]) node;
+                position = target;
+            }
+        };
+    }
+
+    /**
+     * Возвращает сплитератор по элементам списка.
+     *
+     * @return Сплитератор с характеристиками ORDERED, SIZED и IMMUTABLE.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    /**
+     * Возвращает последовательный поток элементов списка.
+     *
+     * @return Поток элементов списка.
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Возвращает версию списка, в которой хвостовой массив перенесен в дерево и хвост пуст.
+     */
+    private MyPersistentVector<T> withTailPushed() {
+        if (tail.length == 0) {
+            return this;
+        }
+        if (root.children.length == 0) {
+            return new MyPersistentVector<>(size, 1, new Node(new Object[]{tail}, null), EMPTY_LEAF);
+        }
+        Node appended = appendLeaf(root, level, tail);
+        if (appended != null) {
+            return new MyPersistentVector<>(size, level, appended, EMPTY_LEAF);
+        }
+        Node grown = makeNode(new Object[]{root, newPath(level, tail)}, level + 1);
+        return new MyPersistentVector<>(size, level + 1, grown, EMPTY_LEAF);
+    }
+
+    /**
+     * Возвращает список из первых n элементов (0 &lt; n &lt;= size). Последний лист усеченного дерева
+     * становится хвостовым массивом, чтобы последующие добавления не ослабляли дерево.
+     */
+    private MyPersistentVector<T> take(int n) {
+        if (n == size) {
+            return this;
+        }
+        int tailOffset = size - tail.length;
+        if (n > tailOffset) {
+            return new MyPersistentVector<>(n, level, root, Arrays.copyOf(tail, n - tailOffset));
+        }
+
+        Node cut = (Node) takeNode(root, level, n);
+        Object[] lastLeaf = lastLeaf(cut, level);
+        int treeSize = n - lastLeaf.length;
+        if (treeSize == 0) {
+            return new MyPersistentVector<>(n, 1, EMPTY_ROOT, lastLeaf);
+        }
+        return collapse(n, level, (Node) takeNode(cut, level, treeSize), lastLeaf);
+    }
+
+    /**
+     * Возвращает список без первых n элементов (0 &lt;= n &lt; size).
+     */
+    private MyPersistentVector<T> drop(int n) {
+        if (n == 0) {
+            return this;
+        }
+        int tailOffset = size - tail.length;
+        if (n >= tailOffset) {
+            return new MyPersistentVector<>(size - n, 1, EMPTY_ROOT, Arrays.copyOfRange(tail, n - tailOffset,
+                    tail.length));
+        }
+        return collapse(size - n, level, (Node) dropNode(root, level, n), tail);
+    }
+
+    /**
+     * Создает список, предварительно понижая высоту дерева, пока у корня единственный ребенок.
+     */
+    private static <T extends Comparable<? super T>> MyPersistentVector<T> collapse(int size, int level, Node root,
+                                                                                  Object[] tail) {
+        while (level > 1 && root.children.length == 1) {
+            root = (Node) root.children[0];
+            level--;
+        }
+        return new MyPersistentVector<>(size, level, root, tail);
+    }
+
+    /**
+     * Копирует все элементы списка по порядку в начало массива.
+     */
+    private void copyTo(Object[] target) {
+        int position = root.children.length == 0 ? 0 : copyLeaves(root, level, target, 0);
+        System.arraycopy(tail, 0, target, position, tail.length);
+    }
+
+    private static int copyLeaves(Object node, int level, Object[] target, int position) {
+        if (level == 0) {
+            Object[] leaf = (Object[]) node;
+            System.arraycopy(leaf, 0, target, position, leaf.length);
+            return position + leaf.length;
+        }
+        for (Object child : ((Node) node).children) {
+            position = copyLeaves(child, level - 1, target, position);
+        }
+        return position;
+    }
+
+    /**
+     * Возвращает индекс ребенка узла, содержащего элемент с указанным индексом относительно начала узла.
+     */
+    private static int childContaining(Node node, int level, int index) {
+        int slot = (index >>> (BITS * level)) & MASK;
+        if (node.sizes != null) {
+            while (node.sizes[slot] <= index) {
+                slot++;
+            }
+        }
+        return slot;
+    }
+
+    /**
+     * Возвращает индекс первого элемента ребенка slot относительно начала узла.
+     */
+    private static int childStart(Node node, int level, int slot) {
+        if (slot == 0) {
+            return 0;
+        }
+        return node.sizes == null ? slot << (BITS * level) : node.sizes[slot - 1];
+    }
+
+    /**
+     * Возвращает количество элементов в поддереве.
+     */
+    private static int sizeOf(Object node, int level) {
+        if (level == 0) {
+            return ((Object[]) node).length;
+        }
+        Node n = (Node) node;
+        int count = n.children.length;
+        if (count == 0) {
+            return 0;
+        }
+        if (n.sizes != null) {
+            return n.sizes[count - 1];
+        }
+        return ((count - 1) << (BITS * level)) + sizeOf(n.children[count - 1], level - 1);
+    }
+
+    /**
+     * Возвращает накопленные размеры детей узла; для строгого узла таблица вычисляется.
+     */
+    private static int[] cumulativeSizes(Node node, int level) {
+        if (node.sizes != null) {
+            return node.sizes;
+        }
+        int count = node.children.length;
+        int[] sizes = new int[count];
+        for (int i = 0; i < count - 1; i++) {
+            sizes[i] = (i + 1) << (BITS * level);
+        }
+        if (count > 0) {
+            sizes[count - 1] = sizeOf(node, level);
+        }
+        return sizes;
+    }
+
+    /**
+     * Создает узел уровня level с указанными детьми, вычисляя их размеры.
+     */
+    private static Node makeNode(Object[] children, int level) {
+        int[] sizes = new int[children.length];
+        int total = 0;
+        for (int i = 0; i < children.length; i++) {
+            total += sizeOf(children[i], level - 1);
+            sizes[i] = total;
+        }
+        return node(children, sizes, level);
+    }
+
+    /**
+     * Создает узел с известной таблицей размеров. Если все дети, кроме последнего, заполнены полностью,
+     * таблица отбрасывается и узел становится строгим: дети в нем ищутся сдвигом индекса.
+     */
+    private static Node node(Object[] children, int[] sizes, int level) {
+        int shift = BITS * level;
+        for (int i = 0; i < children.length - 1; i++) {
+            if (sizes[i] != (long) (i + 1) << shift) {
+                return new Node(children, sizes);
+            }
+        }
+        return new Node(children, null);
+    }
+
+    /**
+     * Возвращает цепочку узлов с единственными детьми, ведущую от узла уровня level к листу.
+     */
+    private static Node newPath(int level, Object[] leaf) {
+        Object child = leaf;
+        for (int l = 1; l <= level; l++) {
+            child = new Node(new Object[]{child}, null);
+        }
+        return (Node) child;
+    }
+
+    /**
+     * Возвращает копию узла с листом, добавленным в самую правую позицию поддерева, или null, если места нет.
+     */
+    private static Node appendLeaf(Node node, int level, Object[] leaf) {
+        int count = node.children.length;
+        if (level > 1) {
+            Node updated = appendLeaf((Node) node.children[count - 1], level - 1, leaf);
+            if (updated != null) {
+                Object[] children = node.children.clone();
+                children[count - 1] = updated;
+                int[] sizes = null;
+                if (node.sizes != null) {
+                    sizes = node.sizes.clone();
+                    sizes[count - 1] += leaf.length;
+                }
+                return new Node(children, sizes);
+            }
+        }
+        if (count == WIDTH) {
+            return null;
+        }
+
+        Object child = level == 1 ? leaf : newPath(level - 1, leaf);
+        Object[] children = Arrays.copyOf(node.children, count + 1);
+        children[count] = child;
+        int[] sizes = Arrays.copyOf(cumulativeSizes(node, level), count + 1);
+        sizes[count] = (count == 0 ? 0 : sizes[count - 1]) + leaf.length;
+        return node(children, sizes, level);
+    }
+
+    /**
+     * Возвращает копию узла, в которой заменен элемент с указанным индексом относительно начала узла.
+     */
+    private static Node setIn(Node node, int level, int index, Object element) {
+        int slot = childContaining(node, level, index);
+        int relative = index - childStart(node, level, slot);
+        Object[] children = node.children.clone();
+        if (level == 1) {
+            Object[] leaf = ((Object[]) children[slot]).clone();
+            leaf[relative] = element;
+            children[slot] = leaf;
+        } else {
+            children[slot] = setIn((Node) children[slot], level - 1, relative, element);
+        }
+        return new Node(children, node.sizes);
+    }
+
+    /**
+     * Возвращает самый правый лист поддерева.
+     */
+    private static Object[] lastLeaf(Node node, int level) {
+        Object current = node;
+        for (int l = level; l > 0; l--) {
+            Object[] children = ((Node) current).children;
+            current = children[children.length - 1];
+        }
+        return (Object[]) current;
+    }
+
+    /**
+     * Возвращает поддерево из первых n элементов (1 &lt;= n &lt;= размер поддерева).
+     */
+    private static Object takeNode(Object node, int level, int n) {
+        if (level == 0) {
+            Object[] leaf = (Object[]) node;
+            return n == leaf.length ? leaf : Arrays.copyOf(leaf, n);
+        }
+        Node parent = (Node) node;
+        int slot = childContaining(parent, level, n - 1);
+        int start = childStart(parent, level, slot);
+        Object[] children = Arrays.copyOf(parent.children, slot + 1);
+        children[slot] = takeNode(children[slot], level - 1, n - start);
+        int[] sizes = null;
+        if (parent.sizes != null) {
+            sizes = Arrays.copyOf(parent.sizes, slot + 1);
+            sizes[slot] = n;
+        }
+        return new Node(children, sizes);
+    }
+
+    /**
+     * Возвращает поддерево без первых n элементов (0 &lt;= n &lt; размер поддерева).
+     */
+    private static Object dropNode(Object node, int level, int n) {
+        if (n == 0) {
+            return node;
+        }
+        if (level == 0) {
+            Object[] leaf = (Object[]) node;
+            return Arrays.copyOfRange(leaf, n, leaf.length);
+        }
+        Node parent = (Node) node;
+        int slot = childContaining(parent, level, n);
+        int start = childStart(parent, level, slot);
+        int[] oldSizes = cumulativeSizes(parent, level);
+        int count = parent.children.length - slot;
+        Object[] children = Arrays.copyOfRange(parent.children, slot, parent.children.length);
+        children[0] = dropNode(children[0], level - 1, n - start);
+        int[] sizes = new int[count];
+        for (int i = 0; i < count; i++) {
+            sizes[i] = oldSizes[slot + i] - n;
+        }
+        return node(children, sizes, level);
+    }
+
+    /**
+     * Склеивает два поддерева уровней leftLevel и rightLevel и возвращает узел уровня
+     * max(leftLevel, rightLevel) + 1. Рекурсия спускается по правому краю левого дерева
+     * и левому краю правого, а на обратном пути перебалансирует узлы на стыке.
+     */
+    private static Node concatTrees(Object left, int leftLevel, Object right, int rightLevel) {
+        if (leftLevel > rightLevel) {
+            Node l = (Node) left;
+            Node center = concatTrees(l.children[l.children.length - 1], leftLevel - 1, right, rightLevel);
+            return rebalance(l, center, null, leftLevel);
+        }
+        if (leftLevel < rightLevel) {
+            Node r = (Node) right;
+            Node center = concatTrees(left, leftLevel, r.children[0], rightLevel - 1);
+            return rebalance(null, center, r, rightLevel);
+        }
+        if (leftLevel == 0) {
+            return makeNode(new Object[]{left, right}, 1);
+        }
+        Node l = (Node) left;
+        Node r = (Node) right;
+        Node center = concatTrees(l.children[l.children.length - 1], leftLevel - 1, r.children[0], rightLevel - 1);
+        return rebalance(l, center, r, leftLevel);
+    }
+
+    /**
+     * Собирает детей левого узла без последнего, детей центрального узла и детей правого узла без первого,
+     * перераспределяет их содержимое так, чтобы узлов было не больше чем на EXTRAS больше минимально возможного,
+     * и возвращает узел уровня level + 1 с одним или двумя детьми уровня level.
+     */
+    private static Node rebalance(Node left, Node center, Node right, int level) {
+        int leftCount = left == null ? 0 : left.children.length - 1;
+        int rightCount = right == null ? 0 : right.children.length - 1;
+        Object[] all = new Object[leftCount + center.children.length + rightCount];
+        if (left != null) {
+            System.arraycopy(left.children, 0, all, 0, leftCount);
+        }
+        System.arraycopy(center.children, 0, all, leftCount, center.children.length);
+        if (right != null) {
+            System.arraycopy(right.children, 1, all, leftCount + center.children.length, rightCount);
+        }
+
+        Object[] merged = executePlan(all, concatPlan(all, level - 1), level - 1);
+        if (merged.length <= WIDTH) {
+            return new Node(new Object[]{makeNode(merged, level)}, null);
+        }
+        Node first = makeNode(Arrays.copyOf(merged, WIDTH), level);
+        Node second = makeNode(Arrays.copyOfRange(merged, WIDTH, merged.length), level);
+        return makeNode(new Object[]{first, second}, level + 1);
+    }
+
+    /**
+     * Вычисляет новое количество ячеек в каждом узле: недозаполненные узлы по очереди распределяются
+     * по следующим за ними, пока узлов не станет не больше чем минимально возможное плюс EXTRAS.
+     */
+    private static int[] concatPlan(Object[] nodes, int level) {
+        int count = nodes.length;
+        int[] plan = new int[count];
+        int total = 0;
+        for (int i = 0; i < count; i++) {
+            plan[i] = slots(nodes[i], level).length;
+            total += plan[i];
+        }
+        int optimal = (total + WIDTH - 1) / WIDTH;
+        int i = 0;
+        while (optimal + EXTRAS < count) {
+            while (plan[i] >= WIDTH - EXTRAS / 2) {
+                i++;
+            }
+            int remaining = plan[i];
+            while (remaining > 0) {
+                int filled = Math.min(remaining + plan[i + 1], WIDTH);
+                plan[i] = filled;
+                remaining = remaining + plan[i + 1] - filled;
+                i++;
+            }
+            System.arraycopy(plan, i + 1, plan, i, count - i - 1);
+            count--;
+            i--;
+        }
+        return Arrays.copyOf(plan, count);
+    }
+
+    /**
+     * Строит новые узлы уровня level по плану, перекладывая ячейки исходных узлов по порядку.
+     * Узлы, размер которых совпадает с планом, переиспользуются без копирования.
+     */
+    private static Object[] executePlan(Object[] nodes, int[] plan, int level) {
+        Object[] result = new Object[plan.length];
+        int source = 0;
+        int offset = 0;
+        for (int k = 0; k < plan.length; k++) {
+            Object[] sourceSlots = slots(nodes[source], level);
+            if (offset == 0 && sourceSlots.length == plan[k]) {
+                result[k] = nodes[source++];
+                continue;
+            }
+            Object[] slots = new Object[plan[k]];
+            int filled = 0;
+            while (filled < slots.length) {
+                sourceSlots = slots(nodes[source], level);
+                int chunk = Math.min(slots.length - filled, sourceSlots.length - offset);
+                System.arraycopy(sourceSlots, offset, slots, filled, chunk);
+                filled += chunk;
+                offset += chunk;
+                if (offset == sourceSlots.length) {
+                    source++;
+                    offset = 0;
+                }
+            }
+            result[k] = level == 0 ? slots : makeNode(slots, level);
+        }
+        return result;
+    }
+
+    /**
+     * Возвращает ячейки узла: элементы листа или детей внутреннего узла.
+     */
+    private static Object[] slots(Object node, int level) {
+        return level == 0 ? (Object[]) node : ((Node) node).children;
+    }
+
+    /**
+     * Внутренний узел дерева. Таблица sizes хранит накопленные размеры детей и равна null у строгих узлов,
+     * в которых все дети, кроме последнего, заполнены полностью.
+     */
+    private static final class Node {
+        final Object[] children;
+        final int[] sizes;
+
+        Node(Object[] children, int[] sizes) {
+            this.children = children;
+            this.sizes = sizes;
+        }
+    }
+
+    /**
+     * Изменяемый построитель списка. Полные листья накапливаются и не копируются, а при вызове {@link #build()}
+     * дерево собирается снизу вверх за O(n) без копирования путей. Построитель не потокобезопасен;
+     * после {@link #build()} его можно продолжать заполнять, не затрагивая уже построенный список.
+     *
+     * @param <T> Тип элементов списка.
+     */
+    public static final class Builder<T extends Comparable<? super T>> {
+        private Object[] leaves = new Object[8];
+        private int leafCount;
+        private Object[] tail = new Object[WIDTH];
+        private int tailSize;
+
+        private Builder() {
+        }
+
+        /**
+         * Добавляет элемент в конец строящегося списка.
+         *
+         * @param element Элемент для добавления.
+         * @return Этот построитель.
+         */
+        public Builder<T> add(T element) {
+            if (tailSize == WIDTH) {
+                pushTail();
+            }
+            tail[tailSize++] = element;
+            return this;
+        }
+
+        /**
+         * Добавляет все элементы в конец строящегося списка.
+         *
+         * @param elements Добавляемые элементы.
+         * @return Этот построитель.
+         */
+        public Builder<T> addAll(Iterable<? extends T> elements) {
+            for (T element : elements) {
+                add(element);
+            }
+            return this;
+        }
+
+        /**
+         * Возвращает неизменяемый список из добавленных элементов.
+         *
+         * @return Построенный список.
+         */
+        public MyPersistentVector<T> build() {
+            int size = leafCount * WIDTH + tailSize;
+            if (size == 0) {
+                return empty();
+            }
+            Object[] lastTail = Arrays.copyOf(tail, tailSize);
+            if (leafCount == 0) {
+                return new MyPersistentVector<>(size, 1, EMPTY_ROOT, lastTail);
+            }
+            Object[] nodes = Arrays.copyOf(leaves, leafCount);
+            int level = 0;
+            do {
+                level++;
+                Object[] parents = new Object[(nodes.length + WIDTH - 1) / WIDTH];
+                for (int i = 0; i < parents.length; i++) {
+                    parents[i] = new Node(Arrays.copyOfRange(nodes, i * WIDTH,
+                            Math.min((i + 1) * WIDTH, nodes.length)), null);
+                }
+                nodes = parents;
+            } while (nodes.length > 1);
+            return new MyPersistentVector<>(size, level, (Node) nodes[0], lastTail);
+        }
+
+        /**
+         * Добавляет первые элементы массива, заполняя листья блочным копированием.
+         */
+        void addArray(Object[] array) {
+            int position = 0;
+            while (position < array.length) {
+                if (tailSize == WIDTH) {
+                    pushTail();
+                }
+                int chunk = Math.min(WIDTH - tailSize, array.length - position);
+                System.arraycopy(array, position, tail, tailSize, chunk);
+                tailSize += chunk;
+                position += chunk;
+            }
+        }
+
+        /**
+         * Переносит заполненный хвостовой массив в список полных листьев.
+         */
+        private void pushTail() {
+            if (leafCount == leaves.length) {
+                leaves = Arrays.copyOf(leaves, leafCount * 2);
+            }
+            leaves[leafCount++] = tail;
+            tail = new Object[WIDTH];
+            tailSize = 0;
+        }
+    }
+}
@@ -0,0 +1,327 @@
+package org.example;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Индексируемый список с пропусками с тем же API, что и {@link MyLinkedList}. Элементы хранятся в порядке
+ * вставки, а не по возрастанию: нижний уровень - обычная односвязная цепочка, а каждый узел дополнительно
+ * участвует в случайном числе верхних уровней. Каждая ссылка вперед хранит ширину - количество позиций
+ * списка, которые она перешагивает, поэтому поиск позиции спускается по уровням, складывая ширины.
+ * <p>
+ * Доступ, вставка и удаление по индексу занимают ожидаемое время O(log n) вместо обхода O(n), а
+ * последовательный обход идет по нижнему уровню так же, как в связном списке. Узел попадает на следующий
+ * уровень с вероятностью 1/4, поэтому в среднем он хранит 4/3 ссылки и столько же ширин.
+ *
+ * @param <T> тип элементов, хранящихся в этом списке
+ */
+public class MySkipList<T extends Comparable<? super T>> implements Iterable<T> {
+    /**
+     * Максимальное число уровней: при вероятности 1/4 его хватает для 4<sup>16</sup> элементов.
+     */
+    private static final int MAX_LEVEL = 16;
+
+    /**
+     * Заголовок списка, участвующий во всех уровнях. Ширина ссылки, за которой нет узла, равна количеству
+     * элементов от ее начала до конца списка.
+     */
+    private Node head = new Node(null, MAX_LEVEL);
+
+    private int level = 1;
+
+    private int size;
+
+    /**
+     * Предшественники позиции на каждом уровне, найденные последним вызовом {@link #findPredecessors(long)}.
+     */
+    private final Node[] update = new Node[MAX_LEVEL];
+
+    /**
+     * Позиции предшественников из update, отсчитываемые так, что заголовок имеет позицию 0, а элемент
+     * с индексом i - позицию i + 1.
+     */
+    private final int[] rank = new int[MAX_LEVEL];
+
+    /**
+     * Добавляет элемент в конец списка.
+     *
+     * @param element элемент для добавления
+     */
+    public void add(T element) {
+        insert(size, element);
+    }
+
+    /**
+     * Вставляет элемент в указанную позицию в этом списке за ожидаемое время O(log n).
+     *
+     * @param index   индекс, по которому должен быть вставлен указанный элемент
+     * @param element элемент для вставки
+     * @throws IndexOutOfBoundsException если индекс выходит за пределы диапазона (index &lt; 0 || index > size())
+     */
+    public void add(long index, T element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        insert(index, element);
+    }
+
+    /**
+     * Возвращает элемент в указанной позиции в этом списке за ожидаемое время O(log n).
+     *
+     * @param index индекс элемента для возврата
+     * @return элемент в указанной позиции в этом списке
+     * @throws IndexOutOfBoundsException если индекс выходит за пределы диапазона (index &lt; 0 || index >= size())
+     */
+    @SuppressWarnings("unchecked")
+    public T get(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        long target = index + 1;
+        long traversed = 0;
+        Node current = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (current.next[i] != null && traversed + current.span[i] <= target) {
+                traversed += current.span[i];
+                current = current.next[i];
+            }
+            if (traversed == target) {
+                break;
+            }
+        }
+        return (T) current.data;
+    }
+
+    /**
+     * Возвращает количество элементов в этом списке.
+     *
+     * @return количество элементов в этом списке
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Удаляет элемент в указанной позиции в этом списке за ожидаемое время O(log n).
+     *
+     * @param index индекс элемента, который нужно удалить
+     * @throws IndexOutOfBoundsException если индекс выходит за пределы диапазона (index &lt; 0 || index >= size())
+     */
+    public void remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        findPredecessors(index);
+        Node removed = update[0].next[0];
+        for (int i = 0; i < level; i++) {
+            Node predecessor = update[i];
+            if (predecessor.next[i] == removed) {
+                predecessor.span[i] += removed.span[i] - 1;
+                predecessor.next[i] = removed.next[i];
+            } else {
+                predecessor.span[i]--;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+        size--;
+        clearUpdate();
+    }
+
+    /**
+     * Удаляет все элементы из этого списка.
+     */
+    public void clear() {
+        head = new Node(null, MAX_LEVEL);
+        level = 1;
+        size = 0;
+    }
+
+    /**
+     * Сортирует этот список согласно естественному порядку его элементов.
+     */
+    public void sort() {
+        sort(Comparator.naturalOrder());
+    }
+
+    /**
+     * Сортирует этот список согласно порядку, определенному указанным компаратором.
+     * Элементы собираются в массив, сортируются устойчивой адаптивной сортировкой слиянием, как в
+     * {@link MyArrayList#sort(Comparator)}, и раскладываются обратно по тем же узлам, так что уровни
+     * и ширины ссылок не меняются.
+     *
+     * @param comparator компаратор для определения порядка списка
+     */
+    public void sort(Comparator<? super T> comparator) {
+        if (size > 1) {
+            Object[] array = toArray();
+            MergeSort.sort(array, 0, size, comparator);
+            int i = 0;
+            for (Node node = head.next[0]; node != null; node = node.next[0]) {
+                node.data = array[i++];
+            }
+        }
+    }
+
+    /**
+     * Возвращает массив, содержащий все элементы этого списка в правильной последовательности.
+     *
+     * @return массив, содержащий все элементы этого списка в правильной последовательности
+     */
+    @SuppressWarnings("unchecked")
+    public T[] toArray() {
+        T[] result = (T[]) new Comparable[size];
+        int i = 0;
+        for (Node node = head.next[0]; node != null; node = node.next[0]) {
+            result[i++] = (T) node.data;
+        }
+        return result;
+    }
+
+    /**
+     * Возвращает итератор по элементам этого списка в правильной последовательности.
+     * Обход идет по нижнему уровню и не использует ширины ссылок.
+     *
+     * @return итератор по элементам этого списка
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private Node node = head.next[0];
+
+            @Override
+            public boolean hasNext() {
+                return node != null;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (node == null) {
+                    throw new NoSuchElementException();
+                }
+                T element = (T) node.data;
+                node = node.next[0];
+                return element;
+            }
+        };
+    }
+
+    /**
+     * Возвращает сплитератор по элементам этого списка с известным размером.
+     *
+     * @return сплитератор по элементам этого списка
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED);
+    }
+
+    /**
+     * Возвращает последовательный поток элементов этого списка.
+     *
+     * @return поток элементов этого списка
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Вставляет элемент перед позицией index, связывая новый узел на всех его уровнях и увеличивая ширины
+     * ссылок, которые перешагивают место вставки.
+     *
+     * @param index   индекс, заведомо находящийся в диапазоне [0, size]
+     * @param element элемент для вставки
+     */
+    private void insert(long index, T element) {
+        findPredecessors(index);
+        int nodeLevel = randomLevel();
+        if (nodeLevel > level) {
+            for (int i = level; i < nodeLevel; i++) {
+                update[i] = head;
+                rank[i] = 0;
+                head.span[i] = size;
+            }
+            level = nodeLevel;
+        }
+
+        Node node = new Node(element, nodeLevel);
+        for (int i = 0; i < nodeLevel; i++) {
+            Node predecessor = update[i];
+            int distance = rank[0] - rank[i];
+            node.next[i] = predecessor.next[i];
+            node.span[i] = predecessor.span[i] - distance;
+            predecessor.next[i] = node;
+            predecessor.span[i] = distance + 1;
+        }
+        for (int i = nodeLevel; i < level; i++) {
+            update[i].span[i]++;
+        }
+        size++;
+        clearUpdate();
+    }
+
+    /**
+     * Находит на каждом уровне последний узел перед позицией index и запоминает его в update, а его позицию -
+     * в rank.
+     *
+     * @param index индекс, заведомо находящийся в диапазоне [0, size]
+     */
+    private void findPredecessors(long index) {
+        int traversed = 0;
+        Node current = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (current.next[i] != null && traversed + current.span[i] <= index) {
+                traversed += current.span[i];
+                current = current.next[i];
+            }
+            update[i] = current;
+            rank[i] = traversed;
+        }
+    }
+
+    /**
+     * Сбрасывает ссылки на узлы в update, чтобы удаленные узлы не удерживались от сборки мусора.
+     */
+    private void clearUpdate() {
+        for (int i = 0; i < level; i++) {
+            update[i] = null;
+        }
+    }
+
+    /**
+     * Выбирает число уровней нового узла: каждая пара нулевых младших битов случайного числа поднимает узел
+     * на уровень выше, то есть следующий уровень достигается с вероятностью 1/4.
+     *
+     * @return число уровней от 1 до MAX_LEVEL
+     */
+    private static int randomLevel() {
+        int random = ThreadLocalRandom.current().nextInt() | (1 << (2 * (MAX_LEVEL - 1)));
+        return 1 + Integer.numberOfTrailingZeros(random) / 2;
+    }
+
+    /**
+     * Узел списка: элемент, ссылки вперед на каждом из уровней узла и ширины этих ссылок.
+     */
+    private static final class Node {
+        Object data;
+        final Node[] next;
+        final int[] span;
+
+        Node(Object data, int level) {
+            this.data = data;
+            this.next = new Node[level];
+            this.span = new int[level];
+        }
+    }
+}
@@ -0,0 +1,377 @@
+package org.example;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Развернутый двусвязный список с тем же API, что и {@link MyLinkedList}: каждый узел хранит не один элемент,
+ * а небольшой массив элементов. Обход по индексу перескакивает через узлы целиком, элементы внутри узла
+ * лежат в памяти подряд, а накладные расходы на узел делятся между всеми его элементами.
+ * <p>
+ * Вставка в заполненный узел делит его пополам. Узел, в котором после удаления осталось меньше половины
+ * емкости, сливается со следующим или забирает у него часть элементов, поэтому все узлы, кроме, может быть,
+ * последнего, заполнены не меньше чем наполовину. Вставка и удаление в середине списка по-прежнему сдвигают
+ * только элементы одного узла.
+ *
+ * @param <T> тип элементов, хранящихся в этом списке
+ */
+public class MyUnrolledLinkedList<T extends Comparable<? super T>> implements Iterable<T> {
+    /**
+     * Емкость узла по умолчанию: 64 ссылки занимают несколько строк кэша.
+     */
+    private static final int DEFAULT_NODE_CAPACITY = 64;
+
+    private final int nodeCapacity;
+
+    private Node head;
+
+    private Node tail;
+
+    private int size;
+
+    /**
+     * Смещение элемента внутри узла, найденного последним вызовом {@link #node(long)}.
+     */
+    private int offset;
+
+    /**
+     * Конструктор создает пустой список с емкостью узла по умолчанию.
+     */
+    public MyUnrolledLinkedList() {
+        this(DEFAULT_NODE_CAPACITY);
+    }
+
+    /**
+     * Конструктор создает пустой список с заданной емкостью узла.
+     *
+     * @param nodeCapacity количество элементов в одном узле
+     * @throws IllegalArgumentException если емкость узла меньше 2
+     */
+    public MyUnrolledLinkedList(int nodeCapacity) {
+        if (nodeCapacity < 2) {
+            throw new IllegalArgumentException("Illegal node capacity: " + nodeCapacity);
+        }
+        this.nodeCapacity = nodeCapacity;
+    }
+
+    /**
+     * Добавляет элемент в конец списка. Если последний узел заполнен, после него создается новый узел.
+     *
+     * @param element элемент для добавления
+     */
+    public void add(T element) {
+        if (tail == null || tail.count == nodeCapacity) {
+            linkAfter(tail, new Node(nodeCapacity));
+        }
+        tail.items[tail.count++] = element;
+        size++;
+    }
+
+    /**
+     * Вставляет элемент в указанную позицию в этом списке.
+     * Сдвигаются только элементы того узла, в который попадает вставка; заполненный узел предварительно делится пополам.
+     *
+     * @param index   индекс, по которому должен быть вставлен указанный элемент
+     * @param element элемент для вставки
+     * @throws IndexOutOfBoundsException если индекс выходит за пределы диапазона (index &lt; 0 || index > size())
+     */
+    public void add(long index, T element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        if (index == size) {
+            add(element);
+            return;
+        }
+
+        Node node = node(index);
+        int position = offset;
+        if (node.count == nodeCapacity) {
+            Node right = split(node);
+            if (position > node.count) {
+                position -= node.count;
+                node = right;
+            }
+        }
+        System.arraycopy(node.items, position, node.items, position + 1, node.count - position);
+        node.items[position] = element;
+        node.count++;
+        size++;
+    }
+
+    /**
+     * Возвращает элемент в указанной позиции в этом списке.
+     *
+     * @param index индекс элемента для возврата
+     * @return элемент в указанной позиции в этом списке
+     * @throws IndexOutOfBoundsException если индекс выходит за пределы диапазона (index &lt; 0 || index >= size())
+     */
+    @SuppressWarnings("unchecked")
+    public T get(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        Node node = node(index);
+        return (T) node.items[offset];
+    }
+
+    /**
+     * Возвращает количество элементов в этом списке.
+     *
+     * @return количество элементов в этом списке
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Удаляет элемент в указанной позиции в этом списке.
+     * Если узел после удаления заполнен меньше чем наполовину, он пополняется из следующего узла или сливается с ним.
+     *
+     * @param index индекс элемента, который нужно удалить
+     * @throws IndexOutOfBoundsException если индекс выходит за пределы диапазона (index &lt; 0 || index >= size())
+     */
+    public void remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        Node node = node(index);
+        int position = offset;
+        System.arraycopy(node.items, position + 1, node.items, position, node.count - position - 1);
+        node.items[--node.count] = null;
+        size--;
+
+        if (node.count == 0) {
+            unlink(node);
+        } else if (node.count < nodeCapacity / 2 && node.next != null) {
+            rebalance(node);
+        }
+    }
+
+    /**
+     * Удаляет все элементы из этого списка.
+     */
+    public void clear() {
+        head = null;
+        tail = null;
+        size = 0;
+    }
+
+    /**
+     * Сортирует этот список согласно естественному порядку его элементов.
+     */
+    public void sort() {
+        sort(Comparator.naturalOrder());
+    }
+
+    /**
+     * Сортирует этот список согласно порядку, определенному указанным компаратором.
+     * Элементы собираются в массив, сортируются устойчивой адаптивной сортировкой слиянием, как в
+     * {@link MyArrayList#sort(Comparator)}, и раскладываются обратно по тем же узлам.
+     *
+     * @param comparator компаратор для определения порядка списка
+     */
+    public void sort(Comparator<? super T> comparator) {
+        if (size > 1) {
+            Object[] array = toArray();
+            MergeSort.sort(array, 0, size, comparator);
+            int i = 0;
+            for (Node node = head; node != null; node = node.next) {
+                System.arraycopy(array, i, node.items, 0, node.count);
+                i += node.count;
+            }
+        }
+    }
+
+    /**
+     * Возвращает массив, содержащий все элементы этого списка в правильной последовательности.
+     * Элементы каждого узла копируются одним блоком.
+     *
+     * @return массив, содержащий все элементы этого списка в правильной последовательности
+     */
+    @SuppressWarnings("unchecked")
+    public T[] toArray() {
+        T[] result = (T[]) new Comparable[size];
+        int i = 0;
+        for (Node node = head; node != null; node = node.next) {
+            System.arraycopy(node.items, 0, result, i, node.count);
+            i += node.count;
+        }
+        return result;
+    }
+
+    /**
+     * Возвращает итератор по элементам этого списка в правильной последовательности.
+     *
+     * @return итератор по элементам этого списка
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private Node node = head;
+            private int position;
+
+            @Override
+            public boolean hasNext() {
+                return node != null;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (node == null) {
+                    throw new NoSuchElementException();
+                }
+                T element = (T) node.items[position++];
+                if (position == node.count) {
+                    node = node.next;
+                    position = 0;
+                }
+                return element;
+            }
+        };
+    }
+
+    /**
+     * Возвращает сплитератор по элементам этого списка с известным размером.
+     *
+     * @return сплитератор по элементам этого списка
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED);
+    }
+
+    /**
+     * Возвращает последовательный поток элементов этого списка.
+     *
+     * @return поток элементов этого списка
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Находит узел, содержащий элемент с указанным индексом, и запоминает смещение элемента в поле offset.
+     * Обход идет по узлам целиком с того конца списка, который ближе к индексу.
+     *
+     * @param index индекс элемента, заведомо находящийся в диапазоне [0, size)
+     * @return узел, содержащий элемент
+     */
+    private Node node(long index) {
+        Node current;
+        if (index < (size >> 1)) {
+            current = head;
+            while (index >= current.count) {
+                index -= current.count;
+                current = current.next;
+            }
+            offset = (int) index;
+        } else {
+            current = tail;
+            long end = size;
+            while (index < end - current.count) {
+                end -= current.count;
+                current = current.prev;
+            }
+            offset = (int) (index - (end - current.count));
+        }
+        return current;
+    }
+
+    /**
+     * Переносит верхнюю половину элементов заполненного узла в новый узел сразу после него.
+     *
+     * @param node заполненный узел
+     * @return новый узел
+     */
+    private Node split(Node node) {
+        Node right = new Node(nodeCapacity);
+        int keep = node.count / 2;
+        int moved = node.count - keep;
+        System.arraycopy(node.items, keep, right.items, 0, moved);
+        Arrays.fill(node.items, keep, node.count, null);
+        right.count = moved;
+        node.count = keep;
+        linkAfter(node, right);
+        return right;
+    }
+
+    /**
+     * Пополняет узел, заполненный меньше чем наполовину, из следующего узла: сливает узлы, если все элементы
+     * помещаются в один, иначе переносит часть элементов так, чтобы оба узла были заполнены не меньше чем наполовину.
+     *
+     * @param node недозаполненный узел, у которого есть следующий
+     */
+    private void rebalance(Node node) {
+        Node next = node.next;
+        int moved = node.count + next.count <= nodeCapacity ? next.count : (next.count - node.count) / 2;
+        System.arraycopy(next.items, 0, node.items, node.count, moved);
+        node.count += moved;
+        if (moved == next.count) {
+            unlink(next);
+        } else {
+            System.arraycopy(next.items, moved, next.items, 0, next.count - moved);
+            Arrays.fill(next.items, next.count - moved, next.count, null);
+            next.count -= moved;
+        }
+    }
+
+    /**
+     * Вставляет узел после узла last или в начало списка, если last равен null.
+     */
+    private void linkAfter(Node last, Node node) {
+        Node next = last == null ? head : last.next;
+        node.prev = last;
+        node.next = next;
+        if (last == null) {
+            head = node;
+        } else {
+            last.next = node;
+        }
+        if (next == null) {
+            tail = node;
+        } else {
+            next.prev = node;
+        }
+    }
+
+    /**
+     * Исключает узел из цепочки.
+     */
+    private void unlink(Node node) {
+        if (node.prev == null) {
+            head = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next == null) {
+            tail = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+    }
+
+    /**
+     * Узел списка: массив элементов емкостью nodeCapacity, из которого заняты первые count ячеек.
+     */
+    private static final class Node {
+        final Object[] items;
+        int count;
+        Node next;
+        Node prev;
+
+        Node(int capacity) {
+            items = new Object[capacity];
+        }
+    }
+}
@@ -0,0 +1,379 @@
+package org.example;
+
+import java.util.Comparator;
+
+/**
+ * Адаптивная устойчивая сортировка слиянием естественных серий.
+ * <p>
+ * Участок просматривается слева направо и делится на уже упорядоченные серии: неубывающие берутся как есть,
+ * строго убывающие разворачиваются на месте. Серия короче {@link #MIN_RUN} дополняется бинарными вставками.
+ * Порядок слияний выбирается по правилу Powersort (Munro, Wild): каждой границе между соседними сериями
+ * назначается глубина узла в идеально сбалансированном дереве слияний над участком, а серии на стеке сливаются,
+ * пока глубина верхней границы больше глубины новой. Такое правило дает почти оптимальное по стоимости дерево слияний
+ * и обходится без инвариантов на длины серий.
+ * <p>
+ * Перед слиянием двух серий отбрасываются префикс левой и суффикс правой, которые уже стоят на своих местах,
+ * а во вспомогательный буфер копируется только более короткая из оставшихся частей. Если одна серия выигрывает
+ * {@link #GALLOP_STREAK} сравнений подряд, следующий блок ее элементов находится экспоненциальным поиском и
+ * переносится одним копированием. Поэтому отсортированный участок обрабатывается за n - 1 сравнений, а почти
+ * отсортированный - за время, близкое к O(n).
+ * <p>
+ * За одну сортировку выделяется не более одного вспомогательного буфера размером n/2;
+ * вызывающий код может передать собственный буфер, и тогда выделений нет вовсе.
+ */
+final class NaturalMergeSort {
+    /**
+     * Минимальная длина серии: более короткие серии дополняются бинарными вставками.
+     */
+    private static final int MIN_RUN = 24;
+
+    /**
+     * Количество побед одной серии подряд, после которого слияние переносит ее элементы блоком.
+     */
+    private static final int GALLOP_STREAK = 6;
+
+    /**
+     * Глубина стека серий. Глубины границ на стеке строго возрастают и не превышают 32 для участков
+     * длиной до Integer.MAX_VALUE, поэтому стек не переполняется.
+     */
+    private static final int MAX_DEPTH = 40;
+
+    private final Object[] a;
+    private final Comparator<Object> comparator;
+    private final int length;
+
+    private Object[] work;
+    private int workBase;
+    private int workLen;
+
+    private NaturalMergeSort(Object[] a, Comparator<Object> comparator, int length,
+                             Object[] work, int workBase, int workLen) {
+        this.a = a;
+        this.comparator = comparator;
+        this.length = length;
+        if (work != null) {
+            this.work = work;
+            this.workBase = workBase;
+            this.workLen = workLen;
+        }
+    }
+
+    /**
+     * Сортирует участок массива, выделяя вспомогательный буфер при необходимости.
+     *
+     * @param a          массив элементов
+     * @param lo         начальный индекс участка (включительно)
+     * @param hi         конечный индекс участка (не включительно)
+     * @param comparator компаратор для сравнения элементов
+     * @param <T>        тип элементов
+     */
+    static <T> void sort(Object[] a, int lo, int hi, Comparator<? super T> comparator) {
+        sort(a, lo, hi, comparator, null, 0, 0);
+    }
+
+    /**
+     * Сортирует участок массива, используя переданный буфер как рабочую область.
+     * Если буфера не хватает, выделяется один новый буфер размером в половину участка.
+     *
+     * @param a          массив элементов
+     * @param lo         начальный индекс участка (включительно)
+     * @param hi         конечный индекс участка (не включительно)
+     * @param comparator компаратор для сравнения элементов
+     * @param work       рабочий буфер или null
+     * @param workBase   начальная позиция доступной области буфера
+     * @param workLen    длина доступной области буфера
+     * @param <T>        тип элементов
+     * @throws IllegalArgumentException если компаратор нарушает свой контракт
+     */
+    @SuppressWarnings("unchecked")
+    static <T> void sort(Object[] a, int lo, int hi, Comparator<? super T> comparator,
+                         Object[] work, int workBase, int workLen) {
+        if (hi - lo < 2) {
+            return;
+        }
+        Comparator<Object> c = (Comparator<Object>) comparator;
+        new NaturalMergeSort(a, c, hi - lo, work, workBase, workLen).sortRange(lo, hi);
+    }
+
+    /**
+     * Разбивает участок на серии и сливает их в порядке, заданном глубинами границ между сериями.
+     * На стеке хранятся начала отложенных серий и глубины границ справа от них; каждая серия заканчивается
+     * там, где начинается следующая, а последняя - в начале текущей.
+     */
+    private void sortRange(int lo, int hi) {
+        int[] pendingStart = new int[MAX_DEPTH];
+        int[] pendingPower = new int[MAX_DEPTH];
+        int depth = 0;
+
+        int start = lo;
+        int end = nextRun(lo, hi);
+        while (end < hi) {
+            int nextEnd = nextRun(end, hi);
+            int power = boundaryPower(lo, start, end, nextEnd);
+            while (depth > 0 && pendingPower[depth - 1] > power) {
+                depth--;
+                merge(pendingStart[depth], start, end);
+                start = pendingStart[depth];
+            }
+            pendingStart[depth] = start;
+            pendingPower[depth] = power;
+            depth++;
+            start = end;
+            end = nextEnd;
+        }
+        while (depth > 0) {
+            depth--;
+            merge(pendingStart[depth], start, hi);
+            start = pendingStart[depth];
+        }
+    }
+
+    /**
+     * Находит серию, начинающуюся с позиции start, приводит ее к неубывающему порядку и при необходимости
+     * удлиняет бинарными вставками до {@link #MIN_RUN} элементов.
+     *
+     * @return Индекс конца серии (не включительно).
+     */
+    private int nextRun(int start, int hi) {
+        int end = start + 1;
+        if (end < hi) {
+            if (comparator.compare(a[end], a[start]) < 0) {
+                end++;
+                while (end < hi && comparator.compare(a[end], a[end - 1]) < 0) {
+                    end++;
+                }
+                reverse(start, end);
+            } else {
+                end++;
+                while (end < hi && comparator.compare(a[end], a[end - 1]) >= 0) {
+                    end++;
+                }
+            }
+        }
+        int minEnd = (int) Math.min(hi, (long) start + MIN_RUN);
+        if (end < minEnd) {
+            insertionSort(start, end, minEnd);
+            end = minEnd;
+        }
+        return end;
+    }
+
+    private void reverse(int from, int to) {
+        for (int i = from, j = to - 1; i < j; i++, j--) {
+            Object t = a[i];
+            a[i] = a[j];
+            a[j] = t;
+        }
+    }
+
+    /**
+     * Вставляет элементы [sorted, to) в упорядоченный префикс [from, sorted), находя позицию двоичным поиском.
+     * Равный элемент вставляется после существующих, что сохраняет устойчивость.
+     */
+    private void insertionSort(int from, int sorted, int to) {
+        for (int i = sorted; i < to; i++) {
+            Object x = a[i];
+            int pos = from + countBefore(a, from, i, x, true, comparator);
+            System.arraycopy(a, pos, a, pos + 1, i - pos);
+            a[pos] = x;
+        }
+    }
+
+    /**
+     * Вычисляет глубину границы между сериями [start1, end1) и [end1, end2) в идеально сбалансированном дереве
+     * над участком длины {@link #length}, начинающимся с lo. Середины серий переводятся в двоичные дроби
+     * от длины участка; глубина равна номеру первого двоичного разряда, в котором дроби различаются.
+     */
+    private int boundaryPower(int lo, int start1, int end1, int end2) {
+        long scale = 2L * length;
+        long left = (long) (start1 - lo) + (end1 - lo);
+        long right = (long) (end1 - lo) + (end2 - lo);
+        int power = 0;
+        while (true) {
+            power++;
+            left <<= 1;
+            right <<= 1;
+            boolean leftBit = left >= scale;
+            boolean rightBit = right >= scale;
+            if (leftBit != rightBit) {
+                return power;
+            }
+            if (leftBit) {
+                left -= scale;
+                right -= scale;
+            }
+        }
+    }
+
+    /**
+     * Сливает соседние упорядоченные серии [lo, mid) и [mid, hi).
+     */
+    private void merge(int lo, int mid, int hi) {
+        lo += countBefore(a, lo, mid, a[mid], true, comparator);
+        if (lo == mid) {
+            return;
+        }
+        hi -= countAfter(a, mid, hi, a[mid - 1], true, comparator);
+        if (mid - lo <= hi - mid) {
+            mergeForward(lo, mid, hi);
+        } else {
+            mergeBackward(lo, mid, hi);
+        }
+    }
+
+    /**
+     * Сливает серии слева направо, скопировав в буфер левую серию. После отсечения краев последний элемент
+     * левой серии больше последнего элемента правой, поэтому правая серия должна закончиться первой.
+     */
+    private void mergeForward(int lo, int mid, int hi) {
+        int leftLen = mid - lo;
+        Object[] buf = ensureWork(leftLen);
+        int i = workBase;
+        int leftEnd = workBase + leftLen;
+        System.arraycopy(a, lo, buf, i, leftLen);
+        int j = mid;
+        int k = lo;
+        int leftStreak = 0;
+        int rightStreak = 0;
+        while (i < leftEnd && j < hi) {
+            if (comparator.compare(a[j], buf[i]) < 0) {
+                a[k++] = a[j++];
+                leftStreak = 0;
+                if (++rightStreak >= GALLOP_STREAK && j < hi) {
+                    int run = countBefore(a, j, hi, buf[i], false, comparator);
+                    System.arraycopy(a, j, a, k, run);
+                    j += run;
+                    k += run;
+                    rightStreak = 0;
+                }
+            } else {
+                a[k++] = buf[i++];
+                rightStreak = 0;
+                if (++leftStreak >= GALLOP_STREAK && i < leftEnd) {
+                    int run = countBefore(buf, i, leftEnd, a[j], true, comparator);
+                    System.arraycopy(buf, i, a, k, run);
+                    i += run;
+                    k += run;
+                    leftStreak = 0;
+                }
+            }
+        }
+        if (i == leftEnd && j < hi) {
+            throw new IllegalArgumentException("Inconsistent comparator: left run ended first in a forward merge");
+        }
+        System.arraycopy(buf, i, a, k, leftEnd - i);
+    }
+
+    /**
+     * Сливает серии справа налево, скопировав в буфер правую серию. После отсечения краев первый элемент
+     * левой серии больше первого элемента правой, поэтому левая серия должна закончиться первой.
+     */
+    private void mergeBackward(int lo, int mid, int hi) {
+        int rightLen = hi - mid;
+        Object[] buf = ensureWork(rightLen);
+        System.arraycopy(a, mid, buf, workBase, rightLen);
+        int i = mid - 1;
+        int j = workBase + rightLen - 1;
+        int k = hi - 1;
+        int leftStreak = 0;
+        int rightStreak = 0;
+        while (i >= lo && j >= workBase) {
+            if (comparator.compare(buf[j], a[i]) < 0) {
+                a[k--] = a[i--];
+                rightStreak = 0;
+                if (++leftStreak >= GALLOP_STREAK && i >= lo) {
+                    int run = countAfter(a, lo, i + 1, buf[j], false, comparator);
+                    i -= run;
+                    k -= run;
+                    System.arraycopy(a, i + 1, a, k + 1, run);
+                    leftStreak = 0;
+                }
+            } else {
+                a[k--] = buf[j--];
+                leftStreak = 0;
+                if (++rightStreak >= GALLOP_STREAK && j >= workBase) {
+                    int run = countAfter(buf, workBase, j + 1, a[i], true, comparator);
+                    j -= run;
+                    k -= run;
+                    System.arraycopy(buf, j + 1, a, k + 1, run);
+                    rightStreak = 0;
+                }
+            }
+        }
+        if (j < workBase && i >= lo) {
+            throw new IllegalArgumentException("Inconsistent comparator: right run ended first in a backward merge");
+        }
+        System.arraycopy(buf, workBase, a, lo, j - workBase + 1);
+    }
+
+    /**
+     * Возвращает буфер, в котором с позиции {@link #workBase} помещается required элементов.
+     * Переданного вызывающим кодом буфера может не хватить; тогда один раз выделяется буфер на половину участка,
+     * которого достаточно для любого слияния, так как копируется только более короткая серия.
+     */
+    private Object[] ensureWork(int required) {
+        if (work == null || workLen < required) {
+            work = new Object[Math.max(required, length >>> 1)];
+            workBase = 0;
+            workLen = work.length;
+        }
+        return work;
+    }
+
+    /**
+     * Считает, сколько первых элементов упорядоченного участка [from, to) стоят перед ключом: строго меньше его
+     * или, если orEqual, не больше. Граница ищется экспоненциальным поиском от начала участка и уточняется двоичным,
+     * поэтому стоимость логарифмическая от ответа, а не от длины участка.
+     */
+    private static int countBefore(Object[] arr, int from, int to, Object key, boolean orEqual,
+                                   Comparator<Object> comparator) {
+        int n = to - from;
+        int known = 0;
+        int probe = 1;
+        while (probe <= n && precedes(comparator.compare(arr[from + probe - 1], key), orEqual)) {
+            known = probe;
+            probe = probe > n >>> 1 ? n + 1 : probe << 1;
+        }
+        int left = known;
+        int right = Math.min(probe - 1, n);
+        while (left < right) {
+            int middle = (left + right) >>> 1;
+            if (precedes(comparator.compare(arr[from + middle], key), orEqual)) {
+                left = middle + 1;
+            } else {
+                right = middle;
+            }
+        }
+        return left;
+    }
+
+    /**
+     * Считает, сколько последних элементов упорядоченного участка [from, to) стоят после ключа: строго больше его
+     * или, если orEqual, не меньше. Поиск зеркален {@link #countBefore} и начинается с конца участка.
+     */
+    private static int countAfter(Object[] arr, int from, int to, Object key, boolean orEqual,
+                                  Comparator<Object> comparator) {
+        int n = to - from;
+        int known = 0;
+        int probe = 1;
+        while (probe <= n && precedes(comparator.compare(key, arr[to - probe]), orEqual)) {
+            known = probe;
+            probe = probe > n >>> 1 ? n + 1 : probe << 1;
+        }
+        int left = known;
+        int right = Math.min(probe - 1, n);
+        while (left < right) {
+            int middle = (left + right) >>> 1;
+            if (precedes(comparator.compare(key, arr[to - 1 - middle]), orEqual)) {
+                left = middle + 1;
+            } else {
+                right = middle;
+            }
+        }
+        return left;
+    }
+
+    private static boolean precedes(int comparison, boolean orEqual) {
+        return orEqual ? comparison <= 0 : comparison < 0;
+    }
+}
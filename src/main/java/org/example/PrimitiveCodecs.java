@@ -0,0 +1,77 @@
+package org.example;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Встроенные кодеки фиксированной длины для упакованных примитивных типов.
+ */
+final class PrimitiveCodecs {
+    static final FixedWidthCodec<Integer> INT = new FixedWidthCodec<>() {
+        @Override
+        public int width() {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public void encode(Integer value, ByteBuffer target, int offset) {
+            target.putInt(offset, value);
+        }
+
+        @Override
+        public Integer decode(ByteBuffer source, int offset) {
+            return source.getInt(offset);
+        }
+
+        @Override
+        public int compare(ByteBuffer a, int offsetA, ByteBuffer b, int offsetB) {
+            return Integer.compare(a.getInt(offsetA), b.getInt(offsetB));
+        }
+    };
+
+    static final FixedWidthCodec<Long> LONG = new FixedWidthCodec<>() {
+        @Override
+        public int width() {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void encode(Long value, ByteBuffer target, int offset) {
+            target.putLong(offset, value);
+        }
+
+        @Override
+        public Long decode(ByteBuffer source, int offset) {
+            return source.getLong(offset);
+        }
+
+        @Override
+        public int compare(ByteBuffer a, int offsetA, ByteBuffer b, int offsetB) {
+            return Long.compare(a.getLong(offsetA), b.getLong(offsetB));
+        }
+    };
+
+    static final FixedWidthCodec<Double> DOUBLE = new FixedWidthCodec<>() {
+        @Override
+        public int width() {
+            return Double.BYTES;
+        }
+
+        @Override
+        public void encode(Double value, ByteBuffer target, int offset) {
+            target.putDouble(offset, value);
+        }
+
+        @Override
+        public Double decode(ByteBuffer source, int offset) {
+            return source.getDouble(offset);
+        }
+
+        @Override
+        public int compare(ByteBuffer a, int offsetA, ByteBuffer b, int offsetB) {
+            return Double.compare(a.getDouble(offsetA), b.getDouble(offsetB));
+        }
+    };
+
+    private PrimitiveCodecs() {
+    }
+}
@@ -0,0 +1,101 @@
+package org.example;
+
+/**
+ * Агрегаты и поиск по первым n элементам примитивных массивов, которыми пользуются списки
+ * {@link MyIntArrayList}, {@link MyLongArrayList} и {@link MyDoubleArrayList}.
+ * Методы по умолчанию выполняют скалярные циклы {@link ScalarKernels}; векторная реализация
+ * {@code VectorKernels} собирается отдельно и подключается через {@link VectorSupport#KERNELS}.
+ * <p>
+ * Диапазон значений в count и filter полуоткрытый: учитываются значения v, для которых low &lt;= v &lt; high.
+ */
+interface PrimitiveKernels {
+    /**
+     * Скалярные ядра, доступные при любой сборке и любом запуске.
+     */
+    PrimitiveKernels SCALAR = new PrimitiveKernels() {
+    };
+
+    /**
+     * Возвращает ширину векторов, которыми работают ядра, в битах; 0 для скалярных ядер.
+     */
+    default int vectorBits() {
+        return 0;
+    }
+
+    default long sum(int[] a, int n) {
+        return ScalarKernels.sum(a, 0, n);
+    }
+
+    default long sum(long[] a, int n) {
+        return ScalarKernels.sum(a, 0, n);
+    }
+
+    default double sum(double[] a, int n) {
+        return ScalarKernels.sum(a, 0, n);
+    }
+
+    default int min(int[] a, int n) {
+        return ScalarKernels.min(a, 0, n);
+    }
+
+    default long min(long[] a, int n) {
+        return ScalarKernels.min(a, 0, n);
+    }
+
+    default double min(double[] a, int n) {
+        return ScalarKernels.min(a, 0, n);
+    }
+
+    default int max(int[] a, int n) {
+        return ScalarKernels.max(a, 0, n);
+    }
+
+    default long max(long[] a, int n) {
+        return ScalarKernels.max(a, 0, n);
+    }
+
+    default double max(double[] a, int n) {
+        return ScalarKernels.max(a, 0, n);
+    }
+
+    default int indexOf(int[] a, int n, int value) {
+        return ScalarKernels.indexOf(a, 0, n, value);
+    }
+
+    default int indexOf(long[] a, int n, long value) {
+        return ScalarKernels.indexOf(a, 0, n, value);
+    }
+
+    default int indexOf(double[] a, int n, double value) {
+        return ScalarKernels.indexOf(a, 0, n, value);
+    }
+
+    default int count(int[] a, int n, int low, int high) {
+        return ScalarKernels.count(a, 0, n, low, high);
+    }
+
+    default int count(long[] a, int n, long low, long high) {
+        return ScalarKernels.count(a, 0, n, low, high);
+    }
+
+    default int count(double[] a, int n, double low, double high) {
+        return ScalarKernels.count(a, 0, n, low, high);
+    }
+
+    /**
+     * Копирует значения из диапазона [low, high) по порядку в массив dst, начиная с позиции offset.
+     *
+     * @return Количество скопированных значений.
+     */
+    default int filter(int[] a, int n, int low, int high, int[] dst, int offset) {
+        return ScalarKernels.filter(a, 0, n, low, high, dst, offset);
+    }
+
+    default int filter(long[] a, int n, long low, long high, long[] dst, int offset) {
+        return ScalarKernels.filter(a, 0, n, low, high, dst, offset);
+    }
+
+    default int filter(double[] a, int n, double low, double high, double[] dst, int offset) {
+        return ScalarKernels.filter(a, 0, n, low, high, dst, offset);
+    }
+}
@@ -0,0 +1,239 @@
+package org.example;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Сортировки записей фиксированной длины, лежащих в байтовом буфере.
+ * Записи сравниваются и перемещаются прямо в закодированном виде, без создания объектов-элементов,
+ * поэтому сортировка данных вне кучи не нагружает сборщик мусора.
+ */
+final class RecordSort {
+    /**
+     * Длина блоков, которые сортировка слиянием предварительно упорядочивает вставками.
+     */
+    private static final int INSERTION_RUN = 32;
+
+    /**
+     * Участки не длиннее этого порога быстрая сортировка упорядочивает вставками.
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    /**
+     * Сравнение двух закодированных записей.
+     */
+    @FunctionalInterface
+    interface RecordComparator {
+        int compare(ByteBuffer a, int offsetA, ByteBuffer b, int offsetB);
+    }
+
+    private RecordSort() {
+    }
+
+    /**
+     * Сортирует первые n записей устойчивой восходящей сортировкой слиянием.
+     * Проходы попеременно переносят данные между буферами, поэтому результат может оказаться в любом из них.
+     *
+     * @param data    буфер с записями
+     * @param scratch вспомогательный буфер не меньшей длины с тем же порядком байтов
+     * @param n       количество записей
+     * @param width   длина записи в байтах
+     * @param c       сравнение записей
+     * @return буфер, в котором находятся отсортированные записи
+     */
+    static ByteBuffer mergeSort(ByteBuffer data, ByteBuffer scratch, int n, int width, RecordComparator c) {
+        byte[] tmp = new byte[width];
+        ByteBuffer tmpBuffer = ByteBuffer.wrap(tmp).order(data.order());
+        for (int lo = 0; lo < n; lo += INSERTION_RUN) {
+            insertionSort(data, lo, Math.min(lo + INSERTION_RUN, n), width, tmp, tmpBuffer, c);
+        }
+
+        ByteBuffer src = data;
+        ByteBuffer dst = scratch;
+        for (int run = INSERTION_RUN; run < n; run *= 2) {
+            for (int lo = 0; lo < n; lo += 2 * run) {
+                int mid = Math.min(lo + run, n);
+                int hi = Math.min(lo + 2 * run, n);
+                merge(src, dst, lo, mid, hi, width, c);
+            }
+            ByteBuffer t = src;
+            src = dst;
+            dst = t;
+        }
+        return src;
+    }
+
+    /**
+     * Сливает отсортированные участки [lo, mid) и [mid, hi) из src в dst.
+     * Если участки уже идут по порядку, они копируются одним блоком.
+     */
+    private static void merge(ByteBuffer src, ByteBuffer dst, int lo, int mid, int hi, int width, RecordComparator c) {
+        if (mid == hi || c.compare(src, (mid - 1) * width, src, mid * width) <= 0) {
+            dst.put(lo * width, src, lo * width, (hi - lo) * width);
+            return;
+        }
+        int i = lo;
+        int j = mid;
+        int k = lo;
+        while (i < mid && j < hi) {
+            if (c.compare(src, j * width, src, i * width) < 0) {
+                dst.put(k++ * width, src, j++ * width, width);
+            } else {
+                dst.put(k++ * width, src, i++ * width, width);
+            }
+        }
+        dst.put(k * width, src, i * width, (mid - i) * width);
+        k += mid - i;
+        dst.put(k * width, src, j * width, (hi - j) * width);
+    }
+
+    /**
+     * Устойчиво сортирует записи [lo, hi) вставками, сдвигая большие записи одним блоком.
+     */
+    private static void insertionSort(ByteBuffer a, int lo, int hi, int width, byte[] tmp, ByteBuffer tmpBuffer,
+                                      RecordComparator c) {
+        for (int i = lo + 1; i < hi; i++) {
+            if (c.compare(a, (i - 1) * width, a, i * width) <= 0) {
+                continue;
+            }
+            a.get(i * width, tmp);
+            int j = i - 1;
+            while (j >= lo && c.compare(a, j * width, tmpBuffer, 0) > 0) {
+                j--;
+            }
+            a.put((j + 2) * width, a, (j + 1) * width, (i - j - 1) * width);
+            a.put((j + 1) * width, tmp);
+        }
+    }
+
+    /**
+     * Сортирует первые n записей на месте интроспективной сортировкой: трехпутевое разбиение
+     * вокруг медианы трех, вставки на коротких участках и пирамидальная сортировка при слишком глубоком разбиении.
+     * Кроме нескольких буферов длиной в одну запись память не выделяется. Сортировка неустойчива.
+     *
+     * @param data  буфер с записями
+     * @param n     количество записей
+     * @param width длина записи в байтах
+     * @param c     сравнение записей
+     */
+    static void introSort(ByteBuffer data, int n, int width, RecordComparator c) {
+        if (n < 2) {
+            return;
+        }
+        new InPlace(data, width, c).sort(0, n - 1, 2 * (31 - Integer.numberOfLeadingZeros(n)));
+    }
+
+    /**
+     * Состояние быстрой сортировки на месте: буферы для обмена записей и для копии опорной записи.
+     */
+    private static final class InPlace {
+        private final ByteBuffer a;
+        private final int width;
+        private final RecordComparator c;
+        private final byte[] swapA;
+        private final byte[] swapB;
+        private final byte[] pivot;
+        private final ByteBuffer pivotBuffer;
+
+        InPlace(ByteBuffer a, int width, RecordComparator c) {
+            this.a = a;
+            this.width = width;
+            this.c = c;
+            this.swapA = new byte[width];
+            this.swapB = new byte[width];
+            this.pivot = new byte[width];
+            this.pivotBuffer = ByteBuffer.wrap(pivot).order(a.order());
+        }
+
+        void sort(int low, int high, int depthLimit) {
+            while (high - low + 1 > INSERTION_SORT_THRESHOLD) {
+                if (depthLimit-- == 0) {
+                    heapSort(low, high + 1);
+                    return;
+                }
+
+                a.get(medianOfThree(low, (low + high) >>> 1, high) * width, pivot);
+                int lt = low;
+                int i = low;
+                int gt = high;
+                while (i <= gt) {
+                    int cmp = c.compare(a, i * width, pivotBuffer, 0);
+                    if (cmp < 0) {
+                        swap(lt++, i++);
+                    } else if (cmp > 0) {
+                        swap(i, gt--);
+                    } else {
+                        i++;
+                    }
+                }
+
+                if (lt - low < high - gt) {
+                    sort(low, lt - 1, depthLimit);
+                    low = gt + 1;
+                } else {
+                    sort(gt + 1, high, depthLimit);
+                    high = lt - 1;
+                }
+            }
+            for (int i = low + 1; i <= high; i++) {
+                for (int j = i; j > low && compare(j - 1, j) > 0; j--) {
+                    swap(j - 1, j);
+                }
+            }
+        }
+
+        private int medianOfThree(int i, int j, int k) {
+            if (compare(i, j) < 0) {
+                if (compare(j, k) < 0) {
+                    return j;
+                }
+                return compare(i, k) < 0 ? k : i;
+            }
+            if (compare(j, k) > 0) {
+                return j;
+            }
+            return compare(i, k) > 0 ? k : i;
+        }
+
+        private void heapSort(int lo, int hi) {
+            int n = hi - lo;
+            for (int i = n / 2 - 1; i >= 0; i--) {
+                siftDown(lo, i, n);
+            }
+            for (int end = n - 1; end > 0; end--) {
+                swap(lo, lo + end);
+                siftDown(lo, 0, end);
+            }
+        }
+
+        private void siftDown(int base, int i, int n) {
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= n) {
+                    return;
+                }
+                if (child + 1 < n && compare(base + child + 1, base + child) > 0) {
+                    child++;
+                }
+                if (compare(base + child, base + i) <= 0) {
+                    return;
+                }
+                swap(base + i, base + child);
+                i = child;
+            }
+        }
+
+        private int compare(int i, int j) {
+            return c.compare(a, i * width, a, j * width);
+        }
+
+        private void swap(int i, int j) {
+            if (i == j) {
+                return;
+            }
+            a.get(i * width, swapA);
+            a.get(j * width, swapB);
+            a.put(i * width, swapB);
+            a.put(j * width, swapA);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package org.example;
+
+/**
+ * Скалярные реализации агрегатов и поиска по участку [start, end) примитивных массивов. Используются
+ * методами {@link PrimitiveKernels} по умолчанию, которые выполняют списки {@link MyIntArrayList},
+ * {@link MyLongArrayList} и {@link MyDoubleArrayList}, когда векторные ядра {@code VectorKernels} недоступны,
+ * и служат эталоном для их проверки.
+ * <p>
+ * Диапазон значений в count и filter полуоткрытый: учитываются значения v, для которых low &lt;= v &lt; high.
+ */
+final class ScalarKernels {
+    private ScalarKernels() {
+    }
+
+    static long sum(int[] a, int start, int end) {
+        long sum = 0;
+        for (int i = start; i < end; i++) {
+            sum += a[i];
+        }
+        return sum;
+    }
+
+    static long sum(long[] a, int start, int end) {
+        long sum = 0;
+        for (int i = start; i < end; i++) {
+            sum += a[i];
+        }
+        return sum;
+    }
+
+    static double sum(double[] a, int start, int end) {
+        double sum = 0;
+        for (int i = start; i < end; i++) {
+            sum += a[i];
+        }
+        return sum;
+    }
+
+    static int min(int[] a, int start, int end) {
+        int min = Integer.MAX_VALUE;
+        for (int i = start; i < end; i++) {
+            min = Math.min(min, a[i]);
+        }
+        return min;
+    }
+
+    static long min(long[] a, int start, int end) {
+        long min = Long.MAX_VALUE;
+        for (int i = start; i < end; i++) {
+            min = Math.min(min, a[i]);
+        }
+        return min;
+    }
+
+    static double min(double[] a, int start, int end) {
+        double min = Double.POSITIVE_INFINITY;
+        for (int i = start; i < end; i++) {
+            min = Math.min(min, a[i]);
+        }
+        return min;
+    }
+
+    static int max(int[] a, int start, int end) {
+        int max = Integer.MIN_VALUE;
+        for (int i = start; i < end; i++) {
+            max = Math.max(max, a[i]);
+        }
+        return max;
+    }
+
+    static long max(long[] a, int start, int end) {
+        long max = Long.MIN_VALUE;
+        for (int i = start; i < end; i++) {
+            max = Math.max(max, a[i]);
+        }
+        return max;
+    }
+
+    static double max(double[] a, int start, int end) {
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = start; i < end; i++) {
+            max = Math.max(max, a[i]);
+        }
+        return max;
+    }
+
+    static int indexOf(int[] a, int start, int end, int value) {
+        for (int i = start; i < end; i++) {
+            if (a[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int indexOf(long[] a, int start, int end, long value) {
+        for (int i = start; i < end; i++) {
+            if (a[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int indexOf(double[] a, int start, int end, double value) {
+        for (int i = start; i < end; i++) {
+            if (a[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int count(int[] a, int start, int end, int low, int high) {
+        int count = 0;
+        for (int i = start; i < end; i++) {
+            if (a[i] >= low && a[i] < high) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    static int count(long[] a, int start, int end, long low, long high) {
+        int count = 0;
+        for (int i = start; i < end; i++) {
+            if (a[i] >= low && a[i] < high) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    static int count(double[] a, int start, int end, double low, double high) {
+        int count = 0;
+        for (int i = start; i < end; i++) {
+            if (a[i] >= low && a[i] < high) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Копирует значения из диапазона [low, high) по порядку в массив dst, начиная с позиции offset.
+     *
+     * @return Количество скопированных значений.
+     */
+    static int filter(int[] a, int start, int end, int low, int high, int[] dst, int offset) {
+        int position = offset;
+        for (int i = start; i < end; i++) {
+            int value = a[i];
+            if (value >= low && value < high) {
+                dst[position++] = value;
+            }
+        }
+        return position - offset;
+    }
+
+    static int filter(long[] a, int start, int end, long low, long high, long[] dst, int offset) {
+        int position = offset;
+        for (int i = start; i < end; i++) {
+            long value = a[i];
+            if (value >= low && value < high) {
+                dst[position++] = value;
+            }
+        }
+        return position - offset;
+    }
+
+    static int filter(double[] a, int start, int end, double low, double high, double[] dst, int offset) {
+        int position = offset;
+        for (int i = start; i < end; i++) {
+            double value = a[i];
+            if (value >= low && value < high) {
+                dst[position++] = value;
+            }
+        }
+        return position - offset;
+    }
+}
@@ -0,0 +1,71 @@
+package org.example;
+
+/**
+ * Политика сжатия внутреннего массива {@link MyArrayList}. Проверяется после удалений и очистки списка
+ * и решает, заменить ли массив меньшим, чтобы список, однажды содержавший много элементов, не удерживал
+ * память навсегда.
+ * <p>
+ * Порог сжатия должен быть заметно ниже заполнения, при котором массив расширяется: иначе чередование
+ * вставок и удалений на границе будет перевыделять массив каждый раз.
+ */
+@FunctionalInterface
+public interface ShrinkPolicy {
+    /**
+     * Вычисляет емкость, до которой нужно сжать массив. Результат, не меньший текущей емкости, означает,
+     * что массив остается прежним; результат меньше size список заменяет на size.
+     *
+     * @param capacity Текущая емкость массива.
+     * @param size     Количество элементов после удаления.
+     * @return Новая емкость массива.
+     */
+    int shrink(int capacity, int size);
+
+    /**
+     * Возвращает политику, которая никогда не сжимает массив. Используется списком по умолчанию;
+     * освободить память по-прежнему можно явным вызовом {@link MyArrayList#trimToSize()}.
+     *
+     * @return Политика без сжатия.
+     */
+    static ShrinkPolicy never() {
+        return (capacity, size) -> capacity;
+    }
+
+    /**
+     * Возвращает политику с гистерезисом, подходящую к удвоению емкости: массив сжимается вдвое больше
+     * количества элементов, когда заполнен меньше чем на четверть.
+     *
+     * @param minCapacity Емкость, меньше которой массив не сжимается.
+     * @return Политика сжатия с гистерезисом.
+     * @throws IllegalArgumentException если минимальная емкость отрицательна.
+     */
+    static ShrinkPolicy hysteresis(int minCapacity) {
+        return hysteresis(0.25, 0.5, minCapacity);
+    }
+
+    /**
+     * Возвращает политику с гистерезисом: когда доля занятых ячеек опускается ниже shrinkBelow, массив
+     * сжимается так, чтобы доля занятых ячеек стала равна targetLoad. Между порогом и целевым заполнением
+     * массив не перевыделяется ни при удалениях, ни при вставках.
+     *
+     * @param shrinkBelow Доля занятых ячеек, ниже которой массив сжимается.
+     * @param targetLoad  Доля занятых ячеек после сжатия, больше shrinkBelow и не больше 1.
+     * @param minCapacity Емкость, меньше которой массив не сжимается.
+     * @return Политика сжатия с гистерезисом.
+     * @throws IllegalArgumentException если не выполняется 0 &lt; shrinkBelow &lt; targetLoad &lt;= 1
+     *                                  или минимальная емкость отрицательна.
+     */
+    static ShrinkPolicy hysteresis(double shrinkBelow, double targetLoad, int minCapacity) {
+        if (!(shrinkBelow > 0 && shrinkBelow < targetLoad && targetLoad <= 1)) {
+            throw new IllegalArgumentException("Illegal load factors: " + shrinkBelow + ", " + targetLoad);
+        }
+        if (minCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + minCapacity);
+        }
+        return (capacity, size) -> {
+            if (capacity <= minCapacity || size >= capacity * shrinkBelow) {
+                return capacity;
+            }
+            return (int) Math.max(minCapacity, Math.ceil(size / targetLoad));
+        };
+    }
+}
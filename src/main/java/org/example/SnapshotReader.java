@@ -0,0 +1,107 @@
+package org.example;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * Потоковое чтение снимка списка, записанного {@link SnapshotWriter}.
+ * Данные читаются из канала крупными блоками, поэтому чтение может забрать из канала
+ * байты, следующие за снимком.
+ *
+ * @param <T> тип элементов
+ */
+final class SnapshotReader<T> {
+    private static final int HEADER_SIZE = 3 * Integer.BYTES + Long.BYTES;
+
+    private final ReadableByteChannel channel;
+    private final ElementCodec<T> codec;
+    private final int fixedWidth;
+    private final long count;
+    private ByteBuffer buffer;
+
+    /**
+     * Создает чтение снимка и проверяет его заголовок.
+     *
+     * @param channel исходный канал
+     * @param codec   кодек элементов; должен совпадать с кодеком, которым снимок был записан
+     * @throws IOException если чтение не удалось, данные не являются снимком или записаны кодеком другой длины
+     */
+    SnapshotReader(ReadableByteChannel channel, ElementCodec<T> codec) throws IOException {
+        this.channel = channel;
+        this.codec = codec;
+        this.fixedWidth = codec.fixedWidth();
+        this.buffer = SnapshotWriter.allocate(SnapshotWriter.BUFFER_SIZE).limit(0);
+
+        require(HEADER_SIZE);
+        if (buffer.getInt() != SnapshotWriter.MAGIC) {
+            throw new IOException("Not a list snapshot");
+        }
+        int version = buffer.getInt();
+        if (version != SnapshotWriter.VERSION) {
+            throw new IOException("Unsupported snapshot version: " + version);
+        }
+        int width = buffer.getInt();
+        if (width != fixedWidth) {
+            throw new IOException("Record width mismatch: snapshot has " + width + ", codec has " + fixedWidth);
+        }
+        count = buffer.getLong();
+        if (count < 0) {
+            throw new IOException("Corrupted snapshot header");
+        }
+    }
+
+    /**
+     * Возвращает количество элементов в снимке.
+     *
+     * @return количество элементов
+     */
+    long count() {
+        return count;
+    }
+
+    /**
+     * Читает очередной элемент снимка.
+     *
+     * @return прочитанный элемент
+     * @throws IOException если чтение не удалось или снимок оборван
+     */
+    T read() throws IOException {
+        int length = fixedWidth;
+        if (length < 0) {
+            require(Integer.BYTES);
+            length = buffer.getInt();
+            if (length < 0) {
+                throw new IOException("Corrupted snapshot record length: " + length);
+            }
+        }
+        require(length);
+        int offset = buffer.position();
+        T element = codec.decode(buffer, offset, length);
+        buffer.position(offset + length);
+        return element;
+    }
+
+    /**
+     * Дочитывает из канала данные, пока в буфере не окажется не меньше указанного количества байт.
+     */
+    private void require(int bytes) throws IOException {
+        if (buffer.remaining() >= bytes) {
+            return;
+        }
+        if (buffer.capacity() < bytes) {
+            ByteBuffer larger = SnapshotWriter.allocate(bytes);
+            larger.put(buffer);
+            buffer = larger;
+        } else {
+            buffer.compact();
+        }
+        while (buffer.position() < bytes) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("Unexpected end of snapshot");
+            }
+        }
+        buffer.flip();
+    }
+}
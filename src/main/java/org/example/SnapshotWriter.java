@@ -0,0 +1,102 @@
+package org.example;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Потоковая запись снимка списка в канал.
+ * <p>
+ * Формат снимка (порядок байтов little-endian): сигнатура, версия, длина записи кодека (-1 для переменной длины),
+ * количество элементов, затем сами элементы. Элементы фиксированной длины записываются подряд,
+ * а перед элементом переменной длины записывается его длина. Элементы кодируются в прямой буфер,
+ * который сбрасывается в канал крупными блоками, поэтому промежуточный массив всех элементов не создается.
+ *
+ * @param <T> тип элементов
+ */
+final class SnapshotWriter<T> {
+    /**
+     * Сигнатура снимка ("MYSN").
+     */
+    static final int MAGIC = 0x4D59534E;
+
+    static final int VERSION = 1;
+
+    /**
+     * Размер буфера, которым данные передаются в канал.
+     */
+    static final int BUFFER_SIZE = 1 << 16;
+
+    private final WritableByteChannel channel;
+    private final ElementCodec<? super T> codec;
+    private final int fixedWidth;
+    private ByteBuffer buffer;
+
+    /**
+     * Создает запись снимка и записывает его заголовок.
+     *
+     * @param channel канал назначения
+     * @param codec   кодек элементов
+     * @param count   количество элементов, которое будет записано
+     * @throws IOException если запись в канал не удалась
+     */
+    SnapshotWriter(WritableByteChannel channel, ElementCodec<? super T> codec, long count) throws IOException {
+        this.channel = channel;
+        this.codec = codec;
+        this.fixedWidth = codec.fixedWidth();
+        this.buffer = allocate(BUFFER_SIZE);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(fixedWidth).putLong(count);
+    }
+
+    /**
+     * Кодирует очередной элемент в буфер, сбрасывая буфер в канал при заполнении.
+     *
+     * @param element элемент для записи
+     * @throws IOException если запись в канал не удалась
+     */
+    void write(T element) throws IOException {
+        int length = codec.encodedSize(element);
+        if (fixedWidth < 0) {
+            ensureRemaining(Integer.BYTES + length);
+            buffer.putInt(length);
+        } else {
+            ensureRemaining(length);
+        }
+        codec.encode(element, buffer, buffer.position());
+        buffer.position(buffer.position() + length);
+    }
+
+    /**
+     * Сбрасывает в канал оставшиеся в буфере данные.
+     *
+     * @throws IOException если запись в канал не удалась
+     */
+    void finish() throws IOException {
+        flush();
+    }
+
+    /**
+     * Освобождает в буфере место под запись указанной длины; для записей длиннее буфера выделяется буфер побольше.
+     */
+    private void ensureRemaining(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+            if (buffer.capacity() < bytes) {
+                buffer = allocate(bytes);
+            }
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    static ByteBuffer allocate(int capacity) {
+        return ByteBuffer.allocateDirect(capacity).order(ByteOrder.LITTLE_ENDIAN);
+    }
+}
@@ -0,0 +1,82 @@
+package org.example;
+
+import java.util.Comparator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Измерение одной сортировки списка для {@link ListMetricsListener} и события JFR {@link ListSortEvent}.
+ * Если ни получатель, ни событие не включены, компаратор не оборачивается и время не измеряется.
+ *
+ * @param <T> тип сортируемых элементов
+ */
+final class SortMeter<T> {
+    private final ListMetricsListener listener;
+    private final ListSortEvent event = new ListSortEvent();
+    private final Comparator<? super T> comparator;
+    private final LongAdder comparisons;
+    private final String listType;
+    private final String algorithm;
+    private final int size;
+    private final long start;
+
+    /**
+     * Начинает измерение сортировки.
+     *
+     * @param listType   название класса сортируемого списка
+     * @param algorithm  название алгоритма сортировки
+     * @param size       количество сортируемых элементов
+     * @param comparator компаратор сортировки
+     * @param listener   получатель метрик списка или null
+     */
+    SortMeter(String listType, String algorithm, int size, Comparator<? super T> comparator,
+              ListMetricsListener listener) {
+        this.listener = listener;
+        this.listType = listType;
+        this.algorithm = algorithm;
+        this.size = size;
+        if (listener == null && !event.isEnabled()) {
+            this.comparator = comparator;
+            this.comparisons = null;
+            this.start = 0;
+            return;
+        }
+        LongAdder counter = new LongAdder();
+        this.comparisons = counter;
+        this.comparator = (a, b) -> {
+            counter.increment();
+            return comparator.compare(a, b);
+        };
+        this.start = System.nanoTime();
+        event.begin();
+    }
+
+    /**
+     * Возвращает компаратор, которым нужно сортировать: исходный или считающий сравнения.
+     *
+     * @return компаратор сортировки
+     */
+    Comparator<? super T> comparator() {
+        return comparator;
+    }
+
+    /**
+     * Завершает измерение и передает результаты получателю и в JFR.
+     */
+    void finish() {
+        if (comparisons == null) {
+            return;
+        }
+        long duration = System.nanoTime() - start;
+        event.end();
+        if (event.shouldCommit()) {
+            event.listType = listType;
+            event.algorithm = algorithm;
+            event.size = size;
+            event.comparisons = comparisons.sum();
+            event.commit();
+        }
+        if (listener != null) {
+            listener.onSort(algorithm, size, comparisons.sum(), duration);
+        }
+    }
+}
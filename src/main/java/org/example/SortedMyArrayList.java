@@ -0,0 +1,254 @@
+package org.example;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Класс SortedMyArrayList представляет собой список, элементы которого всегда упорядочены по заданному компаратору.
+ * Элементы хранятся в {@link MyArrayList}: позиция вставки находится двоичным поиском, после чего более короткая
+ * часть списка сдвигается одним блочным копированием. Поиск элемента, ближайших к ключу элементов и подсчет
+ * элементов в диапазоне выполняются двоичным поиском за O(log n) вместо линейного просмотра.
+ * <p>
+ * Равные элементы хранятся в порядке добавления.
+ *
+ * @param <T> Тип элементов, которые будут храниться в списке. Должен быть сравнимым.
+ */
+public class SortedMyArrayList<T extends Comparable<? super T>> implements Iterable<T> {
+    private final MyArrayList<T> list = new MyArrayList<>();
+
+    private final Comparator<? super T> comparator;
+
+    /**
+     * Конструктор для создания пустого списка, упорядоченного в естественном порядке элементов.
+     */
+    public SortedMyArrayList() {
+        this(Comparator.naturalOrder());
+    }
+
+    /**
+     * Конструктор для создания пустого списка, упорядоченного заданным компаратором.
+     *
+     * @param comparator Компаратор, задающий порядок элементов.
+     */
+    public SortedMyArrayList(Comparator<? super T> comparator) {
+        this.comparator = Objects.requireNonNull(comparator);
+    }
+
+    /**
+     * Добавляет элемент в позицию, сохраняющую порядок: после всех равных ему элементов.
+     *
+     * @param element Элемент для добавления.
+     * @return Индекс, по которому элемент был добавлен.
+     */
+    public int add(T element) {
+        int index = upperBound(element);
+        list.add(index, element);
+        return index;
+    }
+
+    /**
+     * Добавляет все элементы массива. Элементы дописываются в конец, после чего список досортировывается
+     * адаптивной сортировкой слиянием, которая берет уже упорядоченную часть как готовую серию, поэтому добавление
+     * нескольких элементов обходится почти линейным слиянием, а не k сдвигами хвоста.
+     *
+     * @param array Массив добавляемых элементов.
+     */
+    public void addAll(T[] array) {
+        list.addAll(array);
+        list.sort(comparator);
+    }
+
+    /**
+     * Возвращает элемент по указанному индексу.
+     *
+     * @param index Индекс запрашиваемого элемента.
+     * @return Элемент на указанной позиции в списке.
+     * @throws IndexOutOfBoundsException если индекс находится вне диапазона (index &lt; 0 || index >= size).
+     */
+    public T get(int index) {
+        return list.get(index);
+    }
+
+    /**
+     * Возвращает количество элементов в списке.
+     *
+     * @return Количество элементов в списке.
+     */
+    public int getSize() {
+        return list.getSize();
+    }
+
+    /**
+     * Удаляет элемент по указанному индексу из списка.
+     *
+     * @param index Индекс удаляемого элемента.
+     * @throws IndexOutOfBoundsException если индекс находится вне диапазона (index &lt; 0 || index >= size).
+     */
+    public void remove(int index) {
+        list.remove(index);
+    }
+
+    /**
+     * Удаляет первый элемент, равный указанному по компаратору списка.
+     *
+     * @param element Удаляемый элемент.
+     * @return true, если элемент был найден и удален.
+     */
+    public boolean remove(T element) {
+        int index = indexOf(element);
+        if (index < 0) {
+            return false;
+        }
+        list.remove(index);
+        return true;
+    }
+
+    /**
+     * Очищает список, удаляя все элементы из него.
+     */
+    public void clear() {
+        list.clear();
+    }
+
+    /**
+     * Ищет элемент двоичным поиском.
+     *
+     * @param key Искомый элемент.
+     * @return Индекс какого-либо элемента, равного ключу, если он есть в списке; иначе (-(точка вставки) - 1),
+     * где точка вставки - индекс первого элемента, большего ключа, или размер списка.
+     */
+    public int binarySearch(T key) {
+        int low = 0;
+        int high = list.getSize() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int result = comparator.compare(list.get(middle), key);
+            if (result < 0) {
+                low = middle + 1;
+            } else if (result > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Возвращает индекс первого элемента, равного указанному по компаратору списка.
+     *
+     * @param element Искомый элемент.
+     * @return Индекс первого равного элемента или -1, если такого элемента нет.
+     */
+    public int indexOf(T element) {
+        int index = lowerBound(element);
+        return index < list.getSize() && comparator.compare(list.get(index), element) == 0 ? index : -1;
+    }
+
+    /**
+     * Проверяет, есть ли в списке элемент, равный указанному по компаратору списка.
+     *
+     * @param element Искомый элемент.
+     * @return true, если такой элемент есть.
+     */
+    public boolean contains(T element) {
+        return indexOf(element) >= 0;
+    }
+
+    /**
+     * Возвращает наибольший элемент, не превосходящий ключ.
+     *
+     * @param key Ключ.
+     * @return Наибольший элемент, меньший или равный ключу, или null, если такого элемента нет.
+     */
+    public T floor(T key) {
+        int index = upperBound(key);
+        return index == 0 ? null : list.get(index - 1);
+    }
+
+    /**
+     * Возвращает наименьший элемент, не меньший ключа.
+     *
+     * @param key Ключ.
+     * @return Наименьший элемент, больший или равный ключу, или null, если такого элемента нет.
+     */
+    public T ceiling(T key) {
+        int index = lowerBound(key);
+        return index == list.getSize() ? null : list.get(index);
+    }
+
+    /**
+     * Подсчитывает элементы из диапазона [fromElement, toElement) двумя двоичными поисками.
+     *
+     * @param fromElement Нижняя граница диапазона (включительно).
+     * @param toElement   Верхняя граница диапазона (не включительно).
+     * @return Количество элементов в диапазоне; 0, если нижняя граница не меньше верхней.
+     */
+    public int count(T fromElement, T toElement) {
+        return Math.max(0, lowerBound(toElement) - lowerBound(fromElement));
+    }
+
+    /**
+     * Возвращает массив всех элементов списка в порядке возрастания.
+     *
+     * @return Массив содержащий все элементы списка.
+     */
+    public T[] toArray() {
+        return list.toArray();
+    }
+
+    /**
+     * Возвращает итератор по элементам списка в порядке возрастания.
+     *
+     * @return Итератор по элементам списка.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return list.iterator();
+    }
+
+    /**
+     * Возвращает последовательный поток элементов списка в порядке возрастания.
+     *
+     * @return Поток элементов списка.
+     */
+    public Stream<T> stream() {
+        return list.stream();
+    }
+
+    /**
+     * Возвращает индекс первого элемента, не меньшего ключа, или размер списка.
+     */
+    private int lowerBound(T key) {
+        int low = 0;
+        int high = list.getSize();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (comparator.compare(list.get(middle), key) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Возвращает индекс первого элемента, большего ключа, или размер списка.
+     */
+    private int upperBound(T key) {
+        int low = 0;
+        int high = list.getSize();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (comparator.compare(list.get(middle), key) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,52 @@
+package org.example;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Встроенный кодек строк в кодировке UTF-8 с переменной длиной представления.
+ */
+final class StringCodec implements ElementCodec<String> {
+    static final StringCodec INSTANCE = new StringCodec();
+
+    private StringCodec() {
+    }
+
+    /**
+     * Считает длину строки в UTF-8, не кодируя ее.
+     * Непарный суррогат кодируется одним байтом замены, как это делает {@link String#getBytes}.
+     */
+    @Override
+    public int encodedSize(String value) {
+        int length = value.length();
+        int bytes = 0;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                bytes++;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (!Character.isSurrogate(c)) {
+                bytes += 3;
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                bytes += 4;
+                i++;
+            } else {
+                bytes++;
+            }
+        }
+        return bytes;
+    }
+
+    @Override
+    public void encode(String value, ByteBuffer target, int offset) {
+        target.put(offset, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public String decode(ByteBuffer source, int offset, int length) {
+        byte[] bytes = new byte[length];
+        source.get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
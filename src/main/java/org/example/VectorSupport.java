@@ -0,0 +1,54 @@
+package org.example;
+
+/**
+ * Выбирает ядра {@link PrimitiveKernels}, которыми пользуются примитивные списки. Решение принимается
+ * один раз при загрузке класса: векторные ядра {@code VectorKernels} подключаются, если проект собран
+ * в профиле Maven {@code vector}, виртуальная машина запущена с {@code --add-modules jdk.incubator.vector},
+ * предпочтительные векторы процессора не уже 128 бит и ядра не отключены свойством
+ * {@code -Dorg.example.vector=false}. Иначе списки выполняют скалярные циклы {@link ScalarKernels}.
+ * <p>
+ * Ядра хранятся в статическом неизменяемом поле, поэтому JIT-компилятор видит единственную реализацию
+ * и встраивает ее методы так же, как прямые статические вызовы.
+ */
+final class VectorSupport {
+    /**
+     * Системное свойство, значение false которого отключает векторные ядра.
+     */
+    static final String PROPERTY = "org.example.vector";
+
+    /**
+     * Имя класса векторных ядер, который есть только в сборке с профилем {@code vector}.
+     */
+    private static final String VECTOR_KERNELS = "org.example.VectorKernels";
+
+    /**
+     * Минимальная ширина векторов, при которой векторные ядра быстрее скалярных циклов.
+     */
+    private static final int MIN_VECTOR_BITS = 128;
+
+    /**
+     * Ядра, которыми выполняются агрегаты и поиск примитивных списков.
+     */
+    static final PrimitiveKernels KERNELS = detect();
+
+    static final boolean ENABLED = KERNELS != PrimitiveKernels.SCALAR;
+
+    private VectorSupport() {
+    }
+
+    private static PrimitiveKernels detect() {
+        if (!Boolean.parseBoolean(System.getProperty(PROPERTY, "true"))) {
+            return PrimitiveKernels.SCALAR;
+        }
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return PrimitiveKernels.SCALAR;
+        }
+        try {
+            PrimitiveKernels kernels = (PrimitiveKernels) Class.forName(VECTOR_KERNELS)
+                    .getDeclaredConstructor().newInstance();
+            return kernels.vectorBits() >= MIN_VECTOR_BITS ? kernels : PrimitiveKernels.SCALAR;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return PrimitiveKernels.SCALAR;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package org.example;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+/**
+ * Класс для тестирования потокобезопасного списка {@link ConcurrentMyArrayList}.
+ * Проверяет однопоточные операции и согласованность чтений при одновременных изменениях.
+ */
+public class ConcurrentMyArrayListTest {
+    /**
+     * Тестирует добавление, вставку, удаление и сортировку в одном потоке.
+     * Результат должен совпадать с ожидаемым.
+     */
+    @Test
+    public void testSingleThreadedOperations() {
+        ConcurrentMyArrayList<Integer> list = new ConcurrentMyArrayList<>(0);
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        list.add(0, -1);
+        list.remove(50);
+        assertEquals("Элемент должен быть вставлен в начало списка.", (Integer) (-1), list.get(0));
+        assertEquals("Последующие элементы должны сдвинуться.", (Integer) 50, list.get(50));
+        assertEquals("Размер списка должен учитывать все операции.", 100, list.getSize());
+
+        list.sort(Comparator.reverseOrder());
+        assertEquals("Наибольший элемент должен оказаться первым.", (Integer) 99, list.get(0));
+        list.sort();
+        assertEquals("Наименьший элемент должен оказаться первым.", (Integer) (-1), list.get(0));
+        list.clear();
+        assertEquals("После очистки список должен быть пустым.", 0, list.getSize());
+    }
+
+    /**
+     * Тестирует получение элемента за пределами списка.
+     * Ожидается получение {@link IndexOutOfBoundsException}.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() {
+        ConcurrentMyArrayList<Integer> list = new ConcurrentMyArrayList<>();
+        list.add(1);
+        list.get(1);
+    }
+
+    /**
+     * Тестирует чтения одновременно с добавлением элементов одним писателем.
+     * Каждый прочитанный элемент должен быть равен своему индексу, то есть читатели
+     * не должны видеть незаполненные ячейки или массив, оставшийся от расширения.
+     */
+    @Test(timeout = 60000)
+    public void testReadersSeeConsistentElements() throws Exception {
+        ConcurrentMyArrayList<Integer> list = new ConcurrentMyArrayList<>(0);
+        AtomicBoolean done = new AtomicBoolean();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<?>[] readers = new Future<?>[3];
+            for (int r = 0; r < readers.length; r++) {
+                int seed = r;
+                readers[r] = executor.submit(() -> {
+                    Random random = new Random(seed);
+                    while (!done.get()) {
+                        int size = list.getSize();
+                        if (size > 0) {
+                            int index = random.nextInt(size);
+                            assertEquals("Элемент должен быть равен своему индексу.", (Integer) index, list.get(index));
+                        }
+                    }
+                });
+            }
+            executor.submit(() -> {
+                for (int i = 0; i < 200000; i++) {
+                    list.add(i);
+                }
+                done.set(true);
+            }).get();
+            for (Future<?> reader : readers) {
+                reader.get();
+            }
+        } finally {
+            done.set(true);
+            executor.shutdownNow();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+        assertEquals("Все элементы должны быть добавлены.", 200000, list.getSize());
+    }
+
+    /**
+     * Тестирует одновременное добавление элементов несколькими писателями.
+     * Ни одно добавление не должно потеряться.
+     */
+    @Test(timeout = 60000)
+    public void testConcurrentWriters() throws Exception {
+        ConcurrentMyArrayList<Integer> list = new ConcurrentMyArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<?>[] writers = new Future<?>[4];
+            for (int w = 0; w < writers.length; w++) {
+                int base = w * 50000;
+                writers[w] = executor.submit(() -> {
+                    for (int i = 0; i < 50000; i++) {
+                        list.add(base + i);
+                    }
+                });
+            }
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        list.sort();
+        Integer[] expected = new Integer[200000];
+        Arrays.setAll(expected, i -> i);
+        assertTrue("Все элементы должны присутствовать ровно один раз.", Arrays.equals(list.toArray(), expected));
+    }
+}
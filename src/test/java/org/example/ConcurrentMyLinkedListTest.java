@@ -0,0 +1,131 @@
+package org.example;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertTrue;
+
+/**
+ * Класс для тестирования неблокирующего списка {@link ConcurrentMyLinkedList}.
+ * Проверяет однопоточные операции и отсутствие потерянных и повторных элементов при одновременных изменениях.
+ */
+public class ConcurrentMyLinkedListTest {
+    private static final int THREADS = 4;
+    private static final int PER_THREAD = 50000;
+
+    /**
+     * Тестирует добавление с обоих концов, удаление по значению и извлечение первого элемента в одном потоке.
+     * Порядок элементов должен совпадать с ожидаемым.
+     */
+    @Test
+    public void testSingleThreadedOperations() {
+        ConcurrentMyLinkedList<Integer> list = new ConcurrentMyLinkedList<>();
+        list.add(2);
+        list.addLast(3);
+        list.addFirst(1);
+        list.addFirst(0);
+        assertTrue("Элементы должны идти в порядке добавления.",
+                Arrays.equals(list.toArray(), new Integer[]{0, 1, 2, 3}));
+
+        assertTrue("Существующий элемент должен быть удален.", list.remove(3));
+        assertFalse("Отсутствующий элемент не должен быть удален.", list.remove(3));
+        list.addLast(4);
+        assertTrue("Элемент должен быть добавлен после удаленного последнего узла.",
+                Arrays.equals(list.toArray(), new Integer[]{0, 1, 2, 4}));
+        assertEquals("Первый элемент должен быть извлечен.", (Integer) 0, list.pollFirst());
+        assertTrue("Список должен содержать элемент 2.", list.contains(2));
+        assertEquals("Размер списка должен учитывать все операции.", 3, list.getSize());
+        assertEquals("Поток должен содержать все элементы.", 7, list.stream().mapToInt(Integer::intValue).sum());
+
+        list.pollFirst();
+        list.pollFirst();
+        list.pollFirst();
+        assertNull("Извлечение из пустого списка должно вернуть null.", list.pollFirst());
+        list.addLast(5);
+        assertTrue("В опустевший список можно добавлять элементы.",
+                Arrays.equals(list.toArray(), new Integer[]{5}));
+    }
+
+    /**
+     * Тестирует одновременное добавление в оба конца списка несколькими потоками.
+     * Ни одно добавление не должно потеряться.
+     */
+    @Test(timeout = 60000)
+    public void testConcurrentAddAtBothEnds() throws Exception {
+        ConcurrentMyLinkedList<Integer> list = new ConcurrentMyLinkedList<>();
+        runConcurrently(thread -> {
+            for (int i = 0; i < PER_THREAD; i++) {
+                int value = thread * PER_THREAD + i;
+                if ((value & 1) == 0) {
+                    list.addLast(value);
+                } else {
+                    list.addFirst(value);
+                }
+            }
+        });
+        Object[] elements = list.toArray();
+        Arrays.sort(elements);
+        Integer[] expected = new Integer[THREADS * PER_THREAD];
+        Arrays.setAll(expected, i -> i);
+        assertTrue("Все элементы должны присутствовать ровно один раз.", Arrays.equals(elements, expected));
+        assertEquals("Размер списка должен совпадать с количеством добавлений.", expected.length, list.getSize());
+    }
+
+    /**
+     * Тестирует одновременную работу производителей, добавляющих в конец, и потребителей,
+     * извлекающих из начала и удаляющих по значению.
+     * Каждый элемент должен быть получен ровно один раз.
+     */
+    @Test(timeout = 60000)
+    public void testConcurrentProducersAndConsumers() throws Exception {
+        ConcurrentMyLinkedList<Integer> list = new ConcurrentMyLinkedList<>();
+        ConcurrentHashMap<Integer, Boolean> taken = new ConcurrentHashMap<>();
+        AtomicInteger duplicates = new AtomicInteger();
+        runConcurrently(thread -> {
+            for (int i = 0; i < PER_THREAD; i++) {
+                int value = thread * PER_THREAD + i;
+                list.addLast(value);
+                Integer polled = (thread & 1) == 0 ? list.pollFirst() : (list.remove(value) ? value : null);
+                if (polled != null && taken.put(polled, Boolean.TRUE) != null) {
+                    duplicates.incrementAndGet();
+                }
+            }
+        });
+        for (Integer value : list) {
+            if (taken.put(value, Boolean.TRUE) != null) {
+                duplicates.incrementAndGet();
+            }
+        }
+        assertEquals("Ни один элемент не должен быть получен дважды.", 0, duplicates.get());
+        assertEquals("Ни один элемент не должен потеряться.", THREADS * PER_THREAD, taken.size());
+    }
+
+    private interface Worker {
+        void run(int thread);
+    }
+
+    private static void runConcurrently(Worker worker) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            Future<?>[] futures = new Future<?>[THREADS];
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                futures[t] = executor.submit(() -> worker.run(thread));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
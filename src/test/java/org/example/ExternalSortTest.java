@@ -0,0 +1,168 @@
+package org.example;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertSame;
+import static junit.framework.Assert.assertTrue;
+import static junit.framework.Assert.fail;
+
+/**
+ * Класс для тестирования внешней сортировки {@link ExternalSort} во временном каталоге с маленьким бюджетом памяти,
+ * при котором данные разбиваются на множество серий и сливаются в несколько проходов.
+ */
+public class ExternalSortTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Тестирует сортировку, которой требуется несколько проходов слияния.
+     * Результат должен совпадать с отсортированным массивом, а временные файлы - быть удалены.
+     */
+    @Test
+    public void testMultiPassSort() throws IOException {
+        Path temp = folder.newFolder().toPath();
+        Random random = new Random(20);
+        Integer[] input = new Integer[20000];
+        for (int i = 0; i < input.length; i++) {
+            input[i] = random.nextInt();
+        }
+        ExternalSort<Integer> sort = new ExternalSort<>(FixedWidthCodec.ints(), Comparator.naturalOrder(), temp,
+                16 * 1024, 3);
+
+        List<Integer> output = new ArrayList<>();
+        long count = sort.sort(Arrays.asList(input).iterator(), output::add);
+
+        Arrays.sort(input);
+        assertEquals("Количество отсортированных элементов должно совпадать с входным.", input.length, count);
+        assertTrue("Элементы должны быть отсортированы.", Arrays.equals(output.toArray(), input));
+        assertEquals("Временные файлы должны быть удалены.", 0, countFiles(temp));
+    }
+
+    /**
+     * Тестирует устойчивость сортировки строк переменной длины по компаратору, различающему только длину.
+     * Равные элементы должны выйти в порядке поступления, как при устойчивой сортировке в памяти.
+     */
+    @Test
+    public void testStableSortOfStrings() throws IOException {
+        Path temp = folder.newFolder().toPath();
+        Random random = new Random(7);
+        String[] input = new String[5000];
+        for (int i = 0; i < input.length; i++) {
+            input[i] = "x".repeat(random.nextInt(10)) + i;
+        }
+        Comparator<String> byLength = Comparator.comparingInt(String::length);
+        ExternalSort<String> sort = new ExternalSort<>(ElementCodec.strings(), byLength, temp, 4096, 4);
+
+        List<String> output = new ArrayList<>();
+        sort.sort(Arrays.asList(input).iterator(), output::add);
+
+        Arrays.sort(input, byLength);
+        assertTrue("Равные элементы должны сохранить порядок поступления.", Arrays.equals(output.toArray(), input));
+    }
+
+    /**
+     * Тестирует сортировку снимка списка из файла в файл: отсортированный снимок должен читаться
+     * {@link MyArrayList#readFrom} и содержать отсортированные элементы.
+     */
+    @Test
+    public void testSortSnapshotFiles() throws IOException {
+        Path temp = folder.newFolder().toPath();
+        Path source = folder.newFile().toPath();
+        Path target = folder.newFile().toPath();
+        MyArrayList<Long> list = new MyArrayList<>();
+        Random random = new Random(1);
+        for (int i = 0; i < 10000; i++) {
+            list.add(random.nextLong());
+        }
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.WRITE)) {
+            list.writeTo(channel, FixedWidthCodec.longs());
+        }
+
+        ExternalSort<Long> sort = new ExternalSort<>(FixedWidthCodec.longs(), Comparator.naturalOrder(), temp,
+                20000, 8);
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(target, StandardOpenOption.WRITE)) {
+            sort.sort(in, out);
+        }
+
+        MyArrayList<Long> sorted;
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.READ)) {
+            sorted = MyArrayList.readFrom(channel, FixedWidthCodec.longs());
+        }
+        list.sort();
+        assertTrue("Отсортированный снимок должен содержать отсортированные элементы.",
+                Arrays.equals(sorted.toArray(), list.toArray()));
+        assertEquals("Временные файлы должны быть удалены.", 0, countFiles(temp));
+    }
+
+    /**
+     * Тестирует данные, которые помещаются в бюджет памяти: сортировка должна выполняться без временных файлов.
+     */
+    @Test
+    public void testInMemorySort() throws IOException {
+        Path temp = folder.newFolder().toPath();
+        ExternalSort<Integer> sort = new ExternalSort<>(FixedWidthCodec.ints(), temp);
+        List<Integer> output = new ArrayList<>();
+        sort.sort(List.of(3, 1, 2).iterator(), output::add);
+        assertEquals("Элементы должны быть отсортированы.", List.of(1, 2, 3), output);
+        assertEquals("Временные файлы не должны создаваться.", 0, countFiles(temp));
+    }
+
+    /**
+     * Тестирует ошибку получателя во время слияния: наружу должно выйти исходное исключение получателя,
+     * а открытые серии - быть закрыты и удалены.
+     */
+    @Test
+    public void testOutputFailureDuringMerge() throws IOException {
+        Path temp = folder.newFolder().toPath();
+        Integer[] input = new Integer[10000];
+        for (int i = 0; i < input.length; i++) {
+            input[i] = input.length - i;
+        }
+        ExternalSort<Integer> sort = new ExternalSort<>(FixedWidthCodec.ints(), Comparator.naturalOrder(), temp,
+                16 * 1024, 4);
+        IllegalStateException failure = new IllegalStateException("output failed");
+        List<Integer> output = new ArrayList<>();
+        try {
+            sort.sort(Arrays.asList(input).iterator(), element -> {
+                if (output.size() == 100) {
+                    throw failure;
+                }
+                output.add(element);
+            });
+            fail("Ошибка получателя должна прервать сортировку.");
+        } catch (IllegalStateException e) {
+            assertSame("Наружу должно выйти исходное исключение получателя.", failure, e);
+        }
+        assertEquals("Временные файлы должны быть удалены.", 0, countFiles(temp));
+    }
+
+    /**
+     * Тестирует создание сортировки со слиянием меньше чем двух серий за проход.
+     * Ожидается получение {@link IllegalArgumentException}.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidFanIn() throws IOException {
+        new ExternalSort<>(FixedWidthCodec.ints(), Comparator.naturalOrder(), folder.getRoot().toPath(), 1024, 1);
+    }
+
+    private static long countFiles(Path directory) throws IOException {
+        try (var files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package org.example;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+/**
+ * Класс для тестирования сбора метрик списков через {@link ListMetrics} и событий JFR.
+ */
+public class ListMetricsTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Тестирует учет замен массива и сдвигов элементов в {@link MyArrayList}.
+     */
+    @Test
+    public void testResizesAndMoves() {
+        ListMetrics metrics = new ListMetrics();
+        MyArrayList<Integer> list = new MyArrayList<>(1);
+        list.setMetricsListener(metrics);
+        for (int i = 0; i < 16; i++) {
+            list.add(i);
+        }
+        assertEquals("Емкость 1 должна быть удвоена четыре раза.", 4, metrics.getResizes());
+        assertEquals("При расширениях должны быть скопированы 1 + 2 + 4 + 8 элементов.", 15,
+                metrics.getCopiedElements());
+
+        list.add(4, -1);
+        list.remove(14);
+        assertEquals("Вставка и удаление должны сдвинуть более короткие части списка.", 4 + 2,
+                metrics.getMovedElements());
+
+        list.trimToSize();
+        assertEquals("Расширение при вставке и сжатие массива тоже являются заменами массива.", 6,
+                metrics.getResizes());
+    }
+
+    /**
+     * Тестирует учет сортировок и сравнений для всех алгоритмов сортировки обоих списков.
+     */
+    @Test
+    public void testSorts() {
+        ListMetrics metrics = new ListMetrics();
+        MyArrayList<Integer> arrayList = new MyArrayList<>();
+        MyLinkedList<Integer> linkedList = new MyLinkedList<>();
+        arrayList.setMetricsListener(metrics);
+        linkedList.setMetricsListener(metrics);
+        Random random = new Random(21);
+        for (int i = 0; i < 1000; i++) {
+            arrayList.add(random.nextInt());
+            linkedList.add(random.nextInt());
+        }
+
+        arrayList.sort();
+        long afterFirstSort = metrics.getComparisons();
+        assertTrue("Сортировка 1000 элементов должна выполнить не меньше 999 сравнений.", afterFirstSort >= 999);
+        arrayList.quickSort(Comparator.reverseOrder());
+        arrayList.parallelSort(Comparator.naturalOrder(), ForkJoinPool.commonPool(), 100);
+        linkedList.sort();
+
+        assertEquals("Должны быть учтены четыре сортировки.", 4, metrics.getSorts());
+        assertEquals("Длительность каждой сортировки должна попасть в гистограмму.", 4,
+                metrics.getSortNanos().getCount());
+        assertTrue("Сравнения должны учитываться во всех сортировках.",
+                metrics.getComparisons() > 4 * afterFirstSort);
+    }
+
+    /**
+     * Тестирует учет обходов {@link MyLinkedList} при доступе по индексу: длина обхода отсчитывается
+     * от ближайшего конца списка или от последнего найденного узла.
+     */
+    @Test
+    public void testTraversals() {
+        ListMetrics metrics = new ListMetrics();
+        MyLinkedList<Integer> list = new MyLinkedList<>();
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        list.setMetricsListener(metrics);
+        list.get(0);
+        list.get(10);
+        list.get(90);
+        list.get(50);
+
+        ListMetrics.Histogram steps = metrics.getTraversalSteps();
+        assertEquals("Должны быть учтены четыре обхода.", 4, steps.getCount());
+        assertEquals("Обход к первому элементу не проходит узлов.", 1, steps.getBucketCount(0));
+        assertEquals("Обходы на 9 и 10 узлов попадают в корзину [8, 16).", 2, steps.getBucketCount(4));
+        assertEquals("Обход к 50 от найденного перед этим узла 90 на 40 узлов оценивается верхней границей корзины.", 63,
+                steps.getValueAtPercentile(100));
+        assertEquals("Длительность каждого обхода должна попасть в гистограмму.", 4,
+                metrics.getTraversalNanos().getCount());
+    }
+
+    /**
+     * Тестирует, что после отключения получателя метрики больше не собираются.
+     */
+    @Test
+    public void testDetachedListener() {
+        ListMetrics metrics = new ListMetrics();
+        MyArrayList<Integer> list = new MyArrayList<>(1);
+        list.setMetricsListener(metrics);
+        list.add(1);
+        list.add(2);
+        list.setMetricsListener(null);
+        list.add(3);
+        list.sort(Comparator.reverseOrder());
+        assertEquals("Учитывается только замена массива до отключения получателя.", 1, metrics.getResizes());
+        assertEquals("Сортировка после отключения получателя не учитывается.", 0, metrics.getSorts());
+    }
+
+    /**
+     * Тестирует публикацию событий JFR о заменах массива и сортировках во включенной записи.
+     */
+    @Test
+    public void testFlightRecorderEvents() throws IOException {
+        Path file = folder.newFile("metrics.jfr").toPath();
+        try (Recording recording = new Recording()) {
+            recording.enable("org.example.ListResize").withoutStackTrace();
+            recording.enable("org.example.ListSort").withoutStackTrace();
+            recording.start();
+
+            MyArrayList<Integer> arrayList = new MyArrayList<>(2);
+            MyLinkedList<Integer> linkedList = new MyLinkedList<>();
+            for (int i = 0; i < 5; i++) {
+                arrayList.add(5 - i);
+                linkedList.add(5 - i);
+            }
+            arrayList.sort();
+            linkedList.sort();
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        long resizes = events.stream()
+                .filter(e -> e.getEventType().getName().equals("org.example.ListResize"))
+                .count();
+        List<RecordedEvent> sorts = events.stream()
+                .filter(e -> e.getEventType().getName().equals("org.example.ListSort"))
+                .toList();
+        assertEquals("Емкость 2 должна быть удвоена двумя заменами массива.", 2, resizes);
+        assertEquals("Должны быть записаны сортировки обоих списков.", 2, sorts.size());
+        assertTrue("Событие сортировки должно содержать количество сравнений.",
+                sorts.stream().allMatch(e -> e.getInt("size") == 5 && e.getLong("comparisons") > 0));
+        assertTrue("Событие сортировки должно указывать тип списка.",
+                sorts.stream().anyMatch(e -> e.getString("listType").equals("MyLinkedList")));
+    }
+}
@@ -2,8 +2,17 @@ package org.example;
 
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 import static junit.framework.Assert.assertEquals;
 import static junit.framework.Assert.assertTrue;
@@ -335,4 +344,717 @@ public class MyArrayListTest {
         list.quickSort(lengthComparator);
         assertTrue("Список должен быть отсортирован по длине строки в обратном порядке.", Arrays.equals(list.toArray(), new String[]{"aaaa", "bbb", "cc"}));
     }
+
+    /**
+     * Тестирует параллельную сортировку большого списка в случайном порядке.
+     * Результат должен совпадать с результатом стандартной сортировки.
+     */
+    @Test
+    public void testParallelSortWithLargeData() {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        Integer[] data = new Integer[100000];
+        Random random = new Random(1);
+        for (int i = 0; i < data.length; i++) {
+            data[i] = random.nextInt();
+            list.add(data[i]);
+        }
+        Arrays.sort(data);
+        list.parallelSort();
+        assertTrue("Список должен быть отсортирован параллельной сортировкой.", Arrays.equals(list.toArray(), data));
+    }
+
+    /**
+     * Тестирует устойчивость параллельной сортировки с заданными пулом и порогом.
+     * Строки сравниваются только по первому символу, поэтому равные элементы должны сохранить исходный порядок.
+     */
+    @Test
+    public void testParallelSortIsStable() {
+        MyArrayList<String> list = new MyArrayList<>();
+        String[] data = new String[5000];
+        Random random = new Random(2);
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (char) ('a' + random.nextInt(5)) + String.valueOf(i);
+            list.add(data[i]);
+        }
+        Comparator<String> firstChar = Comparator.comparing(s -> s.charAt(0));
+        Arrays.sort(data, firstChar);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            list.parallelSort(firstChar, pool, 16);
+        } finally {
+            pool.shutdown();
+        }
+        assertTrue("Параллельная сортировка должна сохранять порядок равных элементов.", Arrays.equals(list.toArray(), data));
+    }
+
+    /**
+     * Тестирует параллельную сортировку списка, элементы которого начинаются не с начала внутреннего массива.
+     * После удаления префикса сортируемый участок смещен, и буфер сортировки должен учитывать это смещение.
+     */
+    @Test
+    public void testParallelSortAfterRemovingPrefix() {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        Random random = new Random(3);
+        for (int i = 0; i < 6000; i++) {
+            list.add(random.nextInt());
+        }
+        list.removeRange(0, 1000);
+        Integer[] data = new Integer[list.getSize()];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = list.get(i);
+        }
+        Arrays.sort(data);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            list.parallelSort(Comparator.naturalOrder(), pool, 64);
+        } finally {
+            pool.shutdown();
+        }
+        assertTrue("Смещенный список должен быть отсортирован параллельной сортировкой.", Arrays.equals(list.toArray(), data));
+    }
+
+    /**
+     * Тестирует параллельную сортировку списка, размер которого меньше порога.
+     * Список должен быть отсортирован последовательной сортировкой.
+     */
+    @Test
+    public void testParallelSortBelowThreshold() {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        list.add(3);
+        list.add(1);
+        list.add(2);
+        list.parallelSort(Comparator.reverseOrder());
+        assertTrue("Список должен быть отсортирован в обратном порядке.", Arrays.equals(list.toArray(), new Integer[]{3, 2, 1}));
+    }
+
+    /**
+     * Тестирует параллельную сортировку с недопустимым порогом.
+     * Ожидается получение {@link IllegalArgumentException}.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testParallelSortWithInvalidThreshold() {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        list.parallelSort(Comparator.naturalOrder(), ForkJoinPool.commonPool(), 0);
+    }
+
+    /**
+     * Тестирует сортировку уже отсортированного и обратно отсортированного списков.
+     * Оба списка должны оказаться упорядоченными по возрастанию.
+     */
+    @Test
+    public void testSortWithSortedAndReversedData() {
+        MyArrayList<Integer> sorted = new MyArrayList<>();
+        MyArrayList<Integer> reversed = new MyArrayList<>();
+        Integer[] data = new Integer[100000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = i;
+            sorted.add(i);
+            reversed.add(data.length - 1 - i);
+        }
+        sorted.sort();
+        reversed.sort();
+        assertTrue("Отсортированный список должен остаться отсортированным.", Arrays.equals(sorted.toArray(), data));
+        assertTrue("Обратно отсортированный список должен быть упорядочен.", Arrays.equals(reversed.toArray(), data));
+    }
+
+    /**
+     * Тестирует устойчивость сортировки на данных из чередующихся возрастающих и убывающих серий
+     * с большим количеством равных ключей. Результат должен совпадать с устойчивой сортировкой {@link Arrays#sort}.
+     */
+    @Test
+    public void testSortIsStableOnPartiallyOrderedData() {
+        MyArrayList<String> list = new MyArrayList<>();
+        String[] data = new String[20000];
+        Random random = new Random(3);
+        for (int i = 0; i < data.length; i++) {
+            int key = (i / 500) % 2 == 0 ? i / 100 : -i / 100;
+            if (random.nextInt(10) == 0) {
+                key = random.nextInt(50);
+            }
+            data[i] = key + ":" + i;
+            list.add(data[i]);
+        }
+        Comparator<String> byKey = Comparator.comparing(s -> Integer.parseInt(s.substring(0, s.indexOf(':'))));
+        Arrays.sort(data, byKey);
+        list.sort(byKey);
+        assertTrue("Сортировка должна сохранять порядок равных элементов.", Arrays.equals(list.toArray(), data));
+    }
+
+    /**
+     * Тестирует сортировку списков разных размеров со случайными данными.
+     * Для каждого размера результат должен совпадать с результатом стандартной сортировки.
+     */
+    @Test
+    public void testSortWithRandomDataOfDifferentSizes() {
+        Random random = new Random(4);
+        for (int size = 0; size < 300; size += 7) {
+            MyArrayList<Integer> list = new MyArrayList<>();
+            Integer[] data = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                data[i] = random.nextInt(size + 1);
+                list.add(data[i]);
+            }
+            Arrays.sort(data);
+            list.sort();
+            assertTrue("Список размера " + size + " должен быть отсортирован.", Arrays.equals(list.toArray(), data));
+        }
+    }
+
+    /**
+     * Тестирует быструю сортировку больших списков неблагоприятной для наивного разбиения формы:
+     * отсортированного, обратно отсортированного и состоящего из одинаковых элементов.
+     * Сортировка должна завершиться без переполнения стека и упорядочить все элементы.
+     */
+    @Test
+    public void testQuickSortWithLargeAdversarialData() {
+        int count = 1000000;
+        MyArrayList<Integer> sorted = new MyArrayList<>();
+        MyArrayList<Integer> reversed = new MyArrayList<>();
+        MyArrayList<Integer> equal = new MyArrayList<>();
+        Integer[] data = new Integer[count];
+        Integer[] equalData = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            data[i] = i;
+            equalData[i] = 7;
+            sorted.add(i);
+            reversed.add(count - 1 - i);
+            equal.add(7);
+        }
+        sorted.quickSort();
+        reversed.quickSort();
+        equal.quickSort();
+        assertTrue("Отсортированный список должен остаться отсортированным.", Arrays.equals(sorted.toArray(), data));
+        assertTrue("Обратно отсортированный список должен быть упорядочен.", Arrays.equals(reversed.toArray(), data));
+        assertTrue("Список из одинаковых элементов не должен измениться.", Arrays.equals(equal.toArray(), equalData));
+    }
+
+    /**
+     * Тестирует быструю сортировку списков разных размеров со случайными данными и повторами.
+     * Для каждого размера результат должен совпадать с результатом стандартной сортировки.
+     */
+    @Test
+    public void testQuickSortWithRandomDataOfDifferentSizes() {
+        Random random = new Random(5);
+        for (int size = 0; size < 2000; size += 37) {
+            MyArrayList<Integer> list = new MyArrayList<>();
+            Integer[] data = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                data[i] = random.nextInt(size / 4 + 1);
+                list.add(data[i]);
+            }
+            Arrays.sort(data);
+            list.quickSort();
+            assertTrue("Список размера " + size + " должен быть отсортирован.", Arrays.equals(list.toArray(), data));
+        }
+    }
+
+    /**
+     * Тестирует добавление массива и другого списка в конец списка.
+     * Элементы должны следовать в порядке добавления.
+     */
+    @Test
+    public void testAddAllToEnd() {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        list.add(1);
+        list.addAll(new Integer[]{2, 3, 4});
+        MyArrayList<Integer> other = new MyArrayList<>();
+        other.add(5);
+        other.add(6);
+        list.addAll(other);
+        assertTrue("Элементы должны быть добавлены в конец списка.", Arrays.equals(list.toArray(), new Integer[]{1, 2, 3, 4, 5, 6}));
+    }
+
+    /**
+     * Тестирует вставку массива и другого списка в середину списка, а также вставку списка в самого себя.
+     * Хвост списка должен сдвинуться на количество вставленных элементов.
+     */
+    @Test
+    public void testAddAllAtIndex() {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        list.add(1);
+        list.add(5);
+        list.addAll(1, new Integer[]{2, 3});
+        MyArrayList<Integer> other = new MyArrayList<>();
+        other.add(4);
+        list.addAll(3, other);
+        assertTrue("Элементы должны быть вставлены на указанный индекс.", Arrays.equals(list.toArray(), new Integer[]{1, 2, 3, 4, 5}));
+        list.addAll(1, list);
+        assertTrue("Список должен корректно вставляться в самого себя.", Arrays.equals(list.toArray(), new Integer[]{1, 1, 2, 3, 4, 5, 2, 3, 4, 5}));
+    }
+
+    /**
+     * Тестирует вставку массива по индексу за пределами списка.
+     * Ожидается получение {@link IndexOutOfBoundsException}.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testAddAllOutOfBounds() {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        list.addAll(1, new Integer[]{1});
+    }
+
+    /**
+     * Тестирует удаление диапазона элементов.
+     * Оставшиеся элементы должны сдвинуться, а размер списка уменьшиться на длину диапазона.
+     */
+    @Test
+    public void testRemoveRange() {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+        list.removeRange(2, 7);
+        assertTrue("Диапазон должен быть удален.", Arrays.equals(list.toArray(), new Integer[]{0, 1, 7, 8, 9}));
+        list.removeRange(0, 0);
+        assertEquals("Пустой диапазон не должен менять список.", 5, list.getSize());
+    }
+
+    /**
+     * Тестирует удаление диапазона с перепутанными границами.
+     * Ожидается получение {@link IndexOutOfBoundsException}.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testRemoveRangeWithInvalidBounds() {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        list.add(1);
+        list.add(2);
+        list.removeRange(2, 1);
+    }
+
+    /**
+     * Тестирует управление емкостью: конструктор с нулевой емкостью, ensureCapacity и trimToSize.
+     * Во всех случаях содержимое списка должно сохраняться.
+     */
+    @Test
+    public void testCapacityControl() {
+        MyArrayList<Integer> list = new MyArrayList<>(0);
+        list.add(1);
+        list.ensureCapacity(1000);
+        for (int i = 2; i <= 100; i++) {
+            list.add(i);
+        }
+        list.trimToSize();
+        list.add(101);
+        assertEquals("Размер списка должен учитывать все добавленные элементы.", 101, list.getSize());
+        assertEquals("Последний элемент должен сохраниться после изменения емкости.", (Integer) 101, list.get(100));
+    }
+
+    /**
+     * Тестирует создание списка с отрицательной емкостью.
+     * Ожидается получение {@link IllegalArgumentException}.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeInitialCapacity() {
+        new MyArrayList<Integer>(-1);
+    }
+
+    /**
+     * Тестирует обход списка циклом for-each.
+     * Элементы должны перебираться в порядке следования.
+     */
+    @Test
+    public void testIterator() {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        int expected = 0;
+        for (Integer element : list) {
+            assertEquals("Итератор должен возвращать элементы по порядку.", (Integer) expected++, element);
+        }
+        assertEquals("Итератор должен перебрать все элементы.", 100, expected);
+    }
+
+    /**
+     * Тестирует запрос следующего элемента у исчерпанного итератора.
+     * Ожидается получение {@link java.util.NoSuchElementException}.
+     */
+    @Test(expected = java.util.NoSuchElementException.class)
+    public void testIteratorPastEnd() {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        list.iterator().next();
+    }
+
+    /**
+     * Тестирует последовательный и параллельный потоки элементов.
+     * Результаты агрегирования должны совпадать с ожидаемыми, порядок элементов должен сохраняться.
+     */
+    @Test
+    public void testStreams() {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        int elementsCount = 100000;
+        for (int i = 0; i < elementsCount; i++) {
+            list.add(i);
+        }
+        long expectedSum = (long) elementsCount * (elementsCount - 1) / 2;
+        assertEquals("Сумма элементов последовательного потока должна совпадать.", expectedSum, list.stream().mapToLong(Integer::longValue).sum());
+        assertEquals("Сумма элементов параллельного потока должна совпадать.", expectedSum, list.parallelStream().mapToLong(Integer::longValue).sum());
+        Object[] collected = list.parallelStream().toArray();
+        assertTrue("Параллельный поток должен сохранять порядок элементов.", Arrays.equals(collected, list.toArray()));
+    }
+
+    /**
+     * Тестирует разделение сплитератора.
+     * Обе части должны знать точный размер, а их сумма должна равняться размеру списка.
+     */
+    @Test
+    public void testSpliteratorSplit() {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            list.add(i);
+        }
+        java.util.Spliterator<Integer> spliterator = list.spliterator();
+        assertTrue("Сплитератор должен быть SUBSIZED.", spliterator.hasCharacteristics(java.util.Spliterator.SUBSIZED));
+        java.util.Spliterator<Integer> prefix = spliterator.trySplit();
+        assertTrue("Сплитератор должен делиться.", prefix != null);
+        assertEquals("Части сплитератора должны покрывать весь список.", 5000, prefix.getExactSizeIfKnown() + spliterator.getExactSizeIfKnown());
+        int[] first = new int[1];
+        prefix.tryAdvance(element -> first[0] = element);
+        assertEquals("Отделенная часть должна начинаться с первого элемента.", 0, first[0]);
+    }
+
+    /**
+     * Тестирует запись и восстановление снимка списка чисел кодеком фиксированной длины.
+     * Восстановленный список должен совпадать с исходным, а его емкость - с количеством элементов.
+     */
+    @Test
+    public void testSnapshotRoundTrip() throws IOException {
+        MyArrayList<Long> list = new MyArrayList<>();
+        Random random = new Random(1);
+        for (int i = 0; i < 100000; i++) {
+            list.add(random.nextLong());
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        list.writeTo(Channels.newChannel(out), FixedWidthCodec.longs());
+        assertEquals("Снимок должен состоять из заголовка и записей.", 20 + 8 * 100000, out.size());
+
+        MyArrayList<Long> restored = MyArrayList.readFrom(
+                Channels.newChannel(new ByteArrayInputStream(out.toByteArray())), FixedWidthCodec.longs());
+        assertTrue("Восстановленный список должен совпадать с исходным.",
+                Arrays.equals(list.toArray(), restored.toArray()));
+        restored.trimToSize();
+        restored.add(1L);
+        assertEquals("В восстановленный список можно добавлять элементы.", (Long) 1L, restored.get(100000));
+    }
+
+    /**
+     * Тестирует запись и восстановление снимка списка строк кодеком переменной длины,
+     * включая пустую строку, символы вне ASCII и строку длиннее буфера записи.
+     * Восстановленный список должен совпадать с исходным.
+     */
+    @Test
+    public void testSnapshotWithStrings() throws IOException {
+        MyArrayList<String> list = new MyArrayList<>();
+        list.add("");
+        list.add("строка");
+        list.add("\uD83D\uDE00 emoji");
+        list.add("x".repeat(200000));
+        for (int i = 0; i < 10000; i++) {
+            list.add("element-" + i);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        list.writeTo(Channels.newChannel(out), ElementCodec.strings());
+
+        MyArrayList<String> restored = MyArrayList.readFrom(
+                Channels.newChannel(new ByteArrayInputStream(out.toByteArray())), ElementCodec.strings());
+        assertTrue("Восстановленный список должен совпадать с исходным.",
+                Arrays.equals(list.toArray(), restored.toArray()));
+    }
+
+    /**
+     * Тестирует чтение снимка кодеком другой длины.
+     * Ожидается получение {@link IOException}.
+     */
+    @Test(expected = IOException.class)
+    public void testSnapshotWithMismatchedCodec() throws IOException {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        list.add(1);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        list.writeTo(Channels.newChannel(out), FixedWidthCodec.ints());
+        MyArrayList.readFrom(Channels.newChannel(new ByteArrayInputStream(out.toByteArray())), FixedWidthCodec.longs());
+    }
+
+    /**
+     * Тестирует чтение оборванного снимка.
+     * Ожидается получение {@link EOFException}.
+     */
+    @Test(expected = EOFException.class)
+    public void testTruncatedSnapshot() throws IOException {
+        MyArrayList<String> list = new MyArrayList<>();
+        list.add("first");
+        list.add("second");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        list.writeTo(Channels.newChannel(out), ElementCodec.strings());
+        byte[] bytes = Arrays.copyOf(out.toByteArray(), out.size() - 1);
+        MyArrayList.readFrom(Channels.newChannel(new ByteArrayInputStream(bytes)), ElementCodec.strings());
+    }
+
+    /**
+     * Тестирует использование списка как скользящего окна: элементы добавляются в конец и удаляются из начала.
+     * Миллион таких операций над окном в сто тысяч элементов должен выполняться за линейное время.
+     */
+    @Test(timeout = 10000)
+    public void testSlidingWindow() {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        int window = 100000;
+        for (int i = 0; i < 1000000; i++) {
+            list.add(i);
+            if (list.getSize() > window) {
+                list.remove(0);
+            }
+        }
+        assertEquals("Размер окна должен сохраняться.", window, list.getSize());
+        assertEquals("Первым должен быть самый старый элемент окна.", (Integer) (1000000 - window), list.get(0));
+        assertEquals("Последним должен быть самый новый элемент.", (Integer) 999999, list.get(window - 1));
+    }
+
+    /**
+     * Тестирует вставку в начало списка.
+     * Миллион вставок должен выполняться за линейное время, а элементы должны идти в обратном порядке.
+     */
+    @Test(timeout = 10000)
+    public void testAddToFront() {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        for (int i = 0; i < 1000000; i++) {
+            list.add(0, i);
+        }
+        assertEquals("Первым должен быть последний вставленный элемент.", (Integer) 999999, list.get(0));
+        assertEquals("Последним должен быть первый вставленный элемент.", (Integer) 0, list.get(999999));
+    }
+
+    /**
+     * Тестирует случайную последовательность операций, при которой элементы переходят через конец
+     * внутреннего массива, вместе с сортировками, массовыми операциями и обходом.
+     * Содержимое списка должно совпадать с содержимым {@link ArrayList}.
+     */
+    @Test
+    public void testRandomOperationsWithWraparound() {
+        Random random = new Random(17);
+        MyArrayList<Integer> list = new MyArrayList<>(4);
+        List<Integer> expected = new ArrayList<>();
+        for (int step = 0; step < 20000; step++) {
+            int size = expected.size();
+            int value = random.nextInt(1000);
+            switch (random.nextInt(10)) {
+                case 0, 1 -> {
+                    list.add(value);
+                    expected.add(value);
+                }
+                case 2, 3 -> {
+                    list.add(0, value);
+                    expected.add(0, value);
+                }
+                case 4 -> {
+                    int index = random.nextInt(size + 1);
+                    list.add(index, value);
+                    expected.add(index, value);
+                }
+                case 5, 6 -> {
+                    if (size > 0) {
+                        int index = random.nextBoolean() ? 0 : random.nextInt(size);
+                        list.remove(index);
+                        expected.remove(index);
+                    }
+                }
+                case 7 -> {
+                    int from = random.nextInt(size + 1);
+                    int to = from + random.nextInt(Math.min(size - from, 5) + 1);
+                    list.removeRange(from, to);
+                    expected.subList(from, to).clear();
+                }
+                case 8 -> {
+                    int index = random.nextInt(size + 1);
+                    list.addAll(index, new Integer[]{value, value + 1});
+                    expected.addAll(index, List.of(value, value + 1));
+                }
+                default -> {
+                    if (random.nextInt(10) == 0) {
+                        list.sort();
+                        expected.sort(null);
+                    }
+                }
+            }
+        }
+        assertEquals("Размер должен совпадать с ожидаемым.", expected.size(), list.getSize());
+        assertTrue("Содержимое должно совпадать с ожидаемым.", Arrays.equals(list.toArray(), expected.toArray()));
+        assertEquals("Поток должен содержать те же элементы.", expected, list.stream().toList());
+
+        list.quickSort(Comparator.reverseOrder());
+        expected.sort(Comparator.reverseOrder());
+        assertTrue("Быстрая сортировка должна работать после перехода через конец массива.",
+                Arrays.equals(list.toArray(), expected.toArray()));
+    }
+
+    /**
+     * Тестирует признак отсортированности: повторная сортировка тем же компаратором не должна сравнивать элементы,
+     * вставки с сохранением порядка и удаления признак сохраняют, а вставка, нарушающая порядок, его сбрасывает.
+     */
+    @Test
+    public void testSortOfSortedListIsSkipped() {
+        int[] comparisons = new int[1];
+        Comparator<Integer> counting = (a, b) -> {
+            comparisons[0]++;
+            return Integer.compare(a, b);
+        };
+        MyArrayList<Integer> list = new MyArrayList<>();
+        list.addAll(new Integer[]{5, 3, 9, 1});
+        list.sort(counting);
+
+        list.add(10);
+        list.add(0, 0);
+        list.add(3, 4);
+        list.remove(1);
+        comparisons[0] = 0;
+        list.sort(counting);
+        assertEquals("Сортировка отсортированного списка не должна сравнивать элементы.", 0, comparisons[0]);
+        assertTrue("Список должен остаться отсортированным.",
+                Arrays.equals(list.toArray(), new Object[]{0, 3, 4, 5, 9, 10}));
+
+        list.add(2, 100);
+        list.sort(counting);
+        assertTrue("Вставка, нарушающая порядок, должна приводить к сортировке.",
+                Arrays.equals(list.toArray(), new Object[]{0, 3, 4, 5, 9, 10, 100}));
+
+        list.sort(Comparator.reverseOrder());
+        assertTrue("Сортировка другим компаратором должна выполняться.",
+                Arrays.equals(list.toArray(), new Object[]{100, 10, 9, 5, 4, 3, 0}));
+    }
+
+    /**
+     * Тестирует изменение элементов на месте: список его не замечает и пропускает повторную сортировку,
+     * а после {@link MyArrayList#markUnsorted()} сортирует элементы заново.
+     */
+    @Test
+    public void testMarkUnsortedAfterMutatingElements() {
+        MyArrayList<StringBuilder> list = new MyArrayList<>();
+        list.add(new StringBuilder("b"));
+        list.add(new StringBuilder("c"));
+        list.add(new StringBuilder("a"));
+        list.sort();
+
+        list.get(0).replace(0, 1, "z");
+        list.sort();
+        assertEquals("Без сброса признака сортировка должна быть пропущена.", "z", list.get(0).toString());
+
+        list.markUnsorted();
+        list.sort();
+        assertEquals("После сброса признака список должен быть отсортирован заново.", "b", list.get(0).toString());
+        assertEquals("Измененный элемент должен переместиться в конец.", "z", list.get(2).toString());
+    }
+
+    /**
+     * Тестирует встроенные политики расширения: удвоение, расширение в полтора раза и постоянный шаг.
+     * Емкости новых массивов должны следовать выбранной политике.
+     */
+    @Test
+    public void testGrowthPolicies() {
+        assertEquals("Удвоение должно выбирать емкости 2, 4, 8, 16.", List.of(2, 4, 8, 16),
+                capacitiesAfterAdding(GrowthPolicy.doubling(), 1, 16));
+        assertEquals("Расширение в полтора раза должно выбирать емкости 2, 3, 4, 6, 9.", List.of(2, 3, 4, 6, 9),
+                capacitiesAfterAdding(GrowthPolicy.oneAndHalf(), 1, 9));
+        assertEquals("Постоянный шаг должен выбирать емкости 5, 8, 11.", List.of(5, 8, 11),
+                capacitiesAfterAdding(GrowthPolicy.fixedIncrement(3), 2, 10));
+
+        MyArrayList<Integer> list = new MyArrayList<>(2);
+        list.setGrowthPolicy(GrowthPolicy.fixedIncrement(1));
+        Integer[] block = new Integer[100];
+        Arrays.fill(block, 7);
+        list.addAll(block);
+        assertEquals("Блочная вставка должна получить не меньше требуемой емкости.", 100, list.getSize());
+    }
+
+    /**
+     * Тестирует сжатие массива с гистерезисом при удалениях с обоих концов списка и при очистке.
+     * Массив должен сжиматься, когда заполнен меньше чем на четверть, а элементы - сохраняться.
+     */
+    @Test
+    public void testHysteresisShrinkPolicy() {
+        MyArrayList<Integer> list = new MyArrayList<>(1);
+        List<Integer> capacities = new ArrayList<>();
+        list.setMetricsListener(new ListMetricsListener() {
+            @Override
+            public void onResize(int oldCapacity, int newCapacity, int copiedElements) {
+                capacities.add(newCapacity);
+            }
+        });
+        list.setShrinkPolicy(ShrinkPolicy.hysteresis(4));
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            list.add(i);
+            expected.add(i);
+        }
+        capacities.clear();
+        for (int i = 0; list.getSize() > 0; i++) {
+            int index = i % 2 == 0 ? 0 : list.getSize() - 1;
+            list.remove(index);
+            expected.remove(index);
+            assertTrue("Элементы должны сохраняться при сжатии.", Arrays.equals(list.toArray(), expected.toArray()));
+        }
+        assertEquals("Массив должен сжиматься до 30, 14, 6 и минимальной емкости 4.", List.of(30, 14, 6, 4),
+                capacities);
+
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        capacities.clear();
+        list.clear();
+        assertEquals("Очистка должна заменить массив массивом минимальной емкости.", List.of(4), capacities);
+        list.add(1);
+        assertEquals("Список должен заполняться после очистки.", (Integer) 1, list.get(0));
+    }
+
+    /**
+     * Тестирует чередование вставок и удалений возле порога сжатия и применение политики к текущей емкости.
+     * После одного сжатия массив не должен перевыделяться при каждой операции.
+     */
+    @Test
+    public void testShrinkPolicyHysteresisAvoidsThrashing() {
+        ListMetrics metrics = new ListMetrics();
+        MyArrayList<Integer> list = new MyArrayList<>(64);
+        for (int i = 0; i < 16; i++) {
+            list.add(i);
+        }
+        list.setMetricsListener(metrics);
+        list.setShrinkPolicy(ShrinkPolicy.hysteresis(0));
+        assertEquals("Массив, заполненный на четверть, не должен сжиматься.", 0, metrics.getResizes());
+        for (int i = 0; i < 100; i++) {
+            list.remove(list.getSize() - 1);
+            list.add(i);
+        }
+        assertEquals("Чередование вставок и удалений должно сжать массив только один раз.", 1, metrics.getResizes());
+
+        MyArrayList<Integer> sparse = new MyArrayList<>(64);
+        sparse.add(1);
+        sparse.setMetricsListener(metrics);
+        sparse.setShrinkPolicy(ShrinkPolicy.hysteresis(0.5, 1, 0));
+        assertEquals("Новая политика должна сразу сжать почти пустой массив.", 2, metrics.getResizes());
+        assertEquals("Элемент должен сохраниться после сжатия.", (Integer) 1, sparse.get(0));
+    }
+
+    /**
+     * Тестирует проверку параметров встроенных политик.
+     * Ожидается получение {@link IllegalArgumentException}.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testIllegalShrinkPolicy() {
+        ShrinkPolicy.hysteresis(0.5, 0.25, 0);
+    }
+
+    /**
+     * Заполняет список с заданной политикой расширения и возвращает емкости всех новых массивов.
+     */
+    private static List<Integer> capacitiesAfterAdding(GrowthPolicy policy, int initialCapacity, int count) {
+        MyArrayList<Integer> list = new MyArrayList<>(initialCapacity);
+        List<Integer> capacities = new ArrayList<>();
+        list.setGrowthPolicy(policy);
+        list.setMetricsListener(new ListMetricsListener() {
+            @Override
+            public void onResize(int oldCapacity, int newCapacity, int copiedElements) {
+                capacities.add(newCapacity);
+            }
+        });
+        for (int i = 0; i < count; i++) {
+            list.add(i);
+        }
+        return capacities;
+    }
 }
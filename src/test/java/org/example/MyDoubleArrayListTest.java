@@ -0,0 +1,189 @@
+package org.example;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+/**
+ * Класс для тестирования списка примитивных значений {@link MyDoubleArrayList}.
+ * Проверяет добавление, удаление, получение элементов, а также поразрядную и быструю сортировки.
+ */
+public class MyDoubleArrayListTest {
+    /**
+     * Тестирует добавление элементов в конец и в указанную позицию списка.
+     * Элементы должны оказаться на ожидаемых позициях.
+     */
+    @Test
+    public void testAddAndAddAtIndex() {
+        MyDoubleArrayList list = new MyDoubleArrayList();
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        list.add(0, -1);
+        list.add(50, 1000);
+        list.add(list.getSize(), 2000);
+        assertEquals("Элемент должен быть добавлен в начало списка.", -1.0, list.get(0));
+        assertEquals("Элемент должен быть вставлен на указанный индекс.", 1000.0, list.get(50));
+        assertEquals("Элемент должен быть добавлен в конец списка.", 2000.0, list.get(list.getSize() - 1));
+        assertEquals("Размер списка должен учитывать все добавленные элементы.", 103, list.getSize());
+    }
+
+    /**
+     * Тестирует удаление элемента по индексу.
+     * Оставшиеся элементы должны сдвинуться на одну позицию.
+     */
+    @Test
+    public void testRemove() {
+        MyDoubleArrayList list = new MyDoubleArrayList();
+        list.add(1);
+        list.add(2);
+        list.add(3);
+        list.remove(1);
+        assertTrue("Элемент на индексе 1 должен быть удален.", Arrays.equals(list.toArray(), new double[]{1, 3}));
+    }
+
+    /**
+     * Тестирует очистку списка.
+     * После вызова метода clear() размер списка должен быть равен нулю.
+     */
+    @Test
+    public void testClear() {
+        MyDoubleArrayList list = new MyDoubleArrayList();
+        list.add(1);
+        list.add(2);
+        list.clear();
+        assertEquals("Список должен быть пуст после очистки.", 0, list.getSize());
+    }
+
+    /**
+     * Тестирует получение элемента за пределами списка.
+     * Ожидается получение {@link IndexOutOfBoundsException}.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() {
+        MyDoubleArrayList list = new MyDoubleArrayList();
+        list.add(1);
+        list.get(1);
+    }
+
+    /**
+     * Тестирует поразрядную сортировку большого списка со случайными, в том числе отрицательными, значениями.
+     * Результат должен совпадать с результатом стандартной сортировки.
+     */
+    @Test
+    public void testSortWithLargeData() {
+        MyDoubleArrayList list = new MyDoubleArrayList();
+        double[] data = new double[1000000];
+        Random random = new Random(1);
+        for (int i = 0; i < data.length; i++) {
+            data[i] = random.nextGaussian() * 1e6;
+            list.add(data[i]);
+        }
+        data[0] = Double.NEGATIVE_INFINITY;
+        data[1] = Double.NaN;
+        list.remove(0);
+        list.add(0, Double.NEGATIVE_INFINITY);
+        list.remove(1);
+        list.add(1, Double.NaN);
+        Arrays.sort(data);
+        list.sort();
+        assertTrue("Список должен быть отсортирован.", Arrays.equals(list.toArray(), data));
+    }
+
+    /**
+     * Тестирует сортировку небольшого списка, для которого используется быстрая сортировка.
+     * Элементы списка должны следовать в возрастающем порядке.
+     */
+    @Test
+    public void testSortSmallList() {
+        MyDoubleArrayList list = new MyDoubleArrayList();
+        list.add(3);
+        list.add(-1);
+        list.add(2);
+        list.sort();
+        assertTrue("Список должен быть отсортирован.", Arrays.equals(list.toArray(), new double[]{-1, 2, 3}));
+    }
+
+    /**
+     * Тестирует быструю сортировку больших списков: случайного, отсортированного и с повторяющимися значениями.
+     * Результат должен совпадать с результатом стандартной сортировки.
+     */
+    @Test
+    public void testQuickSortWithLargeData() {
+        Random random = new Random(2);
+        double[][] inputs = new double[3][1000000];
+        for (int i = 0; i < inputs[0].length; i++) {
+            inputs[0][i] = random.nextGaussian();
+            inputs[1][i] = i;
+            inputs[2][i] = random.nextInt(10);
+        }
+        for (double[] data : inputs) {
+            MyDoubleArrayList list = new MyDoubleArrayList();
+            for (double value : data) {
+                list.add(value);
+            }
+            Arrays.sort(data);
+            list.quickSort();
+            assertTrue("Список должен быть отсортирован быстрой сортировкой.", Arrays.equals(list.toArray(), data));
+        }
+    }
+
+    /**
+     * Тестирует порядок особых значений после сортировки.
+     * Отрицательный ноль должен идти перед положительным, а NaN - после всех остальных значений.
+     */
+    @Test
+    public void testSortWithSpecialValues() {
+        double[] data = {Double.NaN, 0.0, Double.POSITIVE_INFINITY, -0.0, -1.5, Double.NEGATIVE_INFINITY, 1.5};
+        MyDoubleArrayList radix = new MyDoubleArrayList();
+        MyDoubleArrayList quick = new MyDoubleArrayList();
+        for (int i = 0; i < 300; i++) {
+            radix.add(data[i % data.length]);
+            quick.add(data[i % data.length]);
+        }
+        double[] expected = radix.toArray();
+        Arrays.sort(expected);
+        radix.sort();
+        quick.quickSort();
+        assertTrue("Поразрядная сортировка должна соблюдать порядок Double.compare.", Arrays.equals(radix.toArray(), expected));
+        assertTrue("Быстрая сортировка должна соблюдать порядок Double.compare.", Arrays.equals(quick.toArray(), expected));
+    }
+
+    /**
+     * Тестирует сумму, минимум, максимум, поиск, подсчет и отбор элементов в диапазоне значений.
+     * Сумма может отличаться от последовательной в последних разрядах, остальные результаты должны совпадать точно.
+     */
+    @Test
+    public void testAggregates() {
+        MyDoubleArrayList list = new MyDoubleArrayList();
+        Random random = new Random(25);
+        double[] data = new double[10007];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = random.nextGaussian();
+            list.add(data[i]);
+        }
+        double sum = 0;
+        for (double value : data) {
+            sum += value;
+        }
+        assertEquals("Сумма должна совпадать с точностью до округления.", sum, list.sum(), 1e-9);
+        assertEquals("Минимум должен совпадать.", Arrays.stream(data).min().getAsDouble(), list.min());
+        assertEquals("Максимум должен совпадать.", Arrays.stream(data).max().getAsDouble(), list.max());
+        assertEquals("Должен находиться индекс элемента.", 9000, list.indexOf(data[9000]));
+        assertEquals("Отсутствующее значение не должно находиться.", -1, list.indexOf(100.5));
+        double[] expected = Arrays.stream(data).filter(v -> v >= -0.5 && v < 0.5).toArray();
+        assertEquals("Подсчет в диапазоне должен совпадать.", expected.length, list.count(-0.5, 0.5));
+
+        MyDoubleArrayList target = new MyDoubleArrayList();
+        assertEquals("Должны быть отобраны все элементы диапазона.",
+                expected.length, list.filterInto(-0.5, 0.5, target));
+        assertTrue("Отобранные элементы должны сохранять порядок.", Arrays.equals(target.toArray(), expected));
+
+        list.add(Double.NaN);
+        assertTrue("Минимум списка с NaN должен быть NaN.", Double.isNaN(list.min()));
+    }
+}
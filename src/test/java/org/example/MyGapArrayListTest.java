@@ -0,0 +1,123 @@
+package org.example;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+/**
+ * Класс для тестирования списка {@link MyGapArrayList} на основе буфера с зазором.
+ * Проверяет правки в разных позициях, перенос зазора, расширение массива и сортировку.
+ */
+public class MyGapArrayListTest {
+    /**
+     * Тестирует добавление элементов в конец, начало и середину списка, включая расширение массива из нулевой емкости.
+     * Элементы должны оказаться на ожидаемых позициях.
+     */
+    @Test
+    public void testAddAndGet() {
+        MyGapArrayList<Integer> list = new MyGapArrayList<>(0);
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+        list.add(0, -1);
+        list.add(5, -2);
+        list.add(list.getSize(), -3);
+        assertTrue("Элементы должны оказаться на ожидаемых позициях.", Arrays.equals(list.toArray(),
+                new Integer[]{-1, 0, 1, 2, 3, -2, 4, 5, 6, 7, 8, 9, -3}));
+        assertEquals("Элемент после зазора должен быть доступен по индексу.", (Integer) 9, list.get(11));
+    }
+
+    /**
+     * Тестирует удаление элемента за пределами списка.
+     * Ожидается получение {@link IndexOutOfBoundsException}.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testRemoveOutOfBounds() {
+        MyGapArrayList<Integer> list = new MyGapArrayList<>();
+        list.add(1);
+        list.remove(1);
+    }
+
+    /**
+     * Тестирует серию правок рядом с перемещающимся курсором вперемешку с правками в случайных позициях.
+     * Содержимое списка должно совпадать с содержимым {@link ArrayList}.
+     */
+    @Test
+    public void testCursorEditsMatchArrayList() {
+        Random random = new Random(5);
+        MyGapArrayList<Integer> list = new MyGapArrayList<>(1);
+        List<Integer> expected = new ArrayList<>();
+        int cursor = 0;
+        for (int step = 0; step < 50000; step++) {
+            int operation = random.nextInt(10);
+            cursor = random.nextInt(20) == 0
+                    ? random.nextInt(expected.size() + 1)
+                    : Math.max(0, Math.min(expected.size(), cursor + random.nextInt(5) - 2));
+            if (operation < 6 || expected.isEmpty()) {
+                list.add(cursor, step);
+                expected.add(cursor, step);
+                cursor++;
+            } else {
+                int index = Math.min(cursor, expected.size() - 1);
+                list.remove(index);
+                expected.remove(index);
+            }
+            if (!expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                assertEquals("Элемент должен совпадать с ожидаемым.", expected.get(index), list.get(index));
+            }
+        }
+        assertEquals("Размер должен совпадать с ожидаемым.", expected.size(), list.getSize());
+        assertTrue("Содержимое должно совпадать с ожидаемым.", Arrays.equals(list.toArray(), expected.toArray()));
+    }
+
+    /**
+     * Тестирует сортировку списка, у которого зазор находится в середине, и дальнейшие правки после нее.
+     * Результат должен совпадать с результатом стандартной сортировки.
+     */
+    @Test
+    public void testSortWithGapInTheMiddle() {
+        MyGapArrayList<Integer> list = new MyGapArrayList<>();
+        Integer[] data = new Integer[10000];
+        Random random = new Random(7);
+        for (int i = 0; i < data.length; i++) {
+            data[i] = random.nextInt();
+            list.add(i / 2, data[i]);
+        }
+        list.sort(Comparator.reverseOrder());
+        Arrays.sort(data, Comparator.reverseOrder());
+        assertTrue("Список должен быть отсортирован.", Arrays.equals(list.toArray(), data));
+
+        list.add(0, Integer.MAX_VALUE);
+        list.sort();
+        assertEquals("Наибольший элемент должен оказаться последним.", (Integer) Integer.MAX_VALUE,
+                list.get(list.getSize() - 1));
+    }
+
+    /**
+     * Тестирует очистку списка, итератор и поток элементов.
+     * Обход должен вернуть все элементы в порядке следования.
+     */
+    @Test
+    public void testClearAndIteration() {
+        MyGapArrayList<Integer> list = new MyGapArrayList<>();
+        list.add(42);
+        list.clear();
+        assertEquals("После очистки список должен быть пустым.", 0, list.getSize());
+        for (int i = 0; i < 100; i++) {
+            list.add(0, 99 - i);
+        }
+        int expected = 0;
+        for (Integer value : list) {
+            assertEquals("Итератор должен возвращать элементы по порядку.", (Integer) expected++, value);
+        }
+        assertEquals("Поток должен содержать все элементы.", 4950, list.stream().mapToInt(Integer::intValue).sum());
+    }
+}
@@ -0,0 +1,199 @@
+package org.example;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+/**
+ * Класс для тестирования списка примитивных значений {@link MyIntArrayList}.
+ * Проверяет добавление, удаление, получение элементов, а также поразрядную и быструю сортировки.
+ */
+public class MyIntArrayListTest {
+    /**
+     * Тестирует добавление элементов в конец и в указанную позицию списка.
+     * Элементы должны оказаться на ожидаемых позициях.
+     */
+    @Test
+    public void testAddAndAddAtIndex() {
+        MyIntArrayList list = new MyIntArrayList();
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        list.add(0, -1);
+        list.add(50, 1000);
+        list.add(list.getSize(), 2000);
+        assertEquals("Элемент должен быть добавлен в начало списка.", -1, list.get(0));
+        assertEquals("Элемент должен быть вставлен на указанный индекс.", 1000, list.get(50));
+        assertEquals("Элемент должен быть добавлен в конец списка.", 2000, list.get(list.getSize() - 1));
+        assertEquals("Размер списка должен учитывать все добавленные элементы.", 103, list.getSize());
+    }
+
+    /**
+     * Тестирует удаление элемента по индексу.
+     * Оставшиеся элементы должны сдвинуться на одну позицию.
+     */
+    @Test
+    public void testRemove() {
+        MyIntArrayList list = new MyIntArrayList();
+        list.add(1);
+        list.add(2);
+        list.add(3);
+        list.remove(1);
+        assertTrue("Элемент на индексе 1 должен быть удален.", Arrays.equals(list.toArray(), new int[]{1, 3}));
+    }
+
+    /**
+     * Тестирует очистку списка.
+     * После вызова метода clear() размер списка должен быть равен нулю.
+     */
+    @Test
+    public void testClear() {
+        MyIntArrayList list = new MyIntArrayList();
+        list.add(1);
+        list.add(2);
+        list.clear();
+        assertEquals("Список должен быть пуст после очистки.", 0, list.getSize());
+    }
+
+    /**
+     * Тестирует получение элемента за пределами списка.
+     * Ожидается получение {@link IndexOutOfBoundsException}.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() {
+        MyIntArrayList list = new MyIntArrayList();
+        list.add(1);
+        list.get(1);
+    }
+
+    /**
+     * Тестирует поразрядную сортировку большого списка со случайными, в том числе отрицательными, значениями.
+     * Результат должен совпадать с результатом стандартной сортировки.
+     */
+    @Test
+    public void testSortWithLargeData() {
+        MyIntArrayList list = new MyIntArrayList();
+        int[] data = new int[1000000];
+        Random random = new Random(1);
+        for (int i = 0; i < data.length; i++) {
+            data[i] = random.nextInt();
+            list.add(data[i]);
+        }
+        data[0] = Integer.MIN_VALUE;
+        data[1] = Integer.MAX_VALUE;
+        list.remove(0);
+        list.add(0, Integer.MIN_VALUE);
+        list.remove(1);
+        list.add(1, Integer.MAX_VALUE);
+        Arrays.sort(data);
+        list.sort();
+        assertTrue("Список должен быть отсортирован.", Arrays.equals(list.toArray(), data));
+    }
+
+    /**
+     * Тестирует сортировку небольшого списка, для которого используется быстрая сортировка.
+     * Элементы списка должны следовать в возрастающем порядке.
+     */
+    @Test
+    public void testSortSmallList() {
+        MyIntArrayList list = new MyIntArrayList();
+        list.add(3);
+        list.add(-1);
+        list.add(2);
+        list.sort();
+        assertTrue("Список должен быть отсортирован.", Arrays.equals(list.toArray(), new int[]{-1, 2, 3}));
+    }
+
+    /**
+     * Тестирует быструю сортировку больших списков: случайного, отсортированного и с повторяющимися значениями.
+     * Результат должен совпадать с результатом стандартной сортировки.
+     */
+    @Test
+    public void testQuickSortWithLargeData() {
+        Random random = new Random(2);
+        int[][] inputs = new int[3][1000000];
+        for (int i = 0; i < inputs[0].length; i++) {
+            inputs[0][i] = random.nextInt();
+            inputs[1][i] = i;
+            inputs[2][i] = random.nextInt(10);
+        }
+        for (int[] data : inputs) {
+            MyIntArrayList list = new MyIntArrayList();
+            for (int value : data) {
+                list.add(value);
+            }
+            Arrays.sort(data);
+            list.quickSort();
+            assertTrue("Список должен быть отсортирован быстрой сортировкой.", Arrays.equals(list.toArray(), data));
+        }
+    }
+
+    /**
+     * Тестирует сумму, минимум, максимум, поиск и подсчет элементов в диапазоне значений на списке,
+     * длина которого не кратна ширине вектора.
+     * Результаты должны совпадать с результатами простых циклов.
+     */
+    @Test
+    public void testAggregates() {
+        MyIntArrayList list = new MyIntArrayList();
+        Random random = new Random(25);
+        int[] data = new int[10007];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = random.nextInt();
+            list.add(data[i]);
+        }
+        assertEquals("Сумма должна совпадать и не переполняться.",
+                Arrays.stream(data).asLongStream().sum(), list.sum());
+        assertEquals("Минимум должен совпадать.", Arrays.stream(data).min().getAsInt(), list.min());
+        assertEquals("Максимум должен совпадать.", Arrays.stream(data).max().getAsInt(), list.max());
+        assertEquals("Должен находиться индекс последнего элемента.",
+                data.length - 1, list.indexOf(data[data.length - 1]));
+        assertEquals("Должен находиться индекс элемента в середине.", 5000, list.indexOf(data[5000]));
+        int[] sorted = data.clone();
+        Arrays.sort(sorted);
+        int absent = 0;
+        while (Arrays.binarySearch(sorted, absent) >= 0) {
+            absent++;
+        }
+        assertEquals("Отсутствующее значение не должно находиться.", -1, list.indexOf(absent));
+        assertEquals("Подсчет в диапазоне должен совпадать.",
+                Arrays.stream(data).filter(v -> v >= -1000000000 && v < 500000000).count(),
+                list.count(-1000000000, 500000000));
+    }
+
+    /**
+     * Тестирует поиск наименьшего элемента в пустом списке.
+     * Ожидается получение {@link NoSuchElementException}.
+     */
+    @Test(expected = NoSuchElementException.class)
+    public void testMinOfEmptyList() {
+        new MyIntArrayList().min();
+    }
+
+    /**
+     * Тестирует отбор элементов из диапазона значений в другой список и в тот же список.
+     * Отобранные элементы должны добавляться в конец в исходном порядке.
+     */
+    @Test
+    public void testFilterInto() {
+        MyIntArrayList list = new MyIntArrayList();
+        for (int i = 0; i < 100; i++) {
+            list.add(i % 10);
+        }
+        MyIntArrayList target = new MyIntArrayList();
+        target.add(-1);
+        assertEquals("Должны быть отобраны 30 элементов.", 30, list.filterInto(3, 6, target));
+        assertEquals("Отобранные элементы должны идти после существующих.", -1, target.get(0));
+        assertTrue("Отобранные элементы должны сохранять порядок.",
+                Arrays.equals(Arrays.copyOfRange(target.toArray(), 1, 7), new int[]{3, 4, 5, 3, 4, 5}));
+
+        assertEquals("Отбор в тот же список должен добавить 10 элементов.", 10, list.filterInto(9, 10, list));
+        assertEquals("Размер списка должен учитывать добавленные элементы.", 110, list.getSize());
+        assertEquals("Отобранные элементы должны добавиться в конец.", 9, list.get(109));
+    }
+}
@@ -2,8 +2,16 @@ package org.example;
 
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
 
 import static junit.framework.Assert.assertEquals;
 import static junit.framework.Assert.assertTrue;
@@ -276,4 +284,276 @@ public class MyLinkedListTest {
         list.sort(lengthComparator);
         assertTrue("Список должен быть отсортирован по длине строки в обратном порядке.", Arrays.equals(list.toArray(), new String[]{"aaaa", "bbb", "cc"}));
     }
+
+    /**
+     * Тестирует случайную последовательность вставок, удалений и чтений по обоим концам и середине списка.
+     * После каждой операции содержимое должно совпадать с {@link java.util.LinkedList}.
+     */
+    @Test
+    public void testRandomOperationsMatchJdkList() {
+        MyLinkedList<Integer> list = new MyLinkedList<>();
+        java.util.LinkedList<Integer> expected = new java.util.LinkedList<>();
+        Random random = new Random(1);
+        for (int step = 0; step < 5000; step++) {
+            int operation = random.nextInt(4);
+            if (operation == 0 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                list.add(index, step);
+                expected.add(index, step);
+            } else if (operation == 1) {
+                list.add(step);
+                expected.add(step);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                list.remove(index);
+                expected.remove(index);
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals("Элемент по индексу должен совпадать.", expected.get(index), list.get(index));
+            }
+        }
+        assertTrue("Содержимое списка должно совпадать с эталоном.", Arrays.equals(list.toArray(), expected.toArray()));
+    }
+
+    /**
+     * Тестирует последовательный проход вызовами get в прямом и обратном порядке.
+     * Каждый доступ должен начинаться от предыдущего найденного узла, поэтому весь проход проходит O(n) узлов.
+     */
+    @Test
+    public void testSequentialGetIsLinear() {
+        MyLinkedList<Integer> list = new MyLinkedList<>();
+        for (int i = 0; i < 10000; i++) {
+            list.add(i);
+        }
+        long[] steps = new long[1];
+        list.setMetricsListener(new ListMetricsListener() {
+            @Override
+            public void onTraversal(long traversed, long durationNanos) {
+                steps[0] += traversed;
+            }
+        });
+        for (int i = 0; i < list.getSize(); i++) {
+            assertEquals("Элемент должен быть найден по индексу.", (Integer) i, list.get(i));
+        }
+        for (int i = list.getSize() - 1; i >= 0; i--) {
+            assertEquals("Элемент должен быть найден по индексу.", (Integer) i, list.get(i));
+        }
+        assertTrue("Проход по всем индексам должен пройти не больше 2n узлов.", steps[0] <= 2 * 10000);
+    }
+
+    /**
+     * Тестирует почти последовательный проход со вставками и удалениями рядом с текущей позицией.
+     * Содержимое и доступ по индексу должны совпадать с {@link ArrayList}.
+     */
+    @Test
+    public void testEditsNearLastAccessedNode() {
+        MyLinkedList<Integer> list = new MyLinkedList<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+            expected.add(i);
+        }
+        Random random = new Random(23);
+        int position = 0;
+        for (int step = 0; step < 20000; step++) {
+            position = Math.max(0, Math.min(expected.size() - 1, position + random.nextInt(5) - 1));
+            int operation = random.nextInt(6);
+            if (operation == 0) {
+                list.add(position, -step);
+                expected.add(position, -step);
+            } else if (operation == 1 && expected.size() > 1) {
+                list.remove(position);
+                expected.remove(position);
+                position = Math.min(position, expected.size() - 1);
+            } else if (operation == 2) {
+                list.add(step);
+                expected.add(step);
+            } else if (operation == 3 && step % 1000 == 0) {
+                list.sort();
+                expected.sort(null);
+            } else {
+                assertEquals("Элемент по индексу должен совпадать.", expected.get(position), list.get(position));
+            }
+        }
+        assertTrue("Содержимое списка должно совпадать с эталоном.", Arrays.equals(list.toArray(), expected.toArray()));
+    }
+
+    /**
+     * Тестирует добавление в конец после удаления последнего элемента и после сортировки.
+     * Ссылка на последний узел должна оставаться корректной.
+     */
+    @Test
+    public void testAddAfterRemovingLastAndSorting() {
+        MyLinkedList<Integer> list = new MyLinkedList<>();
+        list.add(3);
+        list.add(1);
+        list.add(2);
+        list.remove(2);
+        list.add(5);
+        list.sort();
+        list.add(4);
+        assertTrue("Элементы должны добавляться в конец списка.", Arrays.equals(list.toArray(), new Integer[]{1, 3, 5, 4}));
+        assertEquals("Последний элемент должен быть доступен по индексу.", (Integer) 4, list.get(3));
+    }
+
+    /**
+     * Тестирует построение большого списка добавлениями в конец.
+     * Добавление в конец не должно обходить список, поэтому построение миллиона элементов должно быть быстрым.
+     */
+    @Test(timeout = 5000)
+    public void testAppendMillionElements() {
+        MyLinkedList<Integer> list = new MyLinkedList<>();
+        int elementsCount = 1000000;
+        for (int i = 0; i < elementsCount; i++) {
+            list.add(i);
+        }
+        assertEquals("Последний добавленный элемент должен соответствовать ожиданиям.", (Integer) (elementsCount - 1), list.get(elementsCount - 1));
+        assertEquals("Элемент в середине списка должен соответствовать ожиданиям.", (Integer) (elementsCount / 2), list.get(elementsCount / 2));
+    }
+
+    /**
+     * Тестирует устойчивость сортировки: строки сравниваются только по первому символу,
+     * поэтому равные элементы должны сохранить исходный порядок. Проверяется также обратный обход через get.
+     */
+    @Test
+    public void testSortIsStable() {
+        MyLinkedList<String> list = new MyLinkedList<>();
+        String[] data = new String[10000];
+        Random random = new Random(2);
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (char) ('a' + random.nextInt(5)) + String.valueOf(i);
+            list.add(data[i]);
+        }
+        Comparator<String> firstChar = Comparator.comparing(s -> s.charAt(0));
+        Arrays.sort(data, firstChar);
+        list.sort(firstChar);
+        assertTrue("Сортировка должна сохранять порядок равных элементов.", Arrays.equals(list.toArray(), data));
+        for (int i = data.length - 1; i >= data.length - 100; i--) {
+            assertEquals("Обратные ссылки должны соответствовать новому порядку.", data[i], list.get(i));
+        }
+    }
+
+    /**
+     * Тестирует сортировку уже отсортированного списка и списка из нескольких возрастающих серий.
+     * Оба списка должны оказаться упорядоченными по возрастанию.
+     */
+    @Test
+    public void testSortWithPartiallyOrderedData() {
+        MyLinkedList<Integer> sorted = new MyLinkedList<>();
+        MyLinkedList<Integer> runs = new MyLinkedList<>();
+        Integer[] data = new Integer[1000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = i;
+            sorted.add(i);
+            runs.add((i % 4) * 250 + i / 4);
+        }
+        sorted.sort();
+        runs.sort();
+        assertTrue("Отсортированный список должен остаться отсортированным.", Arrays.equals(sorted.toArray(), data));
+        assertTrue("Список из серий должен быть упорядочен.", Arrays.equals(runs.toArray(), data));
+    }
+
+    /**
+     * Тестирует обход списка циклом for-each.
+     * Элементы должны перебираться в порядке следования.
+     */
+    @Test
+    public void testIterator() {
+        MyLinkedList<Integer> list = new MyLinkedList<>();
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        int expected = 0;
+        for (Integer element : list) {
+            assertEquals("Итератор должен возвращать элементы по порядку.", (Integer) expected++, element);
+        }
+        assertEquals("Итератор должен перебрать все элементы.", 100, expected);
+    }
+
+    /**
+     * Тестирует запрос следующего элемента у исчерпанного итератора.
+     * Ожидается получение {@link java.util.NoSuchElementException}.
+     */
+    @Test(expected = java.util.NoSuchElementException.class)
+    public void testIteratorPastEnd() {
+        MyLinkedList<Integer> list = new MyLinkedList<>();
+        list.iterator().next();
+    }
+
+    /**
+     * Тестирует последовательный и параллельный потоки элементов.
+     * Результаты агрегирования должны совпадать с ожидаемыми, порядок элементов должен сохраняться.
+     */
+    @Test
+    public void testStreams() {
+        MyLinkedList<Integer> list = new MyLinkedList<>();
+        int elementsCount = 100000;
+        for (int i = 0; i < elementsCount; i++) {
+            list.add(i);
+        }
+        long expectedSum = (long) elementsCount * (elementsCount - 1) / 2;
+        assertEquals("Сумма элементов последовательного потока должна совпадать.", expectedSum, list.stream().mapToLong(Integer::longValue).sum());
+        assertEquals("Сумма элементов параллельного потока должна совпадать.", expectedSum, list.parallelStream().mapToLong(Integer::longValue).sum());
+        Object[] collected = list.parallelStream().toArray();
+        assertTrue("Параллельный поток должен сохранять порядок элементов.", Arrays.equals(collected, list.toArray()));
+    }
+
+    /**
+     * Тестирует разделение сплитератора.
+     * Обе части должны знать точный размер, а их сумма должна равняться размеру списка.
+     */
+    @Test
+    public void testSpliteratorSplit() {
+        MyLinkedList<Integer> list = new MyLinkedList<>();
+        for (int i = 0; i < 5000; i++) {
+            list.add(i);
+        }
+        java.util.Spliterator<Integer> spliterator = list.spliterator();
+        assertTrue("Сплитератор должен быть SUBSIZED.", spliterator.hasCharacteristics(java.util.Spliterator.SUBSIZED));
+        java.util.Spliterator<Integer> prefix = spliterator.trySplit();
+        assertTrue("Сплитератор должен делиться.", prefix != null);
+        assertEquals("Части сплитератора должны покрывать весь список.", 5000, prefix.getExactSizeIfKnown() + spliterator.getExactSizeIfKnown());
+        int[] first = new int[1];
+        prefix.tryAdvance(element -> first[0] = element);
+        assertEquals("Отделенная часть должна начинаться с первого элемента.", 0, first[0]);
+    }
+
+    /**
+     * Тестирует запись и восстановление снимка списка строк, а также чтение снимка списком другого типа.
+     * Восстановленные списки должны совпадать с исходным.
+     */
+    @Test
+    public void testSnapshotRoundTrip() throws IOException {
+        MyLinkedList<String> list = new MyLinkedList<>();
+        for (int i = 0; i < 50000; i++) {
+            list.add("элемент " + i);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        list.writeTo(Channels.newChannel(out), ElementCodec.strings());
+
+        MyLinkedList<String> restored = MyLinkedList.readFrom(
+                Channels.newChannel(new ByteArrayInputStream(out.toByteArray())), ElementCodec.strings());
+        assertTrue("Восстановленный список должен совпадать с исходным.",
+                Arrays.equals(list.toArray(), restored.toArray()));
+        restored.add("последний");
+        assertEquals("Последний элемент должен быть доступен.", "последний", restored.get(50000));
+
+        MyArrayList<String> asArrayList = MyArrayList.readFrom(
+                Channels.newChannel(new ByteArrayInputStream(out.toByteArray())), ElementCodec.strings());
+        assertTrue("Снимок связного списка должен читаться списком массивов.",
+                Arrays.equals(list.toArray(), asArrayList.toArray()));
+    }
+
+    /**
+     * Тестирует запись снимка пустого списка.
+     * Восстановленный список должен быть пустым.
+     */
+    @Test
+    public void testEmptySnapshot() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new MyLinkedList<Integer>().writeTo(Channels.newChannel(out), FixedWidthCodec.ints());
+        MyLinkedList<Integer> restored = MyLinkedList.readFrom(
+                Channels.newChannel(new ByteArrayInputStream(out.toByteArray())), FixedWidthCodec.ints());
+        assertEquals("Восстановленный список должен быть пустым.", 0, restored.getSize());
+    }
 }
@@ -0,0 +1,161 @@
+package org.example;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+/**
+ * Класс для тестирования списка примитивных значений {@link MyLongArrayList}.
+ * Проверяет добавление, удаление, получение элементов, а также поразрядную и быструю сортировки.
+ */
+public class MyLongArrayListTest {
+    /**
+     * Тестирует добавление элементов в конец и в указанную позицию списка.
+     * Элементы должны оказаться на ожидаемых позициях.
+     */
+    @Test
+    public void testAddAndAddAtIndex() {
+        MyLongArrayList list = new MyLongArrayList();
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        list.add(0, -1);
+        list.add(50, 1000);
+        list.add(list.getSize(), 2000);
+        assertEquals("Элемент должен быть добавлен в начало списка.", -1L, list.get(0));
+        assertEquals("Элемент должен быть вставлен на указанный индекс.", 1000L, list.get(50));
+        assertEquals("Элемент должен быть добавлен в конец списка.", 2000L, list.get(list.getSize() - 1));
+        assertEquals("Размер списка должен учитывать все добавленные элементы.", 103, list.getSize());
+    }
+
+    /**
+     * Тестирует удаление элемента по индексу.
+     * Оставшиеся элементы должны сдвинуться на одну позицию.
+     */
+    @Test
+    public void testRemove() {
+        MyLongArrayList list = new MyLongArrayList();
+        list.add(1);
+        list.add(2);
+        list.add(3);
+        list.remove(1);
+        assertTrue("Элемент на индексе 1 должен быть удален.", Arrays.equals(list.toArray(), new long[]{1, 3}));
+    }
+
+    /**
+     * Тестирует очистку списка.
+     * После вызова метода clear() размер списка должен быть равен нулю.
+     */
+    @Test
+    public void testClear() {
+        MyLongArrayList list = new MyLongArrayList();
+        list.add(1);
+        list.add(2);
+        list.clear();
+        assertEquals("Список должен быть пуст после очистки.", 0, list.getSize());
+    }
+
+    /**
+     * Тестирует получение элемента за пределами списка.
+     * Ожидается получение {@link IndexOutOfBoundsException}.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() {
+        MyLongArrayList list = new MyLongArrayList();
+        list.add(1);
+        list.get(1);
+    }
+
+    /**
+     * Тестирует поразрядную сортировку большого списка со случайными, в том числе отрицательными, значениями.
+     * Результат должен совпадать с результатом стандартной сортировки.
+     */
+    @Test
+    public void testSortWithLargeData() {
+        MyLongArrayList list = new MyLongArrayList();
+        long[] data = new long[1000000];
+        Random random = new Random(1);
+        for (int i = 0; i < data.length; i++) {
+            data[i] = random.nextLong();
+            list.add(data[i]);
+        }
+        data[0] = Long.MIN_VALUE;
+        data[1] = Long.MAX_VALUE;
+        list.remove(0);
+        list.add(0, Long.MIN_VALUE);
+        list.remove(1);
+        list.add(1, Long.MAX_VALUE);
+        Arrays.sort(data);
+        list.sort();
+        assertTrue("Список должен быть отсортирован.", Arrays.equals(list.toArray(), data));
+    }
+
+    /**
+     * Тестирует сортировку небольшого списка, для которого используется быстрая сортировка.
+     * Элементы списка должны следовать в возрастающем порядке.
+     */
+    @Test
+    public void testSortSmallList() {
+        MyLongArrayList list = new MyLongArrayList();
+        list.add(3);
+        list.add(-1);
+        list.add(2);
+        list.sort();
+        assertTrue("Список должен быть отсортирован.", Arrays.equals(list.toArray(), new long[]{-1, 2, 3}));
+    }
+
+    /**
+     * Тестирует быструю сортировку больших списков: случайного, отсортированного и с повторяющимися значениями.
+     * Результат должен совпадать с результатом стандартной сортировки.
+     */
+    @Test
+    public void testQuickSortWithLargeData() {
+        Random random = new Random(2);
+        long[][] inputs = new long[3][1000000];
+        for (int i = 0; i < inputs[0].length; i++) {
+            inputs[0][i] = random.nextLong();
+            inputs[1][i] = i;
+            inputs[2][i] = random.nextInt(10);
+        }
+        for (long[] data : inputs) {
+            MyLongArrayList list = new MyLongArrayList();
+            for (long value : data) {
+                list.add(value);
+            }
+            Arrays.sort(data);
+            list.quickSort();
+            assertTrue("Список должен быть отсортирован быстрой сортировкой.", Arrays.equals(list.toArray(), data));
+        }
+    }
+
+    /**
+     * Тестирует сумму, минимум, максимум, поиск, подсчет и отбор элементов в диапазоне значений.
+     * Результаты должны совпадать с результатами простых циклов.
+     */
+    @Test
+    public void testAggregates() {
+        MyLongArrayList list = new MyLongArrayList();
+        Random random = new Random(25);
+        long[] data = new long[10007];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = random.nextLong();
+            list.add(data[i]);
+        }
+        assertEquals("Сумма должна совпадать.", Arrays.stream(data).sum(), list.sum());
+        assertEquals("Минимум должен совпадать.", Arrays.stream(data).min().getAsLong(), list.min());
+        assertEquals("Максимум должен совпадать.", Arrays.stream(data).max().getAsLong(), list.max());
+        assertEquals("Должен находиться индекс элемента.", 7777, list.indexOf(data[7777]));
+        assertEquals("Отсутствующее значение не должно находиться.", -1, list.indexOf(Long.MIN_VALUE + 1));
+        long[] expected = Arrays.stream(data).filter(v -> v >= 0 && v < Long.MAX_VALUE / 2).toArray();
+        assertEquals("Подсчет в диапазоне должен совпадать.", expected.length, list.count(0, Long.MAX_VALUE / 2));
+
+        MyLongArrayList target = new MyLongArrayList();
+        assertEquals("Должны быть отобраны все элементы диапазона.", expected.length,
+                list.filterInto(0, Long.MAX_VALUE / 2, target));
+        assertTrue("Отобранные элементы должны сохранять порядок.", Arrays.equals(target.toArray(), expected));
+    }
+}
@@ -0,0 +1,117 @@
+package org.example;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+/**
+ * Класс для тестирования списка {@link MyMappedArrayList}, хранящего элементы в отображенном в память файле.
+ * Проверяет операции над списком, расширение файла, сортировку на месте и повторное открытие файла.
+ */
+public class MyMappedArrayListTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Тестирует добавление, вставку и удаление элементов с расширением файла.
+     * Элементы должны оказаться на ожидаемых позициях.
+     */
+    @Test
+    public void testAddInsertAndRemove() throws IOException {
+        try (MyMappedArrayList<Integer> list = MyMappedArrayList.open(file(), FixedWidthCodec.ints())) {
+            for (int i = 0; i < 1000; i++) {
+                list.add(i);
+            }
+            list.add(0, -1);
+            list.remove(1);
+            list.add(500, -2);
+            assertEquals("Элемент должен быть вставлен в начало списка.", (Integer) (-1), list.get(0));
+            assertEquals("Элемент должен быть вставлен на указанный индекс.", (Integer) (-2), list.get(500));
+            assertEquals("Последующие элементы должны сдвинуться.", (Integer) 500, list.get(501));
+            assertEquals("Размер списка должен учитывать все операции.", 1001, list.getSize());
+        }
+    }
+
+    /**
+     * Тестирует повторное открытие файла списка.
+     * Содержимое и размер списка должны сохраниться, а в открытый список можно продолжать добавлять элементы.
+     */
+    @Test
+    public void testReopenRestoresContents() throws IOException {
+        Path file = file();
+        Long[] data = new Long[10000];
+        try (MyMappedArrayList<Long> list = MyMappedArrayList.open(file, FixedWidthCodec.longs())) {
+            for (int i = 0; i < data.length; i++) {
+                data[i] = (long) i * i;
+                list.add(data[i]);
+            }
+        }
+        try (MyMappedArrayList<Long> list = MyMappedArrayList.open(file, FixedWidthCodec.longs())) {
+            assertTrue("Содержимое списка должно сохраниться.", Arrays.equals(list.toArray(), data));
+            list.add(-1L);
+            assertEquals("В открытый список можно добавлять элементы.", (Long) (-1L), list.get(data.length));
+        }
+    }
+
+    /**
+     * Тестирует сортировку на месте в естественном порядке и с компаратором, в том числе после повторного открытия.
+     * Результат должен совпадать с результатом стандартной сортировки.
+     */
+    @Test
+    public void testSortInPlace() throws IOException {
+        Path file = file();
+        Double[] data = new Double[50000];
+        Random random = new Random(1);
+        try (MyMappedArrayList<Double> list = MyMappedArrayList.open(file, FixedWidthCodec.doubles())) {
+            for (int i = 0; i < data.length; i++) {
+                data[i] = (double) random.nextInt(1000);
+                list.add(data[i]);
+            }
+            list.sort();
+        }
+        Arrays.sort(data);
+        try (MyMappedArrayList<Double> list = MyMappedArrayList.open(file, FixedWidthCodec.doubles())) {
+            assertTrue("Отсортированный список должен сохраниться в файле.", Arrays.equals(list.toArray(), data));
+            list.sort(Comparator.reverseOrder());
+            Arrays.sort(data, Comparator.reverseOrder());
+            assertTrue("Список должен быть отсортирован в обратном порядке.", Arrays.equals(list.toArray(), data));
+        }
+    }
+
+    /**
+     * Тестирует открытие файла кодеком с другой длиной записи.
+     * Ожидается получение {@link IOException}.
+     */
+    @Test(expected = IOException.class)
+    public void testOpenWithMismatchedCodec() throws IOException {
+        Path file = file();
+        try (MyMappedArrayList<Integer> list = MyMappedArrayList.open(file, FixedWidthCodec.ints())) {
+            list.add(1);
+        }
+        MyMappedArrayList.open(file, FixedWidthCodec.longs()).close();
+    }
+
+    /**
+     * Тестирует обращение к закрытому списку.
+     * Ожидается получение {@link IllegalStateException}.
+     */
+    @Test(expected = IllegalStateException.class)
+    public void testUseAfterClose() throws IOException {
+        MyMappedArrayList<Integer> list = MyMappedArrayList.open(file(), FixedWidthCodec.ints());
+        list.close();
+        list.add(1);
+    }
+
+    private Path file() throws IOException {
+        return folder.newFolder().toPath().resolve("list.bin");
+    }
+}
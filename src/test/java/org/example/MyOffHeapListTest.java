@@ -0,0 +1,120 @@
+package org.example;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+/**
+ * Класс для тестирования списка {@link MyOffHeapList}, хранящего элементы вне кучи.
+ * Проверяет добавление, удаление, получение элементов, расширение буфера и сортировку закодированных записей.
+ */
+public class MyOffHeapListTest {
+    /**
+     * Тестирует добавление элементов в конец и в указанную позицию списка, включая расширение буфера.
+     * Элементы должны оказаться на ожидаемых позициях.
+     */
+    @Test
+    public void testAddAndGet() {
+        MyOffHeapList<Integer> list = new MyOffHeapList<>(FixedWidthCodec.ints(), 0);
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+        }
+        list.add(0, -1);
+        list.add(500, -2);
+        list.add(list.getSize(), -3);
+        assertEquals("Элемент должен быть добавлен в начало списка.", (Integer) (-1), list.get(0));
+        assertEquals("Элемент должен быть вставлен на указанный индекс.", (Integer) (-2), list.get(500));
+        assertEquals("Последующие элементы должны сдвинуться.", (Integer) 499, list.get(501));
+        assertEquals("Элемент должен быть добавлен в конец списка.", (Integer) (-3), list.get(1002));
+        assertEquals("Размер списка должен учитывать все добавленные элементы.", 1003, list.getSize());
+    }
+
+    /**
+     * Тестирует удаление элементов из начала, середины и конца списка.
+     * Оставшиеся элементы должны сдвинуться.
+     */
+    @Test
+    public void testRemove() {
+        MyOffHeapList<Long> list = new MyOffHeapList<>(FixedWidthCodec.longs());
+        for (long i = 0; i < 5; i++) {
+            list.add(i);
+        }
+        list.remove(4);
+        list.remove(0);
+        list.remove(1);
+        assertTrue("Элементы должны быть удалены.", Arrays.equals(list.toArray(), new Long[]{1L, 3L}));
+    }
+
+    /**
+     * Тестирует получение элемента за пределами списка.
+     * Ожидается получение {@link IndexOutOfBoundsException}.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() {
+        MyOffHeapList<Integer> list = new MyOffHeapList<>(FixedWidthCodec.ints());
+        list.add(1);
+        list.clear();
+        list.get(0);
+    }
+
+    /**
+     * Тестирует сортировку большого списка в естественном порядке.
+     * Результат должен совпадать с результатом стандартной сортировки.
+     */
+    @Test
+    public void testSortWithLargeData() {
+        MyOffHeapList<Double> list = new MyOffHeapList<>(FixedWidthCodec.doubles());
+        Double[] data = new Double[100000];
+        Random random = new Random(1);
+        for (int i = 0; i < data.length; i++) {
+            data[i] = random.nextGaussian();
+            list.add(data[i]);
+        }
+        Arrays.sort(data);
+        list.sort();
+        assertTrue("Список должен быть отсортирован.", Arrays.equals(list.toArray(), data));
+        list.add(0.5);
+        assertEquals("После сортировки в список можно добавлять элементы.", 100001, list.getSize());
+    }
+
+    /**
+     * Тестирует устойчивость сортировки с компаратором на пользовательском кодеке.
+     * Записи сравниваются по старшей части, поэтому записи с равной старшей частью должны сохранить исходный порядок.
+     */
+    @Test
+    public void testSortWithComparatorIsStable() {
+        FixedWidthCodec<Long> codec = new FixedWidthCodec<>() {
+            @Override
+            public int width() {
+                return Long.BYTES;
+            }
+
+            @Override
+            public void encode(Long value, ByteBuffer target, int offset) {
+                target.putLong(offset, value);
+            }
+
+            @Override
+            public Long decode(ByteBuffer source, int offset) {
+                return source.getLong(offset);
+            }
+        };
+        MyOffHeapList<Long> list = new MyOffHeapList<>(codec);
+        Long[] data = new Long[5000];
+        Random random = new Random(2);
+        for (int i = 0; i < data.length; i++) {
+            data[i] = ((long) random.nextInt(10) << 32) | i;
+            list.add(data[i]);
+        }
+        Comparator<Long> byHighPart = Comparator.comparing(value -> value >>> 32);
+        Arrays.sort(data, byHighPart);
+        list.sort(byHighPart);
+        assertTrue("Сортировка должна сохранять порядок равных элементов.", Arrays.equals(list.toArray(), data));
+    }
+}
@@ -0,0 +1,227 @@
+package org.example;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+/**
+ * Класс для тестирования персистентного списка {@link MyPersistentVector}.
+ * Проверяет неизменность старых версий, построитель, разрезы и склейки ослабленного дерева.
+ */
+public class MyPersistentVectorTest {
+    /**
+     * Тестирует добавление элементов в конец с переносом хвостовых массивов в дерево и ростом его высоты.
+     * Элементы должны быть доступны по индексу в порядке добавления.
+     */
+    @Test
+    public void testAddAndGet() {
+        MyPersistentVector<Integer> vector = MyPersistentVector.empty();
+        for (int i = 0; i < 40000; i++) {
+            vector = vector.add(i);
+        }
+        assertEquals("Размер должен совпадать с количеством добавленных элементов.", 40000, vector.getSize());
+        for (int i = 0; i < 40000; i++) {
+            assertEquals("Элемент должен находиться на позиции, в которую был добавлен.", (Integer) i, vector.get(i));
+        }
+    }
+
+    /**
+     * Тестирует обращение к элементу за пределами списка.
+     * Ожидается получение {@link IndexOutOfBoundsException}.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() {
+        MyPersistentVector.<Integer>empty().add(1).get(1);
+    }
+
+    /**
+     * Тестирует, что add, set и remove возвращают новые версии и не меняют исходную.
+     * Старая версия должна сохранить прежнее содержимое.
+     */
+    @Test
+    public void testOldVersionsAreUnchanged() {
+        MyPersistentVector<Integer> original = build(100);
+        MyPersistentVector<Integer> changed = original.set(5, -1).add(-2).remove(0).add(50, -3);
+
+        assertTrue("Исходная версия не должна измениться.", Arrays.equals(original.toArray(), range(0, 100)));
+        assertEquals("Новая версия должна содержать замененный элемент.", (Integer) (-1), changed.get(4));
+        assertEquals("Новая версия должна содержать вставленный элемент.", (Integer) (-3), changed.get(50));
+        assertEquals("Новая версия должна содержать добавленный элемент.", (Integer) (-2),
+                changed.get(changed.getSize() - 1));
+        assertEquals("Размер новой версии должен учитывать все изменения.", 101, changed.getSize());
+    }
+
+    /**
+     * Тестирует построитель: список, собранный им, должен совпадать со списком, собранным добавлениями,
+     * а дальнейшее заполнение построителя не должно менять уже построенный список.
+     */
+    @Test
+    public void testBuilder() {
+        MyPersistentVector.Builder<Integer> builder = MyPersistentVector.builder();
+        builder.addAll(Arrays.asList(range(0, 5000)));
+        MyPersistentVector<Integer> first = builder.build();
+        builder.add(5000);
+        MyPersistentVector<Integer> second = builder.build();
+
+        assertTrue("Построенный список должен содержать добавленные элементы.",
+                Arrays.equals(first.toArray(), range(0, 5000)));
+        assertTrue("Второй список должен содержать и элемент, добавленный после первой сборки.",
+                Arrays.equals(second.toArray(), range(0, 5001)));
+        assertEquals("Пустой построитель должен давать пустой список.", 0,
+                MyPersistentVector.<Integer>builder().build().getSize());
+    }
+
+    /**
+     * Тестирует разрез списка по границам внутри дерева, на границе хвоста и внутри хвоста.
+     * Каждый разрез должен содержать элементы из указанного диапазона.
+     */
+    @Test
+    public void testSlice() {
+        MyPersistentVector<Integer> vector = build(3000);
+        int[][] ranges = {{0, 3000}, {0, 1}, {1, 2999}, {31, 33}, {1024, 2048}, {2990, 3000}, {500, 500}};
+        for (int[] range : ranges) {
+            MyPersistentVector<Integer> slice = vector.slice(range[0], range[1]);
+            assertTrue("Разрез должен содержать элементы диапазона.",
+                    Arrays.equals(slice.toArray(), range(range[0], range[1])));
+        }
+    }
+
+    /**
+     * Тестирует склейку списков разной высоты в обоих порядках и склейку списка с самим собой.
+     * Результат должен содержать элементы первого списка, за которыми следуют элементы второго.
+     */
+    @Test
+    public void testConcat() {
+        MyPersistentVector<Integer> small = build(100);
+        MyPersistentVector<Integer> large = build(40000).slice(7, 40000);
+        List<Integer> expected = new ArrayList<>(Arrays.asList(range(0, 100)));
+        expected.addAll(Arrays.asList(range(7, 40000)));
+
+        assertTrue("Склейка малого и большого списков должна сохранять порядок элементов.",
+                Arrays.equals(small.concat(large).toArray(), expected.toArray()));
+        Collections.rotate(expected, -100);
+        assertTrue("Склейка большого и малого списков должна сохранять порядок элементов.",
+                Arrays.equals(large.concat(small).toArray(), expected.toArray()));
+        assertEquals("Склейка списка с самим собой должна удвоить размер.", 79986,
+                large.concat(large).getSize());
+    }
+
+    /**
+     * Тестирует случайную последовательность вставок, удалений, замен, разрезов и склеек.
+     * Содержимое списка должно совпадать с содержимым {@link ArrayList}, а сохраненные старые версии не должны меняться.
+     */
+    @Test
+    public void testRandomOperationsMatchArrayList() {
+        Random random = new Random(18);
+        MyPersistentVector<Integer> vector = MyPersistentVector.empty();
+        List<Integer> expected = new ArrayList<>();
+        MyPersistentVector<Integer> snapshot = vector;
+        List<Integer> snapshotExpected = new ArrayList<>();
+        for (int step = 0; step < 3000; step++) {
+            int size = expected.size();
+            switch (random.nextInt(6)) {
+                case 0 -> {
+                    int index = random.nextInt(size + 1);
+                    vector = vector.add(index, step);
+                    expected.add(index, step);
+                }
+                case 1 -> {
+                    if (size > 0) {
+                        int index = random.nextInt(size);
+                        vector = vector.remove(index);
+                        expected.remove(index);
+                    }
+                }
+                case 2 -> {
+                    if (size > 0) {
+                        int index = random.nextInt(size);
+                        vector = vector.set(index, -step);
+                        expected.set(index, -step);
+                    }
+                }
+                case 3 -> {
+                    int from = random.nextInt(size + 1);
+                    int to = from + random.nextInt(size - from + 1);
+                    vector = vector.slice(from, to);
+                    expected = new ArrayList<>(expected.subList(from, to));
+                }
+                case 4 -> {
+                    int count = random.nextInt(200);
+                    vector = vector.concat(build(count));
+                    expected.addAll(Arrays.asList(range(0, count)));
+                }
+                default -> {
+                    snapshot = vector;
+                    snapshotExpected = new ArrayList<>(expected);
+                }
+            }
+            assertTrue("Содержимое списка должно совпадать с ArrayList.",
+                    Arrays.equals(vector.toArray(), expected.toArray()));
+        }
+        assertTrue("Сохраненная версия не должна измениться.",
+                Arrays.equals(snapshot.toArray(), snapshotExpected.toArray()));
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals("Доступ по индексу должен совпадать с ArrayList.", expected.get(i), vector.get(i));
+        }
+    }
+
+    /**
+     * Тестирует сортировку, которая возвращает новый отсортированный список и не меняет исходный.
+     */
+    @Test
+    public void testSorted() {
+        Random random = new Random(3);
+        MyPersistentVector<Integer> vector = MyPersistentVector.empty();
+        for (int i = 0; i < 1000; i++) {
+            vector = vector.add(random.nextInt(100));
+        }
+        Object[] before = vector.toArray();
+        Object[] expected = before.clone();
+        Arrays.sort(expected, Collections.reverseOrder());
+
+        assertTrue("Список должен быть отсортирован по компаратору.",
+                Arrays.equals(vector.sorted(Comparator.reverseOrder()).toArray(), expected));
+        assertTrue("Исходный список не должен измениться.", Arrays.equals(vector.toArray(), before));
+    }
+
+    /**
+     * Тестирует итератор и поток по списку после разреза, когда крайние узлы дерева заполнены не полностью.
+     */
+    @Test
+    public void testIteratorAndStream() {
+        MyPersistentVector<Integer> vector = build(2000).slice(17, 1990).concat(build(500));
+        List<Integer> iterated = new ArrayList<>();
+        for (Integer element : vector) {
+            iterated.add(element);
+        }
+        assertTrue("Итератор должен перебрать все элементы по порядку.",
+                Arrays.equals(iterated.toArray(), vector.toArray()));
+        assertEquals("Поток должен содержать все элементы по порядку.", iterated,
+                vector.stream().collect(Collectors.toList()));
+    }
+
+    private static MyPersistentVector<Integer> build(int count) {
+        MyPersistentVector.Builder<Integer> builder = MyPersistentVector.builder();
+        for (int i = 0; i < count; i++) {
+            builder.add(i);
+        }
+        return builder.build();
+    }
+
+    private static Integer[] range(int from, int to) {
+        Integer[] result = new Integer[to - from];
+        for (int i = from; i < to; i++) {
+            result[i - from] = i;
+        }
+        return result;
+    }
+}
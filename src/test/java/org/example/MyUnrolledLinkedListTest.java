@@ -0,0 +1,146 @@
+package org.example;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+/**
+ * Класс для тестирования развернутого списка {@link MyUnrolledLinkedList}.
+ * Проверяет операции над списком, деление и слияние узлов, сортировку и обход.
+ */
+public class MyUnrolledLinkedListTest {
+    /**
+     * Тестирует добавление элементов в конец, начало и середину списка.
+     * Элементы должны оказаться на ожидаемых позициях.
+     */
+    @Test
+    public void testAddAndGet() {
+        MyUnrolledLinkedList<Integer> list = new MyUnrolledLinkedList<>(4);
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+        list.add(0, -1);
+        list.add(5, -2);
+        list.add(list.getSize(), -3);
+        assertTrue("Элементы должны оказаться на ожидаемых позициях.", Arrays.equals(list.toArray(),
+                new Integer[]{-1, 0, 1, 2, 3, -2, 4, 5, 6, 7, 8, 9, -3}));
+        assertEquals("Элемент должен быть доступен по индексу.", (Integer) (-2), list.get(5));
+        assertEquals("Последний элемент должен быть доступен по индексу.", (Integer) (-3), list.get(12));
+    }
+
+    /**
+     * Тестирует получение элемента за пределами списка.
+     * Ожидается получение {@link IndexOutOfBoundsException}.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() {
+        MyUnrolledLinkedList<Integer> list = new MyUnrolledLinkedList<>();
+        list.add(1);
+        list.get(1);
+    }
+
+    /**
+     * Тестирует случайную последовательность вставок и удалений на узлах разной емкости,
+     * при которой узлы многократно делятся и сливаются.
+     * Содержимое списка должно совпадать с содержимым {@link ArrayList}.
+     */
+    @Test
+    public void testRandomOperationsMatchArrayList() {
+        for (int capacity : new int[]{2, 3, 4, 8, 64}) {
+            Random random = new Random(capacity);
+            MyUnrolledLinkedList<Integer> list = new MyUnrolledLinkedList<>(capacity);
+            List<Integer> expected = new ArrayList<>();
+            for (int step = 0; step < 20000; step++) {
+                int operation = random.nextInt(10);
+                if (operation < 3 || expected.isEmpty()) {
+                    list.add(step);
+                    expected.add(step);
+                } else if (operation < 6) {
+                    int index = random.nextInt(expected.size() + 1);
+                    list.add(index, step);
+                    expected.add(index, step);
+                } else {
+                    int index = random.nextInt(expected.size());
+                    list.remove(index);
+                    expected.remove(index);
+                }
+                if (!expected.isEmpty()) {
+                    int index = random.nextInt(expected.size());
+                    assertEquals("Элемент должен совпадать с ожидаемым.", expected.get(index), list.get(index));
+                }
+            }
+            assertEquals("Размер должен совпадать с ожидаемым.", expected.size(), list.getSize());
+            assertTrue("Содержимое должно совпадать с ожидаемым.", Arrays.equals(list.toArray(), expected.toArray()));
+        }
+    }
+
+    /**
+     * Тестирует удаление всех элементов по одному и повторное заполнение списка.
+     * Список должен оставаться пригодным к использованию.
+     */
+    @Test
+    public void testRemoveAllThenAdd() {
+        MyUnrolledLinkedList<Integer> list = new MyUnrolledLinkedList<>(4);
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        for (int i = 0; i < 100; i++) {
+            list.remove(list.getSize() / 2);
+        }
+        assertEquals("Список должен быть пустым.", 0, list.getSize());
+        list.add(0, 1);
+        list.add(2);
+        assertTrue("Список должен заполняться заново.", Arrays.equals(list.toArray(), new Integer[]{1, 2}));
+    }
+
+    /**
+     * Тестирует устойчивую сортировку с компаратором и сортировку в естественном порядке.
+     * Результат должен совпадать с результатом стандартной сортировки.
+     */
+    @Test
+    public void testSort() {
+        MyUnrolledLinkedList<String> list = new MyUnrolledLinkedList<>(8);
+        String[] data = new String[10000];
+        Random random = new Random(3);
+        for (int i = 0; i < data.length; i++) {
+            data[i] = random.nextInt(100) + "-" + i;
+            list.add(i / 2, data[i]);
+        }
+        Object[] inserted = list.toArray();
+        Comparator<String> byPrefix = Comparator.comparing(s -> s.substring(0, s.indexOf('-')));
+        list.sort(byPrefix);
+        Arrays.sort(inserted, (a, b) -> byPrefix.compare((String) a, (String) b));
+        assertTrue("Сортировка с компаратором должна быть устойчивой.", Arrays.equals(list.toArray(), inserted));
+
+        list.sort();
+        Arrays.sort(data);
+        assertTrue("Список должен быть отсортирован.", Arrays.equals(list.toArray(), data));
+    }
+
+    /**
+     * Тестирует итератор и поток элементов.
+     * Обход должен вернуть все элементы в порядке следования.
+     */
+    @Test
+    public void testIteratorAndStream() {
+        MyUnrolledLinkedList<Integer> list = new MyUnrolledLinkedList<>(3);
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        int expected = 0;
+        Iterator<Integer> iterator = list.iterator();
+        while (iterator.hasNext()) {
+            assertEquals("Итератор должен возвращать элементы по порядку.", (Integer) expected++, iterator.next());
+        }
+        assertEquals("Итератор должен обойти все элементы.", 100, expected);
+        assertEquals("Поток должен содержать все элементы.", 4950, list.stream().mapToInt(Integer::intValue).sum());
+    }
+}
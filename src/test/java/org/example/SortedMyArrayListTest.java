@@ -0,0 +1,112 @@
+package org.example;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertTrue;
+
+/**
+ * Класс для тестирования упорядоченного списка {@link SortedMyArrayList}.
+ * Проверяет упорядоченную вставку и запросы, выполняемые двоичным поиском.
+ */
+public class SortedMyArrayListTest {
+    /**
+     * Тестирует вставку элементов в случайном порядке вперемешку с удалениями.
+     * Список должен оставаться упорядоченным и совпадать с отсортированным {@link ArrayList}.
+     */
+    @Test
+    public void testAddKeepsOrder() {
+        Random random = new Random(19);
+        SortedMyArrayList<Integer> list = new SortedMyArrayList<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int step = 0; step < 5000; step++) {
+            if (random.nextInt(4) == 0 && !expected.isEmpty()) {
+                Integer value = expected.get(random.nextInt(expected.size()));
+                assertTrue("Существующий элемент должен удаляться.", list.remove(value));
+                expected.remove(value);
+            } else {
+                int value = random.nextInt(1000);
+                int index = list.add(value);
+                assertEquals("Возвращенный индекс должен указывать на добавленный элемент.", (Integer) value,
+                        list.get(index));
+                expected.add(value);
+            }
+        }
+        Collections.sort(expected);
+        assertTrue("Элементы должны быть упорядочены.", Arrays.equals(list.toArray(), expected.toArray()));
+        assertTrue("Отсутствующий элемент не должен удаляться.", !list.remove(Integer.valueOf(1000)));
+    }
+
+    /**
+     * Тестирует массовое добавление: новые элементы должны встать на свои места среди уже имеющихся.
+     */
+    @Test
+    public void testAddAll() {
+        SortedMyArrayList<Integer> list = new SortedMyArrayList<>();
+        list.addAll(new Integer[]{5, 1, 9});
+        list.add(3);
+        list.addAll(new Integer[]{8, 0, 4});
+        assertTrue("Элементы должны быть упорядочены.",
+                Arrays.equals(list.toArray(), new Object[]{0, 1, 3, 4, 5, 8, 9}));
+    }
+
+    /**
+     * Тестирует двоичный поиск и поиск первого вхождения среди повторяющихся элементов.
+     */
+    @Test
+    public void testSearch() {
+        SortedMyArrayList<Integer> list = new SortedMyArrayList<>();
+        list.addAll(new Integer[]{10, 20, 20, 20, 30});
+
+        assertEquals("Первое вхождение повторяющегося элемента.", 1, list.indexOf(20));
+        assertEquals("Отсутствующий элемент не должен находиться.", -1, list.indexOf(25));
+        assertTrue("Двоичный поиск должен найти один из равных элементов.", list.get(list.binarySearch(20)) == 20);
+        assertEquals("Двоичный поиск должен вернуть точку вставки для отсутствующего элемента.", -5,
+                list.binarySearch(25));
+        assertEquals("Точка вставки элемента больше всех - размер списка.", -6, list.binarySearch(99));
+        assertTrue("Список должен содержать добавленный элемент.", list.contains(30));
+    }
+
+    /**
+     * Тестирует поиск ближайших к ключу элементов и подсчет элементов в диапазоне.
+     */
+    @Test
+    public void testFloorCeilingAndCount() {
+        SortedMyArrayList<Integer> list = new SortedMyArrayList<>();
+        list.addAll(new Integer[]{10, 20, 20, 30});
+
+        assertEquals("Наибольший элемент не больше ключа.", (Integer) 20, list.floor(25));
+        assertEquals("Элемент, равный ключу, подходит для floor.", (Integer) 10, list.floor(10));
+        assertNull("Для ключа меньше всех элементов floor не определен.", list.floor(5));
+        assertEquals("Наименьший элемент не меньше ключа.", (Integer) 30, list.ceiling(21));
+        assertNull("Для ключа больше всех элементов ceiling не определен.", list.ceiling(31));
+
+        assertEquals("Диапазон [20, 30) содержит два элемента.", 2, list.count(20, 30));
+        assertEquals("Диапазон [0, 100) содержит все элементы.", 4, list.count(0, 100));
+        assertEquals("Пустой диапазон не содержит элементов.", 0, list.count(30, 10));
+    }
+
+    /**
+     * Тестирует список с пользовательским компаратором: равные элементы должны сохранять порядок добавления.
+     */
+    @Test
+    public void testComparatorAndStability() {
+        SortedMyArrayList<String> list = new SortedMyArrayList<>(Comparator.comparingInt(String::length));
+        list.add("ccc");
+        list.add("a");
+        list.add("bb");
+        list.add("b");
+        list.add("dd");
+        assertTrue("Элементы должны быть упорядочены по длине с сохранением порядка добавления.",
+                Arrays.equals(list.toArray(), new Object[]{"a", "b", "bb", "dd", "ccc"}));
+        assertEquals("Поиск выполняется по компаратору списка.", 2, list.indexOf("xx"));
+    }
+}
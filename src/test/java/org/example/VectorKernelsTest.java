@@ -0,0 +1,89 @@
+package org.example;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Класс для тестирования векторных ядер {@code VectorKernels} против скалярных циклов {@link ScalarKernels}.
+ * Векторные ядра берутся из {@link VectorSupport#KERNELS}, поэтому тесты выполняются, только если проект
+ * собран и запущен в профиле Maven {@code vector}: {@code mvn -Pvector test}.
+ */
+public class VectorKernelsTest {
+    private final PrimitiveKernels kernels = VectorSupport.KERNELS;
+
+    @Before
+    public void requireVectorSupport() {
+        assumeTrue(VectorSupport.ENABLED);
+    }
+
+    /**
+     * Тестирует все ядра на массивах любой длины от 0 до 100 и на длинном массиве: остаток, не кратный
+     * ширине вектора, должен обрабатываться так же, как полные векторы.
+     * Результаты должны совпадать со скалярными.
+     */
+    @Test
+    public void testKernelsMatchScalarLoops() {
+        Random random = new Random(25);
+        for (int n = 0; n <= 101; n++) {
+            int length = n <= 100 ? n : 100003;
+            int[] ints = new int[length];
+            long[] longs = new long[length];
+            double[] doubles = new double[length];
+            for (int i = 0; i < length; i++) {
+                ints[i] = random.nextInt(200) - 100;
+                longs[i] = ints[i] * 1000000007L;
+                doubles[i] = i % 37 == 0 ? -0.0 : ints[i] / 4.0;
+            }
+            int value = length == 0 ? 0 : ints[random.nextInt(length)];
+
+            assertEquals("Суммы int должны совпадать.",
+                    ScalarKernels.sum(ints, 0, length), kernels.sum(ints, length));
+            assertEquals("Суммы long должны совпадать.",
+                    ScalarKernels.sum(longs, 0, length), kernels.sum(longs, length));
+            assertEquals("Суммы double должны совпадать.", ScalarKernels.sum(doubles, 0, length),
+                    kernels.sum(doubles, length), 1e-9);
+            assertEquals("Минимумы int должны совпадать.",
+                    ScalarKernels.min(ints, 0, length), kernels.min(ints, length));
+            assertEquals("Максимумы long должны совпадать.",
+                    ScalarKernels.max(longs, 0, length), kernels.max(longs, length));
+            assertEquals("Минимумы double должны совпадать с учетом знака нуля.",
+                    Double.doubleToLongBits(ScalarKernels.min(doubles, 0, length)),
+                    Double.doubleToLongBits(kernels.min(doubles, length)));
+            assertEquals("Индексы int должны совпадать.", ScalarKernels.indexOf(ints, 0, length, value),
+                    kernels.indexOf(ints, length, value));
+            assertEquals("Индексы double должны совпадать.", ScalarKernels.indexOf(doubles, 0, length, 0.0),
+                    kernels.indexOf(doubles, length, 0.0));
+            assertEquals("Подсчеты long должны совпадать.", ScalarKernels.count(longs, 0, length, 0, 50000000000L),
+                    kernels.count(longs, length, 0, 50000000000L));
+
+            int[] expected = new int[length];
+            int[] actual = new int[length];
+            int count = ScalarKernels.filter(ints, 0, length, -10, 10, expected, 0);
+            assertEquals("Количество отобранных значений должно совпадать.", count,
+                    kernels.filter(ints, length, -10, 10, actual, 0));
+            assertTrue("Отобранные значения должны совпадать и сохранять порядок.", Arrays.equals(expected, actual));
+        }
+    }
+
+    /**
+     * Тестирует сумму длинного массива экстремальных значений int.
+     * Сумма должна вычисляться точно, без переполнения накопителей.
+     */
+    @Test
+    public void testIntSumDoesNotOverflow() {
+        int[] data = new int[3000000];
+        Arrays.fill(data, Integer.MAX_VALUE);
+        assertEquals("Сумма максимальных значений должна быть точной.", 3000000L * Integer.MAX_VALUE,
+                kernels.sum(data, data.length));
+        Arrays.fill(data, Integer.MIN_VALUE);
+        assertEquals("Сумма минимальных значений должна быть точной.", 3000000L * Integer.MIN_VALUE,
+                kernels.sum(data, data.length));
+    }
+}
@@ -0,0 +1,290 @@
+package org.example;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Векторные реализации агрегатов и поиска по первым n элементам примитивных массивов на Vector API.
+ * Каждое ядро обрабатывает массив векторами предпочтительной для процессора ширины, а остаток, не кратный
+ * ширине вектора, - скалярным циклом. Результаты совпадают с {@link ScalarKernels}, кроме суммы значений double:
+ * слагаемые складываются в другом порядке, поэтому сумма может отличаться в последних разрядах.
+ * <p>
+ * Класс лежит в отдельном каталоге исходников src/vector/java и компилируется только в профиле Maven
+ * {@code vector}, поэтому сборка по умолчанию не требует инкубаторного модуля. {@link VectorSupport}
+ * загружает класс по имени, только если модуль {@code jdk.incubator.vector} подключен при запуске.
+ */
+final class VectorKernels implements PrimitiveKernels {
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+
+    /**
+     * Количество векторов, которое можно сложить в накопителях суммы int без переполнения:
+     * младшие 16 бит значений не превышают 65535, старшие по модулю не превышают 32768.
+     */
+    private static final int INT_SUM_BLOCK = 1 << 15;
+
+    /**
+     * Возвращает ширину предпочтительных векторов в битах.
+     */
+    @Override
+    public int vectorBits() {
+        return INTS.vectorBitSize();
+    }
+
+    /**
+     * Складывает значения int без расширения каждой полосы до long: старшие и младшие 16 бит значений
+     * накапливаются в отдельных векторах, которые не успевают переполниться за блок, и переносятся в long
+     * один раз на блок.
+     */
+    @Override
+    public long sum(int[] a, int n) {
+        long sum = 0;
+        int i = 0;
+        int bound = INTS.loopBound(n);
+        while (i < bound) {
+            int blockEnd = (int) Math.min(bound, i + (long) INT_SUM_BLOCK * INTS.length());
+            IntVector low = IntVector.zero(INTS);
+            IntVector high = IntVector.zero(INTS);
+            for (; i < blockEnd; i += INTS.length()) {
+                IntVector v = IntVector.fromArray(INTS, a, i);
+                low = low.add(v.and(0xFFFF));
+                high = high.add(v.lanewise(VectorOperators.ASHR, 16));
+            }
+            long lowSum = 0;
+            long highSum = 0;
+            for (int lane = 0; lane < INTS.length(); lane++) {
+                lowSum += low.lane(lane);
+                highSum += high.lane(lane);
+            }
+            sum += (highSum << 16) + lowSum;
+        }
+        return sum + ScalarKernels.sum(a, i, n);
+    }
+
+    @Override
+    public long sum(long[] a, int n) {
+        LongVector acc = LongVector.zero(LONGS);
+        int i = 0;
+        for (int bound = LONGS.loopBound(n); i < bound; i += LONGS.length()) {
+            acc = acc.add(LongVector.fromArray(LONGS, a, i));
+        }
+        return acc.reduceLanes(VectorOperators.ADD) + ScalarKernels.sum(a, i, n);
+    }
+
+    @Override
+    public double sum(double[] a, int n) {
+        DoubleVector acc = DoubleVector.zero(DOUBLES);
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(n); i < bound; i += DOUBLES.length()) {
+            acc = acc.add(DoubleVector.fromArray(DOUBLES, a, i));
+        }
+        return acc.reduceLanes(VectorOperators.ADD) + ScalarKernels.sum(a, i, n);
+    }
+
+    @Override
+    public int min(int[] a, int n) {
+        IntVector acc = IntVector.broadcast(INTS, Integer.MAX_VALUE);
+        int i = 0;
+        for (int bound = INTS.loopBound(n); i < bound; i += INTS.length()) {
+            acc = acc.min(IntVector.fromArray(INTS, a, i));
+        }
+        return Math.min(acc.reduceLanes(VectorOperators.MIN), ScalarKernels.min(a, i, n));
+    }
+
+    @Override
+    public long min(long[] a, int n) {
+        LongVector acc = LongVector.broadcast(LONGS, Long.MAX_VALUE);
+        int i = 0;
+        for (int bound = LONGS.loopBound(n); i < bound; i += LONGS.length()) {
+            acc = acc.min(LongVector.fromArray(LONGS, a, i));
+        }
+        return Math.min(acc.reduceLanes(VectorOperators.MIN), ScalarKernels.min(a, i, n));
+    }
+
+    @Override
+    public double min(double[] a, int n) {
+        DoubleVector acc = DoubleVector.broadcast(DOUBLES, Double.POSITIVE_INFINITY);
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(n); i < bound; i += DOUBLES.length()) {
+            acc = acc.min(DoubleVector.fromArray(DOUBLES, a, i));
+        }
+        return Math.min(acc.reduceLanes(VectorOperators.MIN), ScalarKernels.min(a, i, n));
+    }
+
+    @Override
+    public int max(int[] a, int n) {
+        IntVector acc = IntVector.broadcast(INTS, Integer.MIN_VALUE);
+        int i = 0;
+        for (int bound = INTS.loopBound(n); i < bound; i += INTS.length()) {
+            acc = acc.max(IntVector.fromArray(INTS, a, i));
+        }
+        return Math.max(acc.reduceLanes(VectorOperators.MAX), ScalarKernels.max(a, i, n));
+    }
+
+    @Override
+    public long max(long[] a, int n) {
+        LongVector acc = LongVector.broadcast(LONGS, Long.MIN_VALUE);
+        int i = 0;
+        for (int bound = LONGS.loopBound(n); i < bound; i += LONGS.length()) {
+            acc = acc.max(LongVector.fromArray(LONGS, a, i));
+        }
+        return Math.max(acc.reduceLanes(VectorOperators.MAX), ScalarKernels.max(a, i, n));
+    }
+
+    @Override
+    public double max(double[] a, int n) {
+        DoubleVector acc = DoubleVector.broadcast(DOUBLES, Double.NEGATIVE_INFINITY);
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(n); i < bound; i += DOUBLES.length()) {
+            acc = acc.max(DoubleVector.fromArray(DOUBLES, a, i));
+        }
+        return Math.max(acc.reduceLanes(VectorOperators.MAX), ScalarKernels.max(a, i, n));
+    }
+
+    @Override
+    public int indexOf(int[] a, int n, int value) {
+        int i = 0;
+        for (int bound = INTS.loopBound(n); i < bound; i += INTS.length()) {
+            VectorMask<Integer> found = IntVector.fromArray(INTS, a, i).eq(value);
+            if (found.anyTrue()) {
+                return i + found.firstTrue();
+            }
+        }
+        return ScalarKernels.indexOf(a, i, n, value);
+    }
+
+    @Override
+    public int indexOf(long[] a, int n, long value) {
+        int i = 0;
+        for (int bound = LONGS.loopBound(n); i < bound; i += LONGS.length()) {
+            VectorMask<Long> found = LongVector.fromArray(LONGS, a, i).eq(value);
+            if (found.anyTrue()) {
+                return i + found.firstTrue();
+            }
+        }
+        return ScalarKernels.indexOf(a, i, n, value);
+    }
+
+    @Override
+    public int indexOf(double[] a, int n, double value) {
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(n); i < bound; i += DOUBLES.length()) {
+            VectorMask<Double> found = DoubleVector.fromArray(DOUBLES, a, i).eq(value);
+            if (found.anyTrue()) {
+                return i + found.firstTrue();
+            }
+        }
+        return ScalarKernels.indexOf(a, i, n, value);
+    }
+
+    @Override
+    public int count(int[] a, int n, int low, int high) {
+        int count = 0;
+        int i = 0;
+        for (int bound = INTS.loopBound(n); i < bound; i += INTS.length()) {
+            IntVector v = IntVector.fromArray(INTS, a, i);
+            count += v.compare(VectorOperators.GE, low).and(v.compare(VectorOperators.LT, high)).trueCount();
+        }
+        return count + ScalarKernels.count(a, i, n, low, high);
+    }
+
+    @Override
+    public int count(long[] a, int n, long low, long high) {
+        int count = 0;
+        int i = 0;
+        for (int bound = LONGS.loopBound(n); i < bound; i += LONGS.length()) {
+            LongVector v = LongVector.fromArray(LONGS, a, i);
+            count += v.compare(VectorOperators.GE, low).and(v.compare(VectorOperators.LT, high)).trueCount();
+        }
+        return count + ScalarKernels.count(a, i, n, low, high);
+    }
+
+    @Override
+    public int count(double[] a, int n, double low, double high) {
+        int count = 0;
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(n); i < bound; i += DOUBLES.length()) {
+            DoubleVector v = DoubleVector.fromArray(DOUBLES, a, i);
+            count += v.compare(VectorOperators.GE, low).and(v.compare(VectorOperators.LT, high)).trueCount();
+        }
+        return count + ScalarKernels.count(a, i, n, low, high);
+    }
+
+    /**
+     * Копирует значения из диапазона [low, high) по порядку в массив dst, начиная с позиции offset.
+     * Подходящие полосы каждого вектора сжимаются в его начало и записываются одним сохранением;
+     * у конца массива dst сохранение маскируется, поэтому запаса емкости не требуется.
+     *
+     * @return Количество скопированных значений.
+     */
+    @Override
+    public int filter(int[] a, int n, int low, int high, int[] dst, int offset) {
+        int position = offset;
+        int i = 0;
+        for (int bound = INTS.loopBound(n); i < bound; i += INTS.length()) {
+            IntVector v = IntVector.fromArray(INTS, a, i);
+            VectorMask<Integer> match = v.compare(VectorOperators.GE, low).and(v.compare(VectorOperators.LT, high));
+            int matched = match.trueCount();
+            if (matched == 0) {
+                continue;
+            }
+            IntVector packed = v.compress(match);
+            if (position + INTS.length() <= dst.length) {
+                packed.intoArray(dst, position);
+            } else {
+                packed.intoArray(dst, position, INTS.indexInRange(0, matched));
+            }
+            position += matched;
+        }
+        return position - offset + ScalarKernels.filter(a, i, n, low, high, dst, position);
+    }
+
+    @Override
+    public int filter(long[] a, int n, long low, long high, long[] dst, int offset) {
+        int position = offset;
+        int i = 0;
+        for (int bound = LONGS.loopBound(n); i < bound; i += LONGS.length()) {
+            LongVector v = LongVector.fromArray(LONGS, a, i);
+            VectorMask<Long> match = v.compare(VectorOperators.GE, low).and(v.compare(VectorOperators.LT, high));
+            int matched = match.trueCount();
+            if (matched == 0) {
+                continue;
+            }
+            LongVector packed = v.compress(match);
+            if (position + LONGS.length() <= dst.length) {
+                packed.intoArray(dst, position);
+            } else {
+                packed.intoArray(dst, position, LONGS.indexInRange(0, matched));
+            }
+            position += matched;
+        }
+        return position - offset + ScalarKernels.filter(a, i, n, low, high, dst, position);
+    }
+
+    @Override
+    public int filter(double[] a, int n, double low, double high, double[] dst, int offset) {
+        int position = offset;
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(n); i < bound; i += DOUBLES.length()) {
+            DoubleVector v = DoubleVector.fromArray(DOUBLES, a, i);
+            VectorMask<Double> match = v.compare(VectorOperators.GE, low).and(v.compare(VectorOperators.LT, high));
+            int matched = match.trueCount();
+            if (matched == 0) {
+                continue;
+            }
+            DoubleVector packed = v.compress(match);
+            if (position + DOUBLES.length() <= dst.length) {
+                packed.intoArray(dst, position);
+            } else {
+                packed.intoArray(dst, position, DOUBLES.indexInRange(0, matched));
+            }
+            position += matched;
+        }
+        return position - offset + ScalarKernels.filter(a, i, n, low, high, dst, position);
+    }
+}